@@ -0,0 +1,20 @@
+package com.rickandmorty.api.codegen;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marca un modelo para el que {@link JsonCodecProcessor} genera, al compilar, un deserializador que lee
+ * los campos directamente del parser en streaming de Jackson, sin reflexión.
+ *
+ * <p>El modelo necesita un constructor sin argumentos y setters al estilo de Lombok ({@code @Data}).
+ * Cada campo no estático se lee con su propio nombre como clave JSON; las claves desconocidas se
+ * ignoran. Se admiten {@code int}, {@code long}, {@code double}, {@code boolean} y sus envoltorios,
+ * {@code String}, {@code String[]} y otros modelos anotados.</p>
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface JsonCodec {
+}
@@ -0,0 +1,377 @@
+package com.rickandmorty.api.codegen;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Genera un deserializador de Jackson por cada clase anotada con {@link JsonCodec}.
+ *
+ * <p>Para {@code models.Character} genera {@code models.CharacterCodec} (y para la clase anidada
+ * {@code Character.Origin}, {@code CharacterOriginCodec}): un {@code StdDeserializer} que recorre los
+ * tokens del objeto con un {@code switch} sobre el nombre de la clave y llama al setter del campo. Por
+ * cada paquete genera además {@code GeneratedCodecs.module()}, un módulo de Jackson que registra todos
+ * los códecs del paquete en un {@code ObjectMapper}.</p>
+ *
+ * <p>Lombok añade los setters en la misma compilación, así que el procesador no los busca: los deduce
+ * del nombre del campo y es el compilador quien comprueba que existen al compilar el código generado.</p>
+ */
+@SupportedAnnotationTypes("com.rickandmorty.api.codegen.JsonCodec")
+public final class JsonCodecProcessor extends AbstractProcessor {
+    private static final String GENERATED = "@javax.annotation.processing.Generated(\""
+            + JsonCodecProcessor.class.getName() + "\")";
+
+    // Paquetes cuyo registro ya se escribió; un paquete no puede recibir códecs en dos rondas
+    private final Set<String> registeredPackages = new HashSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        Map<String, List<TypeElement>> byPackage = new LinkedHashMap<>();
+        for (Element element : roundEnv.getElementsAnnotatedWith(JsonCodec.class)) {
+            if (element.getKind() != ElementKind.CLASS || element.getModifiers().contains(Modifier.ABSTRACT)) {
+                error(element, "@JsonCodec solo se admite en clases concretas");
+                continue;
+            }
+            TypeElement type = (TypeElement) element;
+            if (!hasNoArgConstructor(type)) {
+                error(type, "@JsonCodec necesita un constructor sin argumentos");
+                continue;
+            }
+            if (writeCodec(type)) {
+                byPackage.computeIfAbsent(packageOf(type), name -> new ArrayList<>()).add(type);
+            }
+        }
+        byPackage.forEach(this::writeRegistry);
+        return true;
+    }
+
+    private boolean writeCodec(TypeElement type) {
+        String packageName = packageOf(type);
+        String codecName = codecName(type);
+        String model = type.getQualifiedName().toString();
+
+        StringBuilder cases = new StringBuilder();
+        Set<Reader> readers = EnumSet.noneOf(Reader.class);
+        boolean valid = true;
+        for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            Set<Modifier> modifiers = field.getModifiers();
+            if (modifiers.contains(Modifier.STATIC) || modifiers.contains(Modifier.TRANSIENT)) {
+                continue;
+            }
+            String value = readExpression(field.asType(), readers);
+            if (value == null) {
+                error(field, "Tipo no admitido por @JsonCodec: " + field.asType());
+                valid = false;
+                continue;
+            }
+            String name = field.getSimpleName().toString();
+            cases.append("                case \"").append(name).append("\" -> target.").append(setterOf(field))
+                    .append('(').append(value).append(");\n");
+        }
+        if (!valid) {
+            return false;
+        }
+
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("import com.fasterxml.jackson.core.JsonParseException;\n")
+                .append("import com.fasterxml.jackson.core.JsonParser;\n")
+                .append("import com.fasterxml.jackson.core.JsonToken;\n")
+                .append("import com.fasterxml.jackson.databind.DeserializationContext;\n")
+                .append("import com.fasterxml.jackson.databind.deser.std.StdDeserializer;\n\n")
+                .append("import java.io.IOException;\n\n")
+                .append("/** Deserializador de {@link ").append(model).append("} generado por @JsonCodec. */\n")
+                .append(GENERATED).append('\n')
+                .append("public final class ").append(codecName).append(" extends StdDeserializer<").append(model).append("> {\n")
+                .append("    public static final ").append(codecName).append(" INSTANCE = new ").append(codecName).append("();\n\n")
+                .append("    private ").append(codecName).append("() {\n")
+                .append("        super(").append(model).append(".class);\n")
+                .append("    }\n\n")
+                .append("    @Override\n")
+                .append("    public ").append(model).append(" deserialize(JsonParser parser, DeserializationContext context) throws IOException {\n")
+                .append("        return read(parser);\n")
+                .append("    }\n\n")
+                .append("    // Empieza en START_OBJECT (o en la primera clave) y termina en su END_OBJECT\n")
+                .append("    public static ").append(model).append(" read(JsonParser parser) throws IOException {\n")
+                .append("        JsonToken token = parser.currentToken();\n")
+                .append("        if (token == JsonToken.VALUE_NULL) {\n")
+                .append("            return null;\n")
+                .append("        }\n")
+                .append("        if (token == JsonToken.START_OBJECT) {\n")
+                .append("            token = parser.nextToken();\n")
+                .append("        } else if (token != JsonToken.FIELD_NAME && token != JsonToken.END_OBJECT) {\n")
+                .append("            throw new JsonParseException(parser, \"Se esperaba un objeto ").append(type.getSimpleName())
+                .append(" y llegó \" + token);\n")
+                .append("        }\n")
+                .append("        ").append(model).append(" target = new ").append(model).append("();\n")
+                .append("        for (; token == JsonToken.FIELD_NAME; token = parser.nextToken()) {\n")
+                .append("            String field = parser.getCurrentName();\n")
+                .append("            token = parser.nextToken();\n")
+                .append("            switch (field) {\n")
+                .append(cases)
+                .append("                default -> parser.skipChildren();\n")
+                .append("            }\n")
+                .append("        }\n")
+                .append("        return target;\n")
+                .append("    }\n");
+        for (Reader reader : readers) {
+            source.append('\n').append(reader.source);
+        }
+        source.append("}\n");
+
+        write(qualified(packageName, codecName), type, source);
+        return true;
+    }
+
+    private void writeRegistry(String packageName, List<TypeElement> types) {
+        if (!registeredPackages.add(packageName)) {
+            error(types.get(0), "Los modelos @JsonCodec de " + packageName + " deben compilarse en la misma ronda");
+            return;
+        }
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("import com.fasterxml.jackson.databind.module.SimpleModule;\n\n")
+                .append("/** Registra en un ObjectMapper los deserializadores generados por @JsonCodec en este paquete. */\n")
+                .append(GENERATED).append('\n')
+                .append("public final class GeneratedCodecs {\n")
+                .append("    private GeneratedCodecs() {\n")
+                .append("    }\n\n")
+                .append("    public static SimpleModule module() {\n")
+                .append("        SimpleModule module = new SimpleModule(\"GeneratedCodecs\");\n");
+        for (TypeElement type : types) {
+            source.append("        module.addDeserializer(").append(type.getQualifiedName()).append(".class, ")
+                    .append(codecName(type)).append(".INSTANCE);\n");
+        }
+        source.append("        return module;\n")
+                .append("    }\n")
+                .append("}\n");
+        write(qualified(packageName, "GeneratedCodecs"), types.get(0), source);
+    }
+
+    // Expresión que lee el valor actual del parser (el token ya está en la variable token)
+    private String readExpression(TypeMirror type, Set<Reader> readers) {
+        Reader reader = switch (type.getKind()) {
+            case INT -> Reader.INT;
+            case LONG -> Reader.LONG;
+            case DOUBLE -> Reader.DOUBLE;
+            case BOOLEAN -> Reader.BOOLEAN;
+            case ARRAY -> isString(((ArrayType) type).getComponentType()) ? Reader.STRING_ARRAY : null;
+            case DECLARED -> switch (qualifiedName(type)) {
+                case "java.lang.String" -> Reader.STRING;
+                case "java.lang.Integer" -> Reader.BOXED_INT;
+                case "java.lang.Long" -> Reader.BOXED_LONG;
+                case "java.lang.Double" -> Reader.BOXED_DOUBLE;
+                case "java.lang.Boolean" -> Reader.BOXED_BOOLEAN;
+                default -> null;
+            };
+            default -> null;
+        };
+        if (reader != null) {
+            for (Reader required = reader; required != null; required = required.requires) {
+                readers.add(required);
+            }
+            return reader.method + "(parser, token)";
+        }
+        if (type.getKind() == TypeKind.DECLARED) {
+            TypeElement nested = (TypeElement) ((DeclaredType) type).asElement();
+            if (nested.getAnnotation(JsonCodec.class) != null) {
+                return qualified(packageOf(nested), codecName(nested)) + ".read(parser)";
+            }
+        }
+        return null;
+    }
+
+    private void write(String className, TypeElement origin, CharSequence source) {
+        try (Writer writer = processingEnv.getFiler().createSourceFile(className, origin).openWriter()) {
+            writer.write(source.toString());
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo escribir " + className, e);
+        }
+    }
+
+    // Character.Origin -> CharacterOriginCodec
+    private static String codecName(TypeElement type) {
+        StringBuilder name = new StringBuilder("Codec");
+        Element current = type;
+        while (current instanceof TypeElement) {
+            name.insert(0, current.getSimpleName());
+            current = current.getEnclosingElement();
+        }
+        return name.toString();
+    }
+
+    // Convención de Lombok: setAir_date para air_date; setActive para un boolean isActive
+    private static String setterOf(VariableElement field) {
+        String name = field.getSimpleName().toString();
+        if (field.asType().getKind() == TypeKind.BOOLEAN
+                && name.length() > 2 && name.startsWith("is") && Character.isUpperCase(name.charAt(2))) {
+            name = name.substring(2);
+        }
+        return "set" + Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+
+    private static boolean hasNoArgConstructor(TypeElement type) {
+        if (type.getNestingKind().isNested() && !type.getModifiers().contains(Modifier.STATIC)) {
+            return false;
+        }
+        for (ExecutableElement constructor : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+            if (constructor.getParameters().isEmpty() && !constructor.getModifiers().contains(Modifier.PRIVATE)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String packageOf(TypeElement type) {
+        return processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+    }
+
+    private static boolean isString(TypeMirror type) {
+        return type.getKind() == TypeKind.DECLARED && qualifiedName(type).equals("java.lang.String");
+    }
+
+    private static String qualifiedName(TypeMirror type) {
+        return ((TypeElement) ((DeclaredType) type).asElement()).getQualifiedName().toString();
+    }
+
+    private static String qualified(String packageName, String simpleName) {
+        return packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+    }
+
+    private void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+    // Métodos auxiliares que se copian en cada códec que los necesita; los escalares siguen a Jackson
+    // (un número o un booleano leído como texto), pero un objeto o arreglo donde no toca es un error
+    private enum Reader {
+        REQUIRE_SCALAR("requireScalar", null, """
+                    private static void requireScalar(JsonParser parser, JsonToken token) throws IOException {
+                        if (!token.isScalarValue()) {
+                            throw new JsonParseException(parser, "Se esperaba un valor simple y llegó " + token);
+                        }
+                    }
+                """),
+        STRING("readString", REQUIRE_SCALAR, """
+                    private static String readString(JsonParser parser, JsonToken token) throws IOException {
+                        if (token == JsonToken.VALUE_NULL) {
+                            return null;
+                        }
+                        requireScalar(parser, token);
+                        return parser.getText();
+                    }
+                """),
+        // Los elementos se acumulan en un búfer por hilo que se reutiliza: solo se asigna el arreglo final
+        STRING_ARRAY("readStringArray", STRING, """
+                    private static final ThreadLocal<String[]> STRING_BUFFER = ThreadLocal.withInitial(() -> new String[64]);
+
+                    private static String[] readStringArray(JsonParser parser, JsonToken token) throws IOException {
+                        if (token == JsonToken.VALUE_NULL) {
+                            return null;
+                        }
+                        if (token != JsonToken.START_ARRAY) {
+                            throw new JsonParseException(parser, "Se esperaba un arreglo y llegó " + token);
+                        }
+                        String[] buffer = STRING_BUFFER.get();
+                        int size = 0;
+                        for (JsonToken item = parser.nextToken(); item != JsonToken.END_ARRAY; item = parser.nextToken()) {
+                            if (size == buffer.length) {
+                                buffer = java.util.Arrays.copyOf(buffer, size * 2);
+                                STRING_BUFFER.set(buffer);
+                            }
+                            buffer[size++] = readString(parser, item);
+                        }
+                        String[] values = java.util.Arrays.copyOf(buffer, size);
+                        java.util.Arrays.fill(buffer, 0, size, null);
+                        return values;
+                    }
+                """),
+        INT("readInt", REQUIRE_SCALAR, """
+                    private static int readInt(JsonParser parser, JsonToken token) throws IOException {
+                        requireScalar(parser, token);
+                        return parser.getValueAsInt();
+                    }
+                """),
+        LONG("readLong", REQUIRE_SCALAR, """
+                    private static long readLong(JsonParser parser, JsonToken token) throws IOException {
+                        requireScalar(parser, token);
+                        return parser.getValueAsLong();
+                    }
+                """),
+        DOUBLE("readDouble", REQUIRE_SCALAR, """
+                    private static double readDouble(JsonParser parser, JsonToken token) throws IOException {
+                        requireScalar(parser, token);
+                        return parser.getValueAsDouble();
+                    }
+                """),
+        BOOLEAN("readBoolean", REQUIRE_SCALAR, """
+                    private static boolean readBoolean(JsonParser parser, JsonToken token) throws IOException {
+                        requireScalar(parser, token);
+                        return parser.getValueAsBoolean();
+                    }
+                """),
+        BOXED_INT("readInteger", INT, """
+                    private static Integer readInteger(JsonParser parser, JsonToken token) throws IOException {
+                        return token == JsonToken.VALUE_NULL ? null : readInt(parser, token);
+                    }
+                """),
+        BOXED_LONG("readBoxedLong", LONG, """
+                    private static Long readBoxedLong(JsonParser parser, JsonToken token) throws IOException {
+                        return token == JsonToken.VALUE_NULL ? null : readLong(parser, token);
+                    }
+                """),
+        BOXED_DOUBLE("readBoxedDouble", DOUBLE, """
+                    private static Double readBoxedDouble(JsonParser parser, JsonToken token) throws IOException {
+                        return token == JsonToken.VALUE_NULL ? null : readDouble(parser, token);
+                    }
+                """),
+        BOXED_BOOLEAN("readBoxedBoolean", BOOLEAN, """
+                    private static Boolean readBoxedBoolean(JsonParser parser, JsonToken token) throws IOException {
+                        return token == JsonToken.VALUE_NULL ? null : readBoolean(parser, token);
+                    }
+                """);
+
+        private final String method;
+        // Auxiliar del que depende este, que también debe copiarse
+        private final Reader requires;
+        private final String source;
+
+        Reader(String method, Reader requires, String source) {
+            this.method = method;
+            this.requires = requires;
+            this.source = source;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.rickandmorty.api.benchmarks;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rickandmorty.api.models.ModelMapper;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.response.Response;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Deserialización de respuestas en los modelos Lombok.
+ *
+ * <p>{@code restAssured*} recorre el camino de {@code response.as(...)} y
+ * {@code jsonPath().getList(...)}; {@code jackson} mide el ObjectMapper con deserialización por
+ * reflexión y {@code generated} las mismas operaciones con los códecs de {@code @JsonCodec}
+ * ({@link ModelMapper}). Con {@code -prof gc} se compara además la asignación por operación.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DeserializationBenchmark {
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    private static final ObjectMapper GENERATED = ModelMapper.create();
+
+    @Param({"CHARACTER", "LOCATION", "EPISODE"})
+    private Payloads.Resource resource;
+
+    @Param({"SINGLE", "PAGE", "ALL"})
+    private Payloads.Shape shape;
+
+    private byte[] body;
+
+    @Setup
+    public void setUp() {
+        body = Payloads.bytes(resource, shape);
+    }
+
+    @Benchmark
+    public Object jackson() throws IOException {
+        return switch (shape) {
+            case SINGLE -> MAPPER.readValue(body, resource.model);
+            case PAGE -> MAPPER.convertValue(MAPPER.readTree(body).get("results"), resource.arrayModel);
+            case ALL -> MAPPER.readValue(body, resource.arrayModel);
+        };
+    }
+
+    @Benchmark
+    public Object generated() throws IOException {
+        return switch (shape) {
+            case SINGLE -> GENERATED.readValue(body, resource.model);
+            case PAGE -> GENERATED.convertValue(GENERATED.readTree(body).get("results"), resource.arrayModel);
+            case ALL -> GENERATED.readValue(body, resource.arrayModel);
+        };
+    }
+
+    @Benchmark
+    public Object restAssured() {
+        Response response = new ResponseBuilder()
+                .setStatusCode(200)
+                .setContentType("application/json")
+                .setBody(body)
+                .build();
+        return switch (shape) {
+            case SINGLE -> response.as(resource.model);
+            case PAGE -> response.jsonPath().getList("results", resource.model);
+            case ALL -> response.as(resource.arrayModel);
+        };
+    }
+
+    // Solo los IDs, como hacen las pruebas de orden del catálogo
+    @Benchmark
+    public Object restAssuredIds() {
+        Response response = new ResponseBuilder()
+                .setStatusCode(200)
+                .setContentType("application/json")
+                .setBody(body)
+                .build();
+        return switch (shape) {
+            case SINGLE -> response.jsonPath().getInt("id");
+            case PAGE -> response.jsonPath().getList("results.id", Integer.class);
+            case ALL -> response.jsonPath().getList("id", Integer.class);
+        };
+    }
+}
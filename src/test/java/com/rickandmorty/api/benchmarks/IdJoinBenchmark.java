@@ -0,0 +1,51 @@
+package com.rickandmorty.api.benchmarks;
+
+import com.rickandmorty.api.pages.BasePage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+// Construcción del parámetro de IDs de getMultiple*: la reducción original frente a BasePage.joinIds
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IdJoinBenchmark {
+
+    @Param({"3", "20", "826"})
+    private int size;
+
+    private List<Integer> ids;
+
+    @Setup
+    public void setUp() {
+        ids = IntStream.rangeClosed(1, size).boxed().toList();
+    }
+
+    @Benchmark
+    public String reduce() {
+        return ids.stream()
+                .map(String::valueOf)
+                .reduce((a, b) -> a + "," + b)
+                .orElse("");
+    }
+
+    @Benchmark
+    public String joinIds() {
+        return BasePage.joinIds(ids);
+    }
+}
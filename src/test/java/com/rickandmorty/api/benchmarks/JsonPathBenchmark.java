@@ -0,0 +1,69 @@
+package com.rickandmorty.api.benchmarks;
+
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.path.json.JsonPath;
+import io.restassured.response.Response;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasItem;
+
+// Aserciones body(...) de RestAssured sobre personajes, tal como las escriben las pruebas
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonPathBenchmark {
+
+    @Param({"SINGLE", "PAGE", "ALL"})
+    private Payloads.Shape shape;
+
+    private byte[] body;
+    private String path;
+    private JsonPath jsonPath;
+
+    @Setup
+    public void setUp() {
+        body = Payloads.bytes(Payloads.Resource.CHARACTER, shape);
+        path = switch (shape) {
+            case SINGLE -> "name";
+            case PAGE -> "results.name";
+            case ALL -> "name";
+        };
+        jsonPath = new JsonPath(new String(body, StandardCharsets.UTF_8));
+    }
+
+    // Una aserción completa: construir la respuesta, parsear el cuerpo y evaluar la expresión
+    @Benchmark
+    public Object validatableBody() {
+        Response response = new ResponseBuilder()
+                .setStatusCode(200)
+                .setContentType("application/json")
+                .setBody(body)
+                .build();
+        return shape == Payloads.Shape.SINGLE
+                ? response.then().body(path, equalTo("Rick Sanchez"))
+                : response.then().body(path, hasItem("Rick Sanchez"));
+    }
+
+    // Solo la evaluación de la expresión GPath sobre un JsonPath ya construido
+    @Benchmark
+    public Object jsonPathGet() {
+        return jsonPath.get(path);
+    }
+}
@@ -0,0 +1,89 @@
+package com.rickandmorty.api.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.rickandmorty.api.models.Character;
+import com.rickandmorty.api.models.Episode;
+import com.rickandmorty.api.models.Location;
+import com.rickandmorty.api.schemas.SchemaRegistry;
+import com.rickandmorty.api.stub.FixtureCatalog;
+
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Respuestas de ejemplo para los benchmarks, generadas a partir de los fixtures del servidor local
+ * (sin red) con los mismos tamaños que devuelve la API: una entidad, una página de 20 resultados y
+ * la consulta múltiple de todo el recurso (826 personajes, 126 ubicaciones o 51 episodios).
+ */
+public final class Payloads {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final FixtureCatalog CATALOG = FixtureCatalog.load();
+    private static final int PAGE_SIZE = 20;
+
+    public enum Resource {
+        CHARACTER(Character.class, Character[].class, SchemaRegistry.CHARACTER),
+        LOCATION(Location.class, Location[].class, SchemaRegistry.LOCATION),
+        EPISODE(Episode.class, Episode[].class, SchemaRegistry.EPISODE);
+
+        final Class<?> model;
+        final Class<?> arrayModel;
+        final String schema;
+
+        Resource(Class<?> model, Class<?> arrayModel, String schema) {
+            this.model = model;
+            this.arrayModel = arrayModel;
+            this.schema = schema;
+        }
+
+        List<ObjectNode> entities() {
+            return switch (this) {
+                case CHARACTER -> CATALOG.getCharacters();
+                case LOCATION -> CATALOG.getLocations();
+                case EPISODE -> CATALOG.getEpisodes();
+            };
+        }
+    }
+
+    public enum Shape {
+        SINGLE, PAGE, ALL
+    }
+
+    private Payloads() {
+    }
+
+    static String json(Resource resource, Shape shape) {
+        List<ObjectNode> entities = resource.entities();
+        try {
+            return switch (shape) {
+                case SINGLE -> MAPPER.writeValueAsString(entities.get(0));
+                case PAGE -> MAPPER.writeValueAsString(page(resource, entities));
+                case ALL -> MAPPER.writeValueAsString(entities);
+            };
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static byte[] bytes(Resource resource, Shape shape) {
+        return json(resource, shape).getBytes(StandardCharsets.UTF_8);
+    }
+
+    // Primera página con el mismo bloque info que la API
+    private static ObjectNode page(Resource resource, List<ObjectNode> entities) {
+        ObjectNode page = MAPPER.createObjectNode();
+        ObjectNode info = page.putObject("info");
+        String name = resource.name().toLowerCase(Locale.ROOT);
+        info.put("count", entities.size());
+        info.put("pages", (entities.size() + PAGE_SIZE - 1) / PAGE_SIZE);
+        info.put("next", "https://rickandmortyapi.com/api/" + name + "?page=2");
+        info.putNull("prev");
+        ArrayNode results = page.putArray("results");
+        entities.subList(0, PAGE_SIZE).forEach(results::add);
+        return page;
+    }
+}
@@ -0,0 +1,95 @@
+package com.rickandmorty.api.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rickandmorty.api.schemas.SchemaRegistry;
+import org.hamcrest.Matcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static io.restassured.module.jsv.JsonSchemaValidator.matchesJsonSchemaInClasspath;
+
+/**
+ * Validación contra los esquemas JSON de cada entidad de la respuesta (1, 20 o el recurso completo).
+ *
+ * <p>Compara el matcher precompilado de {@link SchemaRegistry} con {@code matchesJsonSchemaInClasspath},
+ * que vuelve a leer y compilar el esquema en cada aserción, y mide por separado la validación de un
+ * árbol ya parseado.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SchemaValidationBenchmark {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @Param({"CHARACTER", "LOCATION", "EPISODE"})
+    private Payloads.Resource resource;
+
+    @Param({"SINGLE", "PAGE", "ALL"})
+    private Payloads.Shape shape;
+
+    private List<String> entities;
+    private List<JsonNode> trees;
+    private Matcher<String> registryMatcher;
+
+    @Setup
+    public void setUp() throws IOException {
+        JsonNode body = MAPPER.readTree(Payloads.json(resource, shape));
+        JsonNode items = shape == Payloads.Shape.PAGE ? body.get("results") : body;
+        trees = new ArrayList<>();
+        if (items.isArray()) {
+            items.forEach(trees::add);
+        } else {
+            trees.add(items);
+        }
+        entities = new ArrayList<>(trees.size());
+        for (JsonNode tree : trees) {
+            entities.add(MAPPER.writeValueAsString(tree));
+        }
+        registryMatcher = SchemaRegistry.matchesSchema(resource.schema);
+    }
+
+    @Benchmark
+    public boolean registryMatcher() {
+        boolean valid = true;
+        for (String entity : entities) {
+            valid &= registryMatcher.matches(entity);
+        }
+        return valid;
+    }
+
+    @Benchmark
+    public boolean classpathMatcher() {
+        boolean valid = true;
+        for (String entity : entities) {
+            valid &= matchesJsonSchemaInClasspath(resource.schema).matches(entity);
+        }
+        return valid;
+    }
+
+    @Benchmark
+    public boolean validateTree() {
+        boolean valid = true;
+        for (JsonNode tree : trees) {
+            valid &= SchemaRegistry.isValid(resource.schema, tree);
+        }
+        return valid;
+    }
+}
@@ -0,0 +1,114 @@
+package com.rickandmorty.api.catalog;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * Lista de adyacencia en formato CSR: los vecinos del nodo {@code n} ocupan
+ * {@code targets[offsets[n] .. offsets[n + 1])}, ordenados de menor a mayor. Los nodos son IDs de
+ * la API (desde 1); un ID fuera de rango simplemente no tiene vecinos.
+ */
+public final class Adjacency {
+    private final int[] offsets;
+    private final int[] targets;
+
+    private Adjacency(int[] offsets, int[] targets) {
+        this.offsets = offsets;
+        this.targets = targets;
+    }
+
+    public int degree(int node) {
+        return contains(node) ? offsets[node + 1] - offsets[node] : 0;
+    }
+
+    public int[] neighbours(int node) {
+        return contains(node) ? Arrays.copyOfRange(targets, offsets[node], offsets[node + 1]) : new int[0];
+    }
+
+    public void forEach(int node, IntConsumer action) {
+        if (!contains(node)) {
+            return;
+        }
+        for (int i = offsets[node]; i < offsets[node + 1]; i++) {
+            action.accept(targets[i]);
+        }
+    }
+
+    public boolean hasEdge(int node, int target) {
+        return contains(node) && Arrays.binarySearch(targets, offsets[node], offsets[node + 1], target) >= 0;
+    }
+
+    public int nodeCount() {
+        return offsets.length - 1;
+    }
+
+    public int edgeCount() {
+        return targets.length;
+    }
+
+    private boolean contains(int node) {
+        return node >= 0 && node < offsets.length - 1;
+    }
+
+    static Builder builder(int maxNode) {
+        return new Builder(maxNode);
+    }
+
+    // Acumula aristas (nodo, destino) en arreglos primitivos y las ordena por nodo al construir
+    static final class Builder {
+        private final int maxNode;
+        private int[] nodes = new int[64];
+        private int[] targets = new int[64];
+        private int size;
+
+        private Builder(int maxNode) {
+            this.maxNode = maxNode;
+        }
+
+        Builder add(int node, int target) {
+            if (node < 0 || node > maxNode) {
+                throw new IllegalArgumentException("Nodo fuera de rango: " + node);
+            }
+            if (size == nodes.length) {
+                nodes = Arrays.copyOf(nodes, size * 2);
+                targets = Arrays.copyOf(targets, size * 2);
+            }
+            nodes[size] = node;
+            targets[size] = target;
+            size++;
+            return this;
+        }
+
+        // Ordenación por conteo de los nodos; después cada fila se ordena y se eliminan duplicados
+        Adjacency build() {
+            int[] offsets = new int[maxNode + 2];
+            for (int i = 0; i < size; i++) {
+                offsets[nodes[i] + 1]++;
+            }
+            for (int n = 0; n <= maxNode; n++) {
+                offsets[n + 1] += offsets[n];
+            }
+            int[] sorted = new int[size];
+            int[] cursor = Arrays.copyOf(offsets, maxNode + 1);
+            for (int i = 0; i < size; i++) {
+                sorted[cursor[nodes[i]]++] = targets[i];
+            }
+
+            int[] compactOffsets = new int[maxNode + 2];
+            int write = 0;
+            for (int n = 0; n <= maxNode; n++) {
+                int from = offsets[n];
+                int to = offsets[n + 1];
+                Arrays.sort(sorted, from, to);
+                compactOffsets[n] = write;
+                for (int i = from; i < to; i++) {
+                    if (i == from || sorted[i] != sorted[i - 1]) {
+                        sorted[write++] = sorted[i];
+                    }
+                }
+            }
+            compactOffsets[maxNode + 1] = write;
+            return new Adjacency(compactOffsets, Arrays.copyOf(sorted, write));
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.rickandmorty.api.catalog;
+
+import com.rickandmorty.api.models.Character;
+import com.rickandmorty.api.models.Episode;
+import com.rickandmorty.api.models.Location;
+
+import java.util.List;
+
+// Catálogo completo de la API, con cada lista ordenada por ID
+public record Catalog(List<Character> characters, List<Location> locations, List<Episode> episodes) {
+
+    public Catalog {
+        characters = List.copyOf(characters);
+        locations = List.copyOf(locations);
+        episodes = List.copyOf(episodes);
+    }
+}
@@ -0,0 +1,113 @@
+package com.rickandmorty.api.catalog;
+
+import com.rickandmorty.api.config.ApiConfig;
+import com.rickandmorty.api.models.Character;
+import com.rickandmorty.api.models.Episode;
+import com.rickandmorty.api.models.Location;
+import com.rickandmorty.api.pages.CharacterPage;
+import com.rickandmorty.api.pages.EpisodePage;
+import com.rickandmorty.api.pages.LocationPage;
+import com.rickandmorty.api.pages.PagedIterator;
+import io.restassured.response.Response;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.IntFunction;
+
+/**
+ * Descarga el catálogo completo de un recurso: lee {@code info.pages} de la primera página y pide las
+ * restantes en paralelo, con un máximo de {@code parallelism} peticiones en vuelo. El resultado
+ * conserva el orden de las páginas.
+ */
+public class CatalogCrawler {
+    // Hilos de plataforma, no virtuales: ver AsyncRequests
+    private static final ThreadFactory WORKERS = Thread.ofPlatform().name("crawler-", 0).daemon().factory();
+
+    private final CharacterPage characterPage = new CharacterPage();
+    private final LocationPage locationPage = new LocationPage();
+    private final EpisodePage episodePage = new EpisodePage();
+    private final int parallelism;
+
+    public CatalogCrawler() {
+        this(ApiConfig.getCrawlerParallelism());
+    }
+
+    public CatalogCrawler(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("El paralelismo debe ser al menos 1");
+        }
+        this.parallelism = parallelism;
+    }
+
+    public List<Character> crawlCharacters() {
+        return crawl(characterPage::getCharactersPage, Character.class);
+    }
+
+    public List<Location> crawlLocations() {
+        return crawl(locationPage::getLocationsPage, Location.class);
+    }
+
+    public List<Episode> crawlEpisodes() {
+        return crawl(episodePage::getEpisodesPage, Episode.class);
+    }
+
+    // Los tres recursos se descargan a la vez; cada uno respeta su propio límite de paralelismo
+    public Catalog crawlAll() {
+        try (ExecutorService executor = Executors.newFixedThreadPool(3, WORKERS)) {
+            CompletableFuture<List<Character>> characters = CompletableFuture.supplyAsync(this::crawlCharacters, executor);
+            CompletableFuture<List<Location>> locations = CompletableFuture.supplyAsync(this::crawlLocations, executor);
+            CompletableFuture<List<Episode>> episodes = CompletableFuture.supplyAsync(this::crawlEpisodes, executor);
+            return new Catalog(join(characters), join(locations), join(episodes));
+        }
+    }
+
+    private <T> List<T> crawl(IntFunction<Response> pageFetcher, Class<T> type) {
+        Response first = fetch(pageFetcher, 1);
+        int pages = first.jsonPath().getInt("info.pages");
+
+        List<List<T>> results = new ArrayList<>(pages);
+        results.add(PagedIterator.results(first, type));
+        if (pages > 1) {
+            List<CompletableFuture<List<T>>> remaining = new ArrayList<>(pages - 1);
+            try (ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, pages - 1), WORKERS)) {
+                for (int page = 2; page <= pages; page++) {
+                    int pageNumber = page;
+                    remaining.add(CompletableFuture.supplyAsync(
+                            () -> PagedIterator.results(fetch(pageFetcher, pageNumber), type), executor));
+                }
+                for (CompletableFuture<List<T>> page : remaining) {
+                    results.add(join(page));
+                }
+            }
+        }
+
+        List<T> all = new ArrayList<>();
+        results.forEach(all::addAll);
+        return all;
+    }
+
+    private static Response fetch(IntFunction<Response> pageFetcher, int page) {
+        Response response = pageFetcher.apply(page);
+        if (response.getStatusCode() != 200) {
+            throw new IllegalStateException("La página " + page + " respondió con estado " + response.getStatusCode());
+        }
+        return response;
+    }
+
+    // Propaga la excepción original en lugar del envoltorio de CompletableFuture
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
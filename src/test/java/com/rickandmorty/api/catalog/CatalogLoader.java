@@ -0,0 +1,65 @@
+package com.rickandmorty.api.catalog;
+
+import com.rickandmorty.api.config.ApiConfig;
+import com.rickandmorty.api.models.compact.CompactCatalog;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Obtiene el catálogo completo para las pruebas. Con {@code api.snapshot=auto} reutiliza la
+ * {@link CatalogSnapshot} de la ejecución anterior si es del mismo origen y no ha caducado; si no,
+ * descarga el catálogo con {@link CatalogCrawler} y escribe una instantánea nueva.
+ */
+public final class CatalogLoader {
+    private static final Logger LOG = LoggerFactory.getLogger(CatalogLoader.class);
+
+    private CatalogLoader() {
+    }
+
+    public static Catalog load() {
+        if (!ApiConfig.isSnapshotEnabled()) {
+            return new CatalogCrawler().crawlAll();
+        }
+
+        Path path = ApiConfig.getSnapshotPath();
+        String source = ApiConfig.getDataSource();
+        if (isFresh(path)) {
+            long start = System.nanoTime();
+            try {
+                CatalogSnapshot snapshot = CatalogSnapshot.open(path);
+                if (source.equals(snapshot.getSource())) {
+                    Catalog catalog = snapshot.toCatalog();
+                    LOG.info("Catálogo cargado desde {} en {} ms", path, (System.nanoTime() - start) / 1_000_000);
+                    return catalog;
+                }
+                LOG.info("La instantánea {} es de otro origen ({}); se descarga el catálogo", path, snapshot.getSource());
+            } catch (IllegalStateException | UncheckedIOException e) {
+                LOG.warn("No se pudo leer la instantánea {}; se descarga el catálogo", path, e);
+            }
+        }
+
+        Catalog catalog = new CatalogCrawler().crawlAll();
+        CatalogSnapshot.write(path, source, CompactCatalog.of(catalog));
+        LOG.info("Instantánea del catálogo escrita en {}", path);
+        return catalog;
+    }
+
+    private static boolean isFresh(Path path) {
+        try {
+            if (!Files.isRegularFile(path)) {
+                return false;
+            }
+            Instant modified = Files.getLastModifiedTime(path).toInstant();
+            return Duration.between(modified, Instant.now()).toHours() < ApiConfig.getSnapshotMaxAgeHours();
+        } catch (IOException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,557 @@
+package com.rickandmorty.api.catalog;
+
+import com.rickandmorty.api.models.compact.CompactCatalog;
+import com.rickandmorty.api.models.compact.CompactCharacter;
+import com.rickandmorty.api.models.compact.CompactEpisode;
+import com.rickandmorty.api.models.compact.CompactLocation;
+import com.rickandmorty.api.models.compact.Gender;
+import com.rickandmorty.api.models.compact.Place;
+import com.rickandmorty.api.models.compact.Status;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
+
+/**
+ * Instantánea binaria del catálogo completo, por columnas y mapeada en memoria.
+ *
+ * <p>Formato (big-endian):</p>
+ * <pre>
+ * cabecera   : magic "RMSNAPSH" | versión (int) | origen (cadena) | URL base (cadena)
+ * cadenas    : cantidad (int) | offsets (int × cantidad + 1) | bytes UTF-8
+ * personajes : cantidad | id | nombre | estado | especie | tipo | género | origen (id, nombre)
+ *              | ubicación (id, nombre) | imagen | created | episodios (offsets + IDs)
+ * ubicaciones: cantidad | id | nombre | tipo | dimensión | created | residentes (offsets + IDs)
+ * episodios  : cantidad | id | nombre | fecha de emisión | código | created | personajes (offsets + IDs)
+ * </pre>
+ * <p>Cada columna guarda un valor por entidad, en orden de ID: enteros, {@code long} para
+ * {@code created}, un byte para los enums (-1 si es nulo) e índices a la tabla de cadenas (-1 si es
+ * nula) para los textos. Las listas de IDs se guardan como offsets más valores, igual que
+ * {@link Adjacency}. Abrir la instantánea solo calcula dónde empieza cada columna; una entidad se
+ * decodifica cuando se pide.</p>
+ *
+ * <p>Otro fork o shard puede tener el archivo mapeado mientras se reescribe: {@link #write} escribe en
+ * un temporal y lo mueve de forma atómica, porque truncar un archivo mapeado hace fallar sus lecturas.
+ * {@link #open} rechaza con {@link IllegalStateException} un archivo cuyas columnas no caben en él.</p>
+ */
+public final class CatalogSnapshot {
+    private static final byte[] MAGIC = "RMSNAPSH".getBytes(StandardCharsets.US_ASCII);
+    private static final int VERSION = 1;
+    private static final int NULL = -1;
+
+    private final Path path;
+    private final ByteBuffer buffer;
+    private final String source;
+    private final String baseUrl;
+    private final StringTable strings;
+    private final CharacterColumns characters;
+    private final LocationColumns locations;
+    private final EpisodeColumns episodes;
+    private final Map<Place, Place> places = new ConcurrentHashMap<>();
+
+    private CatalogSnapshot(Path path, ByteBuffer buffer) {
+        this.path = path;
+        this.buffer = buffer;
+        Cursor cursor = new Cursor(MAGIC.length + Integer.BYTES, buffer.limit());
+        this.source = readInlineString(cursor);
+        this.baseUrl = readInlineString(cursor);
+        this.strings = new StringTable(cursor);
+        this.characters = new CharacterColumns(cursor);
+        this.locations = new LocationColumns(cursor);
+        this.episodes = new EpisodeColumns(cursor);
+    }
+
+    public static CatalogSnapshot open(Path path) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() < MAGIC.length + Integer.BYTES) {
+                throw new IllegalStateException(path + " es demasiado corto para ser una instantánea de catálogo");
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            byte[] magic = new byte[MAGIC.length];
+            buffer.get(0, magic);
+            if (!Arrays.equals(magic, MAGIC)) {
+                throw new IllegalStateException(path + " no es una instantánea de catálogo válida");
+            }
+            int version = buffer.getInt(MAGIC.length);
+            if (version != VERSION) {
+                throw new IllegalStateException("Versión de instantánea no soportada: " + version + " en " + path);
+            }
+            try {
+                return new CatalogSnapshot(path, buffer);
+            } catch (IllegalStateException e) {
+                throw new IllegalStateException("Instantánea truncada o corrupta " + path + ": " + e.getMessage(), e);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo abrir la instantánea " + path, e);
+        }
+    }
+
+    // origen identifica de dónde salió el catálogo (por ejemplo "stub" o "live")
+    public static void write(Path path, String source, CompactCatalog catalog) {
+        Map<String, Integer> table = new LinkedHashMap<>();
+        ToIntFunction<String> index = value -> value == null ? NULL : table.computeIfAbsent(value, key -> table.size());
+
+        try {
+            ByteArrayOutputStream columns = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(columns);
+
+            List<CompactCharacter> characters = catalog.characters();
+            out.writeInt(characters.size());
+            writeInts(out, characters, CompactCharacter::id);
+            writeInts(out, characters, character -> index.applyAsInt(character.name()));
+            writeBytes(out, characters, character -> character.status() == null ? NULL : character.status().ordinal());
+            writeInts(out, characters, character -> index.applyAsInt(character.species()));
+            writeInts(out, characters, character -> index.applyAsInt(character.type()));
+            writeBytes(out, characters, character -> character.gender() == null ? NULL : character.gender().ordinal());
+            writeInts(out, characters, character -> character.origin() == null ? NULL : character.origin().id());
+            writeInts(out, characters, character -> character.origin() == null ? NULL : index.applyAsInt(character.origin().name()));
+            writeInts(out, characters, character -> character.location() == null ? NULL : character.location().id());
+            writeInts(out, characters, character -> character.location() == null ? NULL : index.applyAsInt(character.location().name()));
+            writeInts(out, characters, character -> index.applyAsInt(character.image()));
+            for (CompactCharacter character : characters) {
+                out.writeLong(character.created());
+            }
+            writeIdLists(out, characters.stream().map(CompactCharacter::episodes).toList());
+
+            List<CompactLocation> locations = catalog.locations();
+            out.writeInt(locations.size());
+            writeInts(out, locations, CompactLocation::id);
+            writeInts(out, locations, location -> index.applyAsInt(location.name()));
+            writeInts(out, locations, location -> index.applyAsInt(location.type()));
+            writeInts(out, locations, location -> index.applyAsInt(location.dimension()));
+            for (CompactLocation location : locations) {
+                out.writeLong(location.created());
+            }
+            writeIdLists(out, locations.stream().map(CompactLocation::residents).toList());
+
+            List<CompactEpisode> episodes = catalog.episodes();
+            out.writeInt(episodes.size());
+            writeInts(out, episodes, CompactEpisode::id);
+            writeInts(out, episodes, episode -> index.applyAsInt(episode.name()));
+            writeInts(out, episodes, CompactEpisode::airDate);
+            writeInts(out, episodes, CompactEpisode::code);
+            for (CompactEpisode episode : episodes) {
+                out.writeLong(episode.created());
+            }
+            writeIdLists(out, episodes.stream().map(CompactEpisode::characters).toList());
+
+            // La tabla de cadenas se conoce al terminar las columnas, pero va delante de ellas en el archivo
+            ByteArrayOutputStream head = new ByteArrayOutputStream();
+            DataOutputStream headOut = new DataOutputStream(head);
+            headOut.write(MAGIC);
+            headOut.writeInt(VERSION);
+            writeInlineString(headOut, source);
+            writeInlineString(headOut, catalog.baseUrl());
+            byte[][] encoded = table.keySet().stream().map(value -> value.getBytes(StandardCharsets.UTF_8)).toArray(byte[][]::new);
+            headOut.writeInt(encoded.length);
+            int offset = 0;
+            for (byte[] bytes : encoded) {
+                headOut.writeInt(offset);
+                offset += bytes.length;
+            }
+            headOut.writeInt(offset);
+            for (byte[] bytes : encoded) {
+                headOut.write(bytes);
+            }
+
+            Path directory = path.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            Path temp = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+            try {
+                try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                    channel.write(ByteBuffer.wrap(head.toByteArray()));
+                    channel.write(ByteBuffer.wrap(columns.toByteArray()));
+                }
+                Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo escribir la instantánea " + path, e);
+        }
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    public int characterCount() {
+        return characters.count;
+    }
+
+    public int locationCount() {
+        return locations.count;
+    }
+
+    public int episodeCount() {
+        return episodes.count;
+    }
+
+    // Acceso posicional: decodifica solo la entidad pedida
+    public CompactCharacter character(int index) {
+        return characters.decode(index);
+    }
+
+    public CompactLocation location(int index) {
+        return locations.decode(index);
+    }
+
+    public CompactEpisode episode(int index) {
+        return episodes.decode(index);
+    }
+
+    // Búsqueda por ID en la columna de IDs (ordenada), sin decodificar el resto
+    public Optional<CompactCharacter> findCharacter(int id) {
+        int index = search(characters.ids, characters.count, id);
+        return index < 0 ? Optional.empty() : Optional.of(character(index));
+    }
+
+    public Optional<CompactLocation> findLocation(int id) {
+        int index = search(locations.ids, locations.count, id);
+        return index < 0 ? Optional.empty() : Optional.of(location(index));
+    }
+
+    public Optional<CompactEpisode> findEpisode(int id) {
+        int index = search(episodes.ids, episodes.count, id);
+        return index < 0 ? Optional.empty() : Optional.of(episode(index));
+    }
+
+    // Vistas perezosas: cada get decodifica una entidad
+    public List<CompactCharacter> characters() {
+        return view(characters.count, this::character);
+    }
+
+    public List<CompactLocation> locations() {
+        return view(locations.count, this::location);
+    }
+
+    public List<CompactEpisode> episodes() {
+        return view(episodes.count, this::episode);
+    }
+
+    public CompactCatalog toCompactCatalog() {
+        return new CompactCatalog(baseUrl, characters(), locations(), episodes());
+    }
+
+    public Catalog toCatalog() {
+        return toCompactCatalog().toCatalog();
+    }
+
+    private static <T> List<T> view(int size, IntFunction<T> decoder) {
+        return new AbstractList<>() {
+            @Override
+            public T get(int index) {
+                return decoder.apply(index);
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    private int search(int idsColumn, int count, int id) {
+        int low = 0;
+        int high = count - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int midId = buffer.getInt(idsColumn + mid * Integer.BYTES);
+            if (midId < id) {
+                low = mid + 1;
+            } else if (midId > id) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    private int intAt(int column, int index) {
+        return buffer.getInt(column + index * Integer.BYTES);
+    }
+
+    private long longAt(int column, int index) {
+        return buffer.getLong(column + index * Long.BYTES);
+    }
+
+    private byte byteAt(int column, int index) {
+        return buffer.get(column + index);
+    }
+
+    private String stringAt(int column, int index) {
+        return strings.get(intAt(column, index));
+    }
+
+    private Place place(int id, String name) {
+        Place place = new Place(id, name);
+        return places.computeIfAbsent(place, key -> key);
+    }
+
+    private int readCount(Cursor cursor) {
+        int count = buffer.getInt(cursor.take(Integer.BYTES));
+        if (count < 0) {
+            throw new IllegalStateException("cantidad negativa en la posición " + (cursor.position - Integer.BYTES));
+        }
+        return count;
+    }
+
+    private String readInlineString(Cursor cursor) {
+        int length = buffer.getInt(cursor.take(Integer.BYTES));
+        int start = cursor.take(length);
+        byte[] bytes = new byte[length];
+        buffer.get(start, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeInlineString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static <T> void writeInts(DataOutputStream out, List<T> entities, ToIntFunction<T> column) throws IOException {
+        for (T entity : entities) {
+            out.writeInt(column.applyAsInt(entity));
+        }
+    }
+
+    private static <T> void writeBytes(DataOutputStream out, List<T> entities, ToIntFunction<T> column) throws IOException {
+        for (T entity : entities) {
+            out.writeByte(column.applyAsInt(entity));
+        }
+    }
+
+    // Listas de IDs como offsets (cantidad + 1) seguidos de todos los valores; una lista nula se
+    // guarda con offset -1 en su posición final para distinguirla de una lista vacía
+    private static void writeIdLists(DataOutputStream out, List<int[]> lists) throws IOException {
+        int offset = 0;
+        out.writeInt(0);
+        for (int[] ids : lists) {
+            offset += ids == null ? 0 : ids.length;
+            out.writeInt(ids == null ? ~offset : offset);
+        }
+        for (int[] ids : lists) {
+            if (ids != null) {
+                for (int id : ids) {
+                    out.writeInt(id);
+                }
+            }
+        }
+    }
+
+    // Posición de lectura al recorrer la cabecera en open(); no deja avanzar más allá del archivo
+    private static final class Cursor {
+        private final int limit;
+        private int position;
+
+        private Cursor(int position, int limit) {
+            this.position = position;
+            this.limit = limit;
+        }
+
+        // Reserva los bytes siguientes y devuelve dónde empiezan
+        private int take(long bytes) {
+            if (bytes < 0 || position + bytes > limit) {
+                throw new IllegalStateException("se esperaban " + bytes + " bytes en la posición " + position
+                        + " y el archivo tiene " + limit);
+            }
+            int start = position;
+            position += (int) bytes;
+            return start;
+        }
+
+        private int intColumn(int count) {
+            return take((long) count * Integer.BYTES);
+        }
+
+        private int longColumn(int count) {
+            return take((long) count * Long.BYTES);
+        }
+
+        private int byteColumn(int count) {
+            return take(count);
+        }
+    }
+
+    private final class StringTable {
+        private final int count;
+        private final int offsets;
+        private final int data;
+        private final String[] decoded;
+
+        private StringTable(Cursor cursor) {
+            count = readCount(cursor);
+            offsets = cursor.intColumn(count + 1);
+            data = cursor.take(buffer.getInt(offsets + count * Integer.BYTES));
+            decoded = new String[count];
+        }
+
+        // Cada cadena se decodifica una vez; las lecturas siguientes devuelven la misma instancia
+        private String get(int index) {
+            if (index == NULL) {
+                return null;
+            }
+            String value = decoded[index];
+            if (value == null) {
+                int from = intAt(offsets, index);
+                byte[] bytes = new byte[intAt(offsets, index + 1) - from];
+                buffer.get(data + from, bytes);
+                value = new String(bytes, StandardCharsets.UTF_8);
+                decoded[index] = value;
+            }
+            return value;
+        }
+    }
+
+    private final class IdLists {
+        private final int offsets;
+        private final int values;
+
+        private IdLists(Cursor cursor, int count) {
+            offsets = cursor.intColumn(count + 1);
+            int last = intAt(offsets, count);
+            cursor.intColumn(last < 0 ? ~last : last);
+            values = offsets + (count + 1) * Integer.BYTES;
+        }
+
+        private int[] get(int index) {
+            int from = intAt(offsets, index);
+            int to = intAt(offsets, index + 1);
+            if (to < 0) {
+                return null;
+            }
+            from = from < 0 ? ~from : from;
+            int[] ids = new int[to - from];
+            for (int i = 0; i < ids.length; i++) {
+                ids[i] = intAt(values, from + i);
+            }
+            return ids;
+        }
+    }
+
+    private final class CharacterColumns {
+        private final int count;
+        private final int ids;
+        private final int names;
+        private final int statuses;
+        private final int species;
+        private final int types;
+        private final int genders;
+        private final int originIds;
+        private final int originNames;
+        private final int locationIds;
+        private final int locationNames;
+        private final int images;
+        private final int created;
+        private final IdLists episodes;
+
+        private CharacterColumns(Cursor cursor) {
+            count = readCount(cursor);
+            ids = cursor.intColumn(count);
+            names = cursor.intColumn(count);
+            statuses = cursor.byteColumn(count);
+            species = cursor.intColumn(count);
+            types = cursor.intColumn(count);
+            genders = cursor.byteColumn(count);
+            originIds = cursor.intColumn(count);
+            originNames = cursor.intColumn(count);
+            locationIds = cursor.intColumn(count);
+            locationNames = cursor.intColumn(count);
+            images = cursor.intColumn(count);
+            created = cursor.longColumn(count);
+            episodes = new IdLists(cursor, count);
+        }
+
+        private CompactCharacter decode(int index) {
+            byte status = byteAt(statuses, index);
+            byte gender = byteAt(genders, index);
+            int originId = intAt(originIds, index);
+            int locationId = intAt(locationIds, index);
+            return new CompactCharacter(intAt(ids, index), stringAt(names, index),
+                    status == NULL ? null : Status.values()[status],
+                    stringAt(species, index), stringAt(types, index),
+                    gender == NULL ? null : Gender.values()[gender],
+                    originId == NULL ? null : place(originId, stringAt(originNames, index)),
+                    locationId == NULL ? null : place(locationId, stringAt(locationNames, index)),
+                    stringAt(images, index), episodes.get(index), longAt(created, index));
+        }
+    }
+
+    private final class LocationColumns {
+        private final int count;
+        private final int ids;
+        private final int names;
+        private final int types;
+        private final int dimensions;
+        private final int created;
+        private final IdLists residents;
+
+        private LocationColumns(Cursor cursor) {
+            count = readCount(cursor);
+            ids = cursor.intColumn(count);
+            names = cursor.intColumn(count);
+            types = cursor.intColumn(count);
+            dimensions = cursor.intColumn(count);
+            created = cursor.longColumn(count);
+            residents = new IdLists(cursor, count);
+        }
+
+        private CompactLocation decode(int index) {
+            return new CompactLocation(intAt(ids, index), stringAt(names, index), stringAt(types, index),
+                    stringAt(dimensions, index), residents.get(index), longAt(created, index));
+        }
+    }
+
+    private final class EpisodeColumns {
+        private final int count;
+        private final int ids;
+        private final int names;
+        private final int airDates;
+        private final int codes;
+        private final int created;
+        private final IdLists characters;
+
+        private EpisodeColumns(Cursor cursor) {
+            count = readCount(cursor);
+            ids = cursor.intColumn(count);
+            names = cursor.intColumn(count);
+            airDates = cursor.intColumn(count);
+            codes = cursor.intColumn(count);
+            created = cursor.longColumn(count);
+            characters = new IdLists(cursor, count);
+        }
+
+        private CompactEpisode decode(int index) {
+            return new CompactEpisode(intAt(ids, index), stringAt(names, index), intAt(airDates, index),
+                    intAt(codes, index), characters.get(index), longAt(created, index));
+        }
+    }
+}
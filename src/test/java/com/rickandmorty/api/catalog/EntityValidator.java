@@ -0,0 +1,150 @@
+package com.rickandmorty.api.catalog;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.fge.jsonschema.core.report.ProcessingMessage;
+import com.github.fge.jsonschema.core.report.ProcessingReport;
+import com.rickandmorty.api.models.Character;
+import com.rickandmorty.api.models.Episode;
+import com.rickandmorty.api.models.Location;
+import com.rickandmorty.api.models.compact.Gender;
+import com.rickandmorty.api.models.compact.Status;
+import com.rickandmorty.api.schemas.SchemaRegistry;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Validaciones de una entidad del catálogo: esquema JSON, campos (valores permitidos, fechas, URL
+ * propia) e integridad (referencias a entidades existentes y relaciones simétricas). La integridad
+ * se comprueba en memoria contra el catálogo; la verificación contra la API es {@link IntegrityVerifier}.
+ */
+final class EntityValidator {
+    private static final DateTimeFormatter AIR_DATE_FORMAT = DateTimeFormatter.ofPattern("MMMM d, yyyy", Locale.US);
+
+    private final RelationshipIndex index;
+    private final BitSet characters = new BitSet();
+    private final BitSet locations = new BitSet();
+    private final BitSet episodes = new BitSet();
+
+    EntityValidator(Catalog catalog, RelationshipIndex index) {
+        this.index = index;
+        catalog.characters().forEach(character -> characters.set(character.getId()));
+        catalog.locations().forEach(location -> locations.set(location.getId()));
+        catalog.episodes().forEach(episode -> episodes.set(episode.getId()));
+    }
+
+    List<String> validate(Character character, JsonNode json) {
+        List<String> violations = new ArrayList<>();
+        int id = character.getId();
+        schema(SchemaRegistry.CHARACTER, json, violations);
+        notBlank("name", character.getName(), violations);
+        try {
+            Status.fromLabel(character.getStatus());
+            Gender.fromLabel(character.getGender());
+        } catch (IllegalArgumentException e) {
+            violations.add(e.getMessage());
+        }
+        ownUrl(character.getUrl(), "character", id, violations);
+        created(character.getCreated(), violations);
+
+        index.characterEpisodes().forEach(id, episodeId -> {
+            if (!episodes.get(episodeId)) {
+                violations.add("episode/" + episodeId + " no existe");
+            } else if (!index.episodeCharacters().hasEdge(episodeId, id)) {
+                violations.add("el episodio " + episodeId + " no incluye al personaje");
+            }
+        });
+        place("origin", index.originOf(id), violations);
+        int locationId = index.locationOf(id);
+        place("location", locationId, violations);
+        if (locations.get(locationId) && !index.locationResidents().hasEdge(locationId, id)) {
+            violations.add("la ubicación " + locationId + " no lo incluye entre sus residentes");
+        }
+        return violations;
+    }
+
+    List<String> validate(Location location, JsonNode json) {
+        List<String> violations = new ArrayList<>();
+        int id = location.getId();
+        schema(SchemaRegistry.LOCATION, json, violations);
+        notBlank("name", location.getName(), violations);
+        ownUrl(location.getUrl(), "location", id, violations);
+        created(location.getCreated(), violations);
+
+        index.locationResidents().forEach(id, characterId -> {
+            if (!characters.get(characterId)) {
+                violations.add("character/" + characterId + " no existe");
+            } else if (index.locationOf(characterId) != id) {
+                violations.add("el residente " + characterId + " está en la ubicación " + index.locationOf(characterId));
+            }
+        });
+        return violations;
+    }
+
+    List<String> validate(Episode episode, JsonNode json) {
+        List<String> violations = new ArrayList<>();
+        int id = episode.getId();
+        schema(SchemaRegistry.EPISODE, json, violations);
+        notBlank("name", episode.getName(), violations);
+        if (episode.getEpisode() == null || !episode.getEpisode().matches("S\\d{2}E\\d{2}")) {
+            violations.add("código de episodio inválido: " + episode.getEpisode());
+        }
+        try {
+            LocalDate.parse(episode.getAir_date(), AIR_DATE_FORMAT);
+        } catch (DateTimeParseException | NullPointerException e) {
+            violations.add("air_date inválido: " + episode.getAir_date());
+        }
+        ownUrl(episode.getUrl(), "episode", id, violations);
+        created(episode.getCreated(), violations);
+
+        index.episodeCharacters().forEach(id, characterId -> {
+            if (!characters.get(characterId)) {
+                violations.add("character/" + characterId + " no existe");
+            } else if (!index.characterEpisodes().hasEdge(characterId, id)) {
+                violations.add("el personaje " + characterId + " no menciona el episodio");
+            }
+        });
+        return violations;
+    }
+
+    private static void schema(String schema, JsonNode json, List<String> violations) {
+        ProcessingReport report = SchemaRegistry.validate(schema, json);
+        if (!report.isSuccess()) {
+            for (ProcessingMessage message : report) {
+                violations.add("esquema: " + message.getMessage());
+            }
+        }
+    }
+
+    private static void notBlank(String field, String value, List<String> violations) {
+        if (value == null || value.isBlank()) {
+            violations.add(field + " vacío");
+        }
+    }
+
+    private static void ownUrl(String url, String resource, int id, List<String> violations) {
+        if (ResourceUrls.id(url, resource) != id) {
+            violations.add("url no corresponde a " + resource + "/" + id + ": " + url);
+        }
+    }
+
+    private static void created(String created, List<String> violations) {
+        try {
+            Instant.parse(created);
+        } catch (DateTimeParseException | NullPointerException e) {
+            violations.add("created inválido: " + created);
+        }
+    }
+
+    private void place(String field, int locationId, List<String> violations) {
+        if (locationId != 0 && !locations.get(locationId)) {
+            violations.add(field + ": location/" + locationId + " no existe");
+        }
+    }
+}
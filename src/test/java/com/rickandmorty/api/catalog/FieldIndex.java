@@ -0,0 +1,86 @@
+package com.rickandmorty.api.catalog;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Índice invertido de un campo de texto: cada valor distinto (en minúsculas) apunta al conjunto de
+ * IDs que lo tienen.
+ *
+ * <p>Para buscar subcadenas, cada trigrama apunta a los valores distintos que lo contienen. Una
+ * consulta de tres o más caracteres solo comprueba los valores que tienen todos sus trigramas; con
+ * menos caracteres se recorren los valores distintos, que en campos como especie o tipo son pocos.</p>
+ */
+final class FieldIndex {
+    private static final int GRAM = 3;
+
+    private final List<String> values = new ArrayList<>();
+    private final List<BitSet> postings = new ArrayList<>();
+    private final Map<String, Integer> valueIds = new HashMap<>();
+    private final Map<String, BitSet> grams = new HashMap<>();
+
+    void add(int id, String value) {
+        String normalized = normalize(value);
+        Integer valueId = valueIds.get(normalized);
+        if (valueId == null) {
+            valueId = values.size();
+            valueIds.put(normalized, valueId);
+            values.add(normalized);
+            postings.add(new BitSet());
+            for (int i = 0; i + GRAM <= normalized.length(); i++) {
+                grams.computeIfAbsent(normalized.substring(i, i + GRAM), gram -> new BitSet()).set(valueId);
+            }
+        }
+        postings.get(valueId).set(id);
+    }
+
+    // Coincidencia exacta sin distinguir mayúsculas
+    BitSet exact(String query) {
+        Integer valueId = valueIds.get(normalize(query));
+        return valueId == null ? new BitSet() : (BitSet) postings.get(valueId).clone();
+    }
+
+    // Subcadena sin distinguir mayúsculas
+    BitSet containing(String query) {
+        String needle = normalize(query);
+        BitSet candidates;
+        if (needle.length() >= GRAM) {
+            candidates = null;
+            for (int i = 0; i + GRAM <= needle.length(); i++) {
+                BitSet gram = grams.get(needle.substring(i, i + GRAM));
+                if (gram == null) {
+                    return new BitSet();
+                }
+                if (candidates == null) {
+                    candidates = (BitSet) gram.clone();
+                } else {
+                    candidates.and(gram);
+                }
+            }
+        } else {
+            candidates = new BitSet(values.size());
+            candidates.set(0, values.size());
+        }
+
+        BitSet matches = new BitSet();
+        for (int valueId = candidates.nextSetBit(0); valueId >= 0; valueId = candidates.nextSetBit(valueId + 1)) {
+            // Los trigramas descartan la mayoría; la comprobación final evita falsos positivos por el orden
+            if (values.get(valueId).contains(needle)) {
+                matches.or(postings.get(valueId));
+            }
+        }
+        return matches;
+    }
+
+    int distinctValues() {
+        return values.size();
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.toLowerCase(Locale.ROOT);
+    }
+}
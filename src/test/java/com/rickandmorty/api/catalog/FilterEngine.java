@@ -0,0 +1,97 @@
+package com.rickandmorty.api.catalog;
+
+import com.rickandmorty.api.models.Character;
+import com.rickandmorty.api.models.Episode;
+import com.rickandmorty.api.models.Location;
+
+import java.util.BitSet;
+import java.util.function.Function;
+
+/**
+ * Responde en memoria las mismas consultas que los filtros de la API, a partir de un {@link Catalog}.
+ *
+ * <p>Reproduce la semántica del servidor: nombre y demás textos libres coinciden por subcadena sin
+ * distinguir mayúsculas; {@code status} y {@code gender} por valor exacto, también sin distinguir
+ * mayúsculas. Un parámetro nulo o vacío no filtra y varios parámetros se combinan con AND. El
+ * resultado son los IDs en orden ascendente, el mismo orden en que la API pagina.</p>
+ *
+ * <p>Cada campo tiene su {@link FieldIndex}, así que una consulta combina conjuntos de bits en lugar
+ * de recorrer el catálogo. Sirve de oráculo para contrastar combinaciones de filtros con la API.</p>
+ */
+public final class FilterEngine {
+    private final BitSet allCharacters = new BitSet();
+    private final BitSet allLocations = new BitSet();
+    private final BitSet allEpisodes = new BitSet();
+
+    private final FieldIndex characterName = new FieldIndex();
+    private final FieldIndex characterStatus = new FieldIndex();
+    private final FieldIndex characterSpecies = new FieldIndex();
+    private final FieldIndex characterType = new FieldIndex();
+    private final FieldIndex characterGender = new FieldIndex();
+    private final FieldIndex locationName = new FieldIndex();
+    private final FieldIndex locationType = new FieldIndex();
+    private final FieldIndex locationDimension = new FieldIndex();
+    private final FieldIndex episodeName = new FieldIndex();
+    private final FieldIndex episodeCode = new FieldIndex();
+
+    private FilterEngine() {
+    }
+
+    public static FilterEngine build(Catalog catalog) {
+        FilterEngine engine = new FilterEngine();
+        for (Character character : catalog.characters()) {
+            int id = character.getId();
+            engine.allCharacters.set(id);
+            engine.characterName.add(id, character.getName());
+            engine.characterStatus.add(id, character.getStatus());
+            engine.characterSpecies.add(id, character.getSpecies());
+            engine.characterType.add(id, character.getType());
+            engine.characterGender.add(id, character.getGender());
+        }
+        for (Location location : catalog.locations()) {
+            int id = location.getId();
+            engine.allLocations.set(id);
+            engine.locationName.add(id, location.getName());
+            engine.locationType.add(id, location.getType());
+            engine.locationDimension.add(id, location.getDimension());
+        }
+        for (Episode episode : catalog.episodes()) {
+            int id = episode.getId();
+            engine.allEpisodes.set(id);
+            engine.episodeName.add(id, episode.getName());
+            engine.episodeCode.add(id, episode.getEpisode());
+        }
+        return engine;
+    }
+
+    public int[] filterCharacters(String name, String status, String species, String type, String gender) {
+        BitSet result = (BitSet) allCharacters.clone();
+        apply(result, name, characterName::containing);
+        apply(result, status, characterStatus::exact);
+        apply(result, species, characterSpecies::containing);
+        apply(result, type, characterType::containing);
+        apply(result, gender, characterGender::exact);
+        return result.stream().toArray();
+    }
+
+    public int[] filterLocations(String name, String type, String dimension) {
+        BitSet result = (BitSet) allLocations.clone();
+        apply(result, name, locationName::containing);
+        apply(result, type, locationType::containing);
+        apply(result, dimension, locationDimension::containing);
+        return result.stream().toArray();
+    }
+
+    public int[] filterEpisodes(String name, String episodeCode) {
+        BitSet result = (BitSet) allEpisodes.clone();
+        apply(result, name, episodeName::containing);
+        apply(result, episodeCode, this.episodeCode::containing);
+        return result.stream().toArray();
+    }
+
+    private static void apply(BitSet result, String value, Function<String, BitSet> index) {
+        if (value != null && !value.isEmpty() && !result.isEmpty()) {
+            result.and(index.apply(value));
+        }
+    }
+}
@@ -0,0 +1,281 @@
+package com.rickandmorty.api.catalog;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.rickandmorty.api.config.ApiConfig;
+import com.rickandmorty.api.models.Character;
+import com.rickandmorty.api.models.Episode;
+import com.rickandmorty.api.models.Location;
+import com.rickandmorty.api.schemas.SchemaRegistry;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.IntPredicate;
+import java.util.function.ToIntFunction;
+
+/**
+ * Valida el catálogo completo volviendo a comprobar solo lo que cambió desde la ejecución anterior.
+ *
+ * <p>Cada entidad se identifica por un hash FNV-1a de 64 bits de su JSON. El estado de la ejecución
+ * anterior (hash y violaciones por entidad) se guarda en {@code api.validation.state}. Una entidad se
+ * vuelve a validar si es nueva, si su hash cambió o si referencia a una entidad nueva, cambiada o
+ * eliminada (las comprobaciones de simetría dependen de las dos partes); en el resto se reutiliza el
+ * resultado guardado. El estado solo se reutiliza si proviene del mismo origen de datos y de las
+ * mismas reglas: su huella combina el bytecode de {@link EntityValidator} y los esquemas JSON, así
+ * que cualquier cambio en las validaciones obliga a revalidar todo.</p>
+ *
+ * <p>Limitación: el hash y el esquema se calculan sobre el modelo vuelto a serializar por Jackson, no
+ * sobre el JSON que devolvió la API (el catálogo, y la instantánea de la que puede venir, solo guardan
+ * los modelos). Un campo que el modelo no conoce no cambia el hash ni llega al esquema, y un valor que
+ * Jackson convierte de tipo (un número enviado como texto) se valida ya convertido. Las pruebas de
+ * cada endpoint validan el esquema sobre la respuesta original.</p>
+ */
+public class IncrementalValidator {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final int STATE_VERSION = 2;
+    private static final long RULES = rulesFingerprint();
+
+    private final Path statePath;
+
+    public IncrementalValidator() {
+        this(ApiConfig.getValidationStatePath());
+    }
+
+    public IncrementalValidator(Path statePath) {
+        this.statePath = statePath;
+    }
+
+    public ValidationDelta validate(Catalog catalog) {
+        long start = System.nanoTime();
+        String source = ApiConfig.getDataSource();
+        Map<String, Map<Integer, Entry>> previous = loadState(source);
+
+        Map<String, Map<Integer, Long>> hashes = Map.of(
+                "character", hashes(catalog.characters(), Character::getId),
+                "location", hashes(catalog.locations(), Location::getId),
+                "episode", hashes(catalog.episodes(), Episode::getId));
+
+        // Entidades nuevas, cambiadas o eliminadas: invalidan también a quienes las referencian
+        Map<String, BitSet> dirty = new HashMap<>();
+        Map<String, int[]> changes = new HashMap<>();
+        for (String resource : hashes.keySet()) {
+            Map<Integer, Entry> before = previous.getOrDefault(resource, Map.of());
+            Map<Integer, Long> now = hashes.get(resource);
+            BitSet resourceDirty = new BitSet();
+            int added = 0;
+            int changed = 0;
+            int removed = 0;
+            for (Map.Entry<Integer, Long> hash : now.entrySet()) {
+                Entry entry = before.get(hash.getKey());
+                if (entry == null) {
+                    added++;
+                    resourceDirty.set(hash.getKey());
+                } else if (entry.hash != hash.getValue()) {
+                    changed++;
+                    resourceDirty.set(hash.getKey());
+                }
+            }
+            for (Integer id : before.keySet()) {
+                if (!now.containsKey(id)) {
+                    removed++;
+                    resourceDirty.set(id);
+                }
+            }
+            dirty.put(resource, resourceDirty);
+            changes.put(resource, new int[]{added, changed, removed});
+        }
+
+        RelationshipIndex index = RelationshipIndex.build(catalog);
+        EntityValidator validator = new EntityValidator(catalog, index);
+        BitSet dirtyCharacters = dirty.get("character");
+        BitSet dirtyLocations = dirty.get("location");
+        BitSet dirtyEpisodes = dirty.get("episode");
+
+        Run run = new Run(previous, hashes, changes);
+        IntPredicate characterDepends = id -> dirtyCharacters.get(id)
+                || anyDirty(index.episodesOf(id), dirtyEpisodes)
+                || dirtyLocations.get(index.locationOf(id)) || dirtyLocations.get(index.originOf(id));
+        IntPredicate locationDepends = id -> dirtyLocations.get(id)
+                || anyDirty(index.residentsOf(id), dirtyCharacters)
+                || anyDirty(index.locationCharacters().neighbours(id), dirtyCharacters);
+        IntPredicate episodeDepends = id -> dirtyEpisodes.get(id) || anyDirty(index.charactersIn(id), dirtyCharacters);
+
+        run.validate("character", catalog.characters(), Character::getId, characterDepends, validator::validate);
+        run.validate("location", catalog.locations(), Location::getId, locationDepends, validator::validate);
+        run.validate("episode", catalog.episodes(), Episode::getId, episodeDepends, validator::validate);
+
+        saveState(source, run.current);
+        return new ValidationDelta(run.counts, run.violations, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private static boolean anyDirty(int[] ids, BitSet dirty) {
+        for (int id : ids) {
+            if (dirty.get(id)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static <T> Map<Integer, Long> hashes(List<T> entities, ToIntFunction<T> id) {
+        Map<Integer, Long> hashes = new HashMap<>(entities.size() * 2);
+        for (T entity : entities) {
+            try {
+                hashes.put(id.applyAsInt(entity), hash(MAPPER.writeValueAsBytes(entity)));
+            } catch (JsonProcessingException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return hashes;
+    }
+
+    // FNV-1a de 64 bits, el mismo que usa la cassette para sus claves
+    static long hash(byte[] bytes) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : bytes) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    // Huella de las reglas: bytecode del validador y los esquemas que aplica
+    private static long rulesFingerprint() {
+        List<String> resources = List.of("/" + EntityValidator.class.getName().replace('.', '/') + ".class",
+                "/" + SchemaRegistry.CHARACTER, "/" + SchemaRegistry.LOCATION, "/" + SchemaRegistry.EPISODE);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        for (String resource : resources) {
+            try (InputStream in = IncrementalValidator.class.getResourceAsStream(resource)) {
+                if (in == null) {
+                    throw new IllegalStateException("No se encuentra " + resource);
+                }
+                in.transferTo(bytes);
+            } catch (IOException e) {
+                throw new UncheckedIOException("No se pudo leer " + resource, e);
+            }
+        }
+        return hash(bytes.toByteArray());
+    }
+
+    // Formato: {"version":2,"source":"stub","rules":..,"character":{"1":{"hash":..,"violations":[..]}},...}
+    private Map<String, Map<Integer, Entry>> loadState(String source) {
+        Map<String, Map<Integer, Entry>> state = new HashMap<>();
+        if (!Files.isRegularFile(statePath)) {
+            return state;
+        }
+        try {
+            JsonNode root = MAPPER.readTree(statePath.toFile());
+            if (root.path("version").asInt() != STATE_VERSION || !source.equals(root.path("source").asText())
+                    || root.path("rules").asLong() != RULES) {
+                return state;
+            }
+            for (String resource : List.of("character", "location", "episode")) {
+                Map<Integer, Entry> entries = new HashMap<>();
+                Iterator<Map.Entry<String, JsonNode>> fields = root.path(resource).fields();
+                while (fields.hasNext()) {
+                    Map.Entry<String, JsonNode> field = fields.next();
+                    List<String> violations = new ArrayList<>();
+                    field.getValue().path("violations").forEach(violation -> violations.add(violation.asText()));
+                    entries.put(Integer.parseInt(field.getKey()),
+                            new Entry(field.getValue().path("hash").asLong(), List.copyOf(violations)));
+                }
+                state.put(resource, entries);
+            }
+            return state;
+        } catch (IOException | RuntimeException e) {
+            // Un estado ilegible equivale a no tener estado: se valida todo
+            return new HashMap<>();
+        }
+    }
+
+    private void saveState(String source, Map<String, Map<Integer, Entry>> state) {
+        ObjectNode root = MAPPER.createObjectNode();
+        root.put("version", STATE_VERSION);
+        root.put("source", source);
+        root.put("rules", RULES);
+        state.forEach((resource, entries) -> {
+            ObjectNode resourceNode = root.putObject(resource);
+            entries.forEach((id, entry) -> {
+                ObjectNode entryNode = resourceNode.putObject(String.valueOf(id));
+                entryNode.put("hash", entry.hash);
+                ArrayNode violations = entryNode.putArray("violations");
+                entry.violations.forEach(violations::add);
+            });
+        });
+        try {
+            // Temporal más movimiento atómico: una escritura interrumpida o simultánea no deja un estado
+            // a medias que la siguiente ejecución descartaría en silencio
+            Path directory = statePath.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            Path temp = Files.createTempFile(directory, statePath.getFileName().toString(), ".tmp");
+            try {
+                MAPPER.writeValue(temp.toFile(), root);
+                Files.move(temp, statePath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo guardar el estado de validación en " + statePath, e);
+        }
+    }
+
+    private record Entry(long hash, List<String> violations) {
+    }
+
+    // Estado de una ejecución: lo anterior, los hashes actuales y lo que se va acumulando por recurso
+    private static final class Run {
+        private final Map<String, Map<Integer, Entry>> previous;
+        private final Map<String, Map<Integer, Long>> hashes;
+        private final Map<String, int[]> changes;
+        private final Map<String, Map<Integer, Entry>> current = new LinkedHashMap<>();
+        private final Map<String, ValidationDelta.Counts> counts = new LinkedHashMap<>();
+        private final List<String> violations = new ArrayList<>();
+
+        private Run(Map<String, Map<Integer, Entry>> previous, Map<String, Map<Integer, Long>> hashes,
+                    Map<String, int[]> changes) {
+            this.previous = previous;
+            this.hashes = hashes;
+            this.changes = changes;
+        }
+
+        private <T> void validate(String resource, List<T> entities, ToIntFunction<T> id, IntPredicate depends,
+                                  BiFunction<T, JsonNode, List<String>> check) {
+            Map<Integer, Entry> before = previous.getOrDefault(resource, Map.of());
+            Map<Integer, Entry> after = new LinkedHashMap<>();
+            int revalidated = 0;
+            for (T entity : entities) {
+                int entityId = id.applyAsInt(entity);
+                Entry entry = before.get(entityId);
+                List<String> entityViolations;
+                if (entry == null || depends.test(entityId)) {
+                    entityViolations = check.apply(entity, MAPPER.valueToTree(entity));
+                    revalidated++;
+                } else {
+                    entityViolations = entry.violations;
+                }
+                after.put(entityId, new Entry(hashes.get(resource).get(entityId), entityViolations));
+                entityViolations.forEach(violation -> violations.add(resource + "/" + entityId + ": " + violation));
+            }
+            current.put(resource, after);
+            int[] change = changes.get(resource);
+            counts.put(resource, new ValidationDelta.Counts(change[0], change[1], change[2],
+                    entities.size() - change[0] - change[1], revalidated));
+        }
+    }
+}
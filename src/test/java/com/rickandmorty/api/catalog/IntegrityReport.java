@@ -0,0 +1,34 @@
+package com.rickandmorty.api.catalog;
+
+import java.util.List;
+
+/**
+ * Resultado de {@link IntegrityVerifier}: cuántos IDs distintos se referenciaron y resolvieron por
+ * recurso, cuántas peticiones hicieron falta y las violaciones encontradas (se conservan como máximo
+ * {@link IntegrityVerifier#MAX_REPORTED_VIOLATIONS} mensajes, pero se cuentan todas).
+ */
+public record IntegrityReport(int referencedCharacters, int referencedLocations, int referencedEpisodes,
+                              int requests, long violationCount, List<String> violations) {
+
+    public IntegrityReport {
+        violations = List.copyOf(violations);
+    }
+
+    public boolean isValid() {
+        return violationCount == 0;
+    }
+
+    public String summary() {
+        StringBuilder summary = new StringBuilder()
+                .append("IDs referenciados: ").append(referencedCharacters).append(" personajes, ")
+                .append(referencedLocations).append(" ubicaciones, ")
+                .append(referencedEpisodes).append(" episodios").append(System.lineSeparator())
+                .append("Peticiones múltiples: ").append(requests).append(System.lineSeparator())
+                .append("Violaciones: ").append(violationCount).append(System.lineSeparator());
+        violations.forEach(violation -> summary.append("  - ").append(violation).append(System.lineSeparator()));
+        if (violationCount > violations.size()) {
+            summary.append("  ... y ").append(violationCount - violations.size()).append(" más").append(System.lineSeparator());
+        }
+        return summary.toString();
+    }
+}
@@ -0,0 +1,241 @@
+package com.rickandmorty.api.catalog;
+
+import com.rickandmorty.api.config.ApiConfig;
+import com.rickandmorty.api.models.Character;
+import com.rickandmorty.api.models.Episode;
+import com.rickandmorty.api.models.Location;
+import com.rickandmorty.api.pages.CharacterPage;
+import com.rickandmorty.api.pages.EpisodePage;
+import com.rickandmorty.api.pages.LocationPage;
+import io.restassured.response.Response;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Verifica la integridad referencial de un {@link Catalog} completo.
+ *
+ * <p>Primero reúne en un {@link BitSet} por recurso los IDs distintos que aparecen en
+ * {@code Episode.characters}, {@code Location.residents}, {@code Character.episode},
+ * {@code Character.origin.url} y {@code Character.location.url}; después los resuelve contra la API
+ * con consultas múltiples ({@code getMultipleCharacters} etc.) de {@code batchSize} IDs, en paralelo.
+ * Con el catálogo completo son unas pocas peticiones en lugar de una por URL. Por último comprueba con
+ * un {@link RelationshipIndex} que las relaciones personaje ↔ episodio y personaje ↔ ubicación sean
+ * simétricas.</p>
+ */
+public class IntegrityVerifier {
+    static final int MAX_REPORTED_VIOLATIONS = 50;
+
+    // Hilos de plataforma, no virtuales: ver AsyncRequests
+    private static final ThreadFactory WORKERS = Thread.ofPlatform().name("integrity-", 0).daemon().factory();
+
+    private final CharacterPage characterPage = new CharacterPage();
+    private final LocationPage locationPage = new LocationPage();
+    private final EpisodePage episodePage = new EpisodePage();
+    private final int parallelism;
+    private final int batchSize;
+
+    public IntegrityVerifier() {
+        this(ApiConfig.getCrawlerParallelism(), ApiConfig.getIntegrityBatchSize());
+    }
+
+    public IntegrityVerifier(int parallelism, int batchSize) {
+        if (parallelism < 1 || batchSize < 1) {
+            throw new IllegalArgumentException("El paralelismo y el tamaño de lote deben ser al menos 1");
+        }
+        this.parallelism = parallelism;
+        this.batchSize = batchSize;
+    }
+
+    public IntegrityReport verify(Catalog catalog) {
+        Violations violations = new Violations();
+        BitSet characters = new BitSet();
+        BitSet locations = new BitSet();
+        BitSet episodes = new BitSet();
+
+        for (Character character : catalog.characters()) {
+            String owner = "Personaje " + character.getId();
+            for (String url : orEmpty(character.getEpisode())) {
+                reference(episodes, url, "episode", owner + ".episode", violations);
+            }
+            // "unknown" se publica con URL vacía y no es una referencia
+            if (character.getOrigin() != null && !isEmpty(character.getOrigin().getUrl())) {
+                reference(locations, character.getOrigin().getUrl(), "location", owner + ".origin", violations);
+            }
+            if (character.getLocation() != null && !isEmpty(character.getLocation().getUrl())) {
+                reference(locations, character.getLocation().getUrl(), "location", owner + ".location", violations);
+            }
+        }
+        for (Episode episode : catalog.episodes()) {
+            for (String url : orEmpty(episode.getCharacters())) {
+                reference(characters, url, "character", "Episodio " + episode.getId() + ".characters", violations);
+            }
+        }
+        for (Location location : catalog.locations()) {
+            for (String url : orEmpty(location.getResidents())) {
+                reference(characters, url, "character", "Ubicación " + location.getId() + ".residents", violations);
+            }
+        }
+
+        AtomicInteger requests = new AtomicInteger();
+        BitSet existingCharacters;
+        BitSet existingLocations;
+        BitSet existingEpisodes;
+        try (ExecutorService executor = Executors.newFixedThreadPool(parallelism, WORKERS)) {
+            List<CompletableFuture<BitSet>> characterBatches = resolve(characters, characterPage::getMultipleCharacters, executor, requests);
+            List<CompletableFuture<BitSet>> locationBatches = resolve(locations, locationPage::getMultipleLocations, executor, requests);
+            List<CompletableFuture<BitSet>> episodeBatches = resolve(episodes, episodePage::getMultipleEpisodes, executor, requests);
+            existingCharacters = merge(characterBatches);
+            existingLocations = merge(locationBatches);
+            existingEpisodes = merge(episodeBatches);
+        }
+        reportMissing(characters, existingCharacters, "character", violations);
+        reportMissing(locations, existingLocations, "location", violations);
+        reportMissing(episodes, existingEpisodes, "episode", violations);
+
+        checkSymmetry(RelationshipIndex.build(catalog), catalog, existingCharacters, existingLocations,
+                existingEpisodes, violations);
+
+        return new IntegrityReport(characters.cardinality(), locations.cardinality(), episodes.cardinality(),
+                requests.get(), violations.count, violations.messages);
+    }
+
+    private static void reference(BitSet ids, String url, String resource, String owner, Violations violations) {
+        int id = ResourceUrls.id(url, resource);
+        if (id == 0) {
+            violations.add(owner + ": URL inválida para " + resource + ": " + url);
+        } else {
+            ids.set(id);
+        }
+    }
+
+    // Divide los IDs en lotes y pide cada lote con una consulta múltiple; cada futuro devuelve los IDs encontrados
+    private List<CompletableFuture<BitSet>> resolve(BitSet ids, Function<List<Integer>, Response> fetcher,
+                                                    ExecutorService executor, AtomicInteger requests) {
+        List<CompletableFuture<BitSet>> batches = new ArrayList<>();
+        List<Integer> batch = new ArrayList<>(batchSize);
+        for (int id = ids.nextSetBit(0); id >= 0; id = ids.nextSetBit(id + 1)) {
+            batch.add(id);
+            if (batch.size() == batchSize) {
+                batches.add(submit(List.copyOf(batch), fetcher, executor, requests));
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            batches.add(submit(List.copyOf(batch), fetcher, executor, requests));
+        }
+        return batches;
+    }
+
+    private static CompletableFuture<BitSet> submit(List<Integer> batch, Function<List<Integer>, Response> fetcher,
+                                                    ExecutorService executor, AtomicInteger requests) {
+        return CompletableFuture.supplyAsync(() -> {
+            requests.incrementAndGet();
+            Response response = fetcher.apply(batch);
+            BitSet found = new BitSet();
+            if (response.getStatusCode() == 404) {
+                return found;
+            }
+            if (response.getStatusCode() != 200) {
+                throw new IllegalStateException("La consulta múltiple respondió con estado " + response.getStatusCode());
+            }
+            // Con un solo ID la API devuelve el objeto en lugar de un arreglo
+            Object ids = response.jsonPath().get("id");
+            if (ids instanceof List<?> list) {
+                list.forEach(id -> found.set(((Number) id).intValue()));
+            } else if (ids instanceof Number id) {
+                found.set(id.intValue());
+            }
+            return found;
+        }, executor);
+    }
+
+    private static BitSet merge(List<CompletableFuture<BitSet>> batches) {
+        BitSet merged = new BitSet();
+        for (CompletableFuture<BitSet> batch : batches) {
+            try {
+                merged.or(batch.join());
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+        return merged;
+    }
+
+    private static void reportMissing(BitSet referenced, BitSet existing, String resource, Violations violations) {
+        BitSet missing = (BitSet) referenced.clone();
+        missing.andNot(existing);
+        for (int id = missing.nextSetBit(0); id >= 0; id = missing.nextSetBit(id + 1)) {
+            violations.add("Se referencia " + resource + "/" + id + " pero la API no lo devuelve");
+        }
+    }
+
+    // Solo se comparan relaciones entre entidades que existen; las demás ya se reportaron como faltantes
+    private static void checkSymmetry(RelationshipIndex index, Catalog catalog, BitSet characters, BitSet locations,
+                                      BitSet episodes, Violations violations) {
+        for (Character character : catalog.characters()) {
+            int characterId = character.getId();
+            index.characterEpisodes().forEach(characterId, episodeId -> {
+                if (episodes.get(episodeId) && !index.episodeCharacters().hasEdge(episodeId, characterId)) {
+                    violations.add("Personaje " + characterId + " aparece en el episodio " + episodeId
+                            + ", pero el episodio no lo incluye");
+                }
+            });
+            int locationId = index.locationOf(characterId);
+            if (locationId != 0 && locations.get(locationId) && !index.locationResidents().hasEdge(locationId, characterId)) {
+                violations.add("Personaje " + characterId + " está en la ubicación " + locationId
+                        + ", pero no figura entre sus residentes");
+            }
+        }
+        for (Episode episode : catalog.episodes()) {
+            int episodeId = episode.getId();
+            index.episodeCharacters().forEach(episodeId, characterId -> {
+                if (characters.get(characterId) && !index.characterEpisodes().hasEdge(characterId, episodeId)) {
+                    violations.add("Episodio " + episodeId + " incluye al personaje " + characterId
+                            + ", pero el personaje no lo menciona");
+                }
+            });
+        }
+        for (Location location : catalog.locations()) {
+            int locationId = location.getId();
+            index.locationResidents().forEach(locationId, characterId -> {
+                if (characters.get(characterId) && index.locationOf(characterId) != locationId) {
+                    violations.add("Ubicación " + locationId + " incluye al residente " + characterId
+                            + ", pero su ubicación actual es " + index.locationOf(characterId));
+                }
+            });
+        }
+    }
+
+    private static boolean isEmpty(String value) {
+        return value == null || value.isEmpty();
+    }
+
+    private static String[] orEmpty(String[] urls) {
+        return urls == null ? new String[0] : urls;
+    }
+
+    // Cuenta todas las violaciones pero guarda solo las primeras para el informe
+    private static final class Violations {
+        private final List<String> messages = new ArrayList<>();
+        private long count;
+
+        private void add(String message) {
+            count++;
+            if (messages.size() < MAX_REPORTED_VIOLATIONS) {
+                messages.add(message);
+            }
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.rickandmorty.api.catalog;
+
+import com.rickandmorty.api.models.Character;
+import com.rickandmorty.api.models.Episode;
+import com.rickandmorty.api.models.Location;
+
+import java.util.Arrays;
+
+/**
+ * Índice en memoria de las relaciones entre personajes, episodios y ubicaciones, construido una vez
+ * a partir de un {@link Catalog}.
+ *
+ * <p>Cada sentido se construye con los datos que publica la propia API: personaje → episodios desde
+ * {@code Character.episode}, episodio → personajes desde {@code Episode.characters}, personaje →
+ * ubicación desde {@code Character.location} y ubicación → residentes desde {@code Location.residents}.
+ * Así el índice también sirve para comparar ambos sentidos. Las URLs se reducen a IDs enteros y las
+ * relaciones se guardan como {@link Adjacency} (arreglos primitivos), sin objetos por arista.</p>
+ */
+public final class RelationshipIndex {
+    private static final int NONE = 0;
+
+    private final Adjacency characterEpisodes;
+    private final Adjacency episodeCharacters;
+    private final Adjacency locationResidents;
+    private final Adjacency locationCharacters;
+    private final int[] characterLocation;
+    private final int[] characterOrigin;
+
+    private RelationshipIndex(Adjacency characterEpisodes, Adjacency episodeCharacters,
+                              Adjacency locationResidents, Adjacency locationCharacters,
+                              int[] characterLocation, int[] characterOrigin) {
+        this.characterEpisodes = characterEpisodes;
+        this.episodeCharacters = episodeCharacters;
+        this.locationResidents = locationResidents;
+        this.locationCharacters = locationCharacters;
+        this.characterLocation = characterLocation;
+        this.characterOrigin = characterOrigin;
+    }
+
+    public static RelationshipIndex build(Catalog catalog) {
+        int maxCharacter = catalog.characters().stream().mapToInt(Character::getId).max().orElse(0);
+        int maxLocation = catalog.locations().stream().mapToInt(Location::getId).max().orElse(0);
+        int maxEpisode = catalog.episodes().stream().mapToInt(Episode::getId).max().orElse(0);
+
+        int[] characterLocation = new int[maxCharacter + 1];
+        int[] characterOrigin = new int[maxCharacter + 1];
+        Adjacency.Builder characterEpisodes = Adjacency.builder(maxCharacter);
+        Adjacency.Builder locationCharacters = Adjacency.builder(maxLocation);
+        for (Character character : catalog.characters()) {
+            int id = character.getId();
+            for (String episode : orEmpty(character.getEpisode())) {
+                characterEpisodes.add(id, ResourceUrls.id(episode));
+            }
+            characterLocation[id] = character.getLocation() == null ? NONE : ResourceUrls.id(character.getLocation().getUrl());
+            characterOrigin[id] = character.getOrigin() == null ? NONE : ResourceUrls.id(character.getOrigin().getUrl());
+            // Una ubicación que no está en el catálogo se descarta aquí; la detecta la verificación de integridad
+            if (characterLocation[id] != NONE && characterLocation[id] <= maxLocation) {
+                locationCharacters.add(characterLocation[id], id);
+            }
+        }
+
+        Adjacency.Builder episodeCharacters = Adjacency.builder(maxEpisode);
+        for (Episode episode : catalog.episodes()) {
+            for (String character : orEmpty(episode.getCharacters())) {
+                episodeCharacters.add(episode.getId(), ResourceUrls.id(character));
+            }
+        }
+
+        Adjacency.Builder locationResidents = Adjacency.builder(maxLocation);
+        for (Location location : catalog.locations()) {
+            for (String resident : orEmpty(location.getResidents())) {
+                locationResidents.add(location.getId(), ResourceUrls.id(resident));
+            }
+        }
+
+        return new RelationshipIndex(characterEpisodes.build(), episodeCharacters.build(),
+                locationResidents.build(), locationCharacters.build(), characterLocation, characterOrigin);
+    }
+
+    public Adjacency characterEpisodes() {
+        return characterEpisodes;
+    }
+
+    public Adjacency episodeCharacters() {
+        return episodeCharacters;
+    }
+
+    public Adjacency locationResidents() {
+        return locationResidents;
+    }
+
+    // Personajes cuyo Character.location apunta a la ubicación (el inverso de locationOf)
+    public Adjacency locationCharacters() {
+        return locationCharacters;
+    }
+
+    public int[] episodesOf(int characterId) {
+        return characterEpisodes.neighbours(characterId);
+    }
+
+    public int[] charactersIn(int episodeId) {
+        return episodeCharacters.neighbours(episodeId);
+    }
+
+    public int[] residentsOf(int locationId) {
+        return locationResidents.neighbours(locationId);
+    }
+
+    // Ubicación actual del personaje; 0 si es desconocida
+    public int locationOf(int characterId) {
+        return characterId > 0 && characterId < characterLocation.length ? characterLocation[characterId] : NONE;
+    }
+
+    // Ubicación de origen del personaje; 0 si es desconocida
+    public int originOf(int characterId) {
+        return characterId > 0 && characterId < characterOrigin.length ? characterOrigin[characterId] : NONE;
+    }
+
+    // Los demás residentes de la ubicación actual del personaje
+    public int[] coResidentsOf(int characterId) {
+        int[] residents = residentsOf(locationOf(characterId));
+        return Arrays.stream(residents).filter(resident -> resident != characterId).toArray();
+    }
+
+    // Episodios en los que aparecen ambos personajes (intersección de dos filas ordenadas)
+    public int[] sharedEpisodes(int characterId, int otherCharacterId) {
+        int[] first = episodesOf(characterId);
+        int[] second = episodesOf(otherCharacterId);
+        int[] shared = new int[Math.min(first.length, second.length)];
+        int count = 0;
+        for (int i = 0, j = 0; i < first.length && j < second.length; ) {
+            if (first[i] < second[j]) {
+                i++;
+            } else if (first[i] > second[j]) {
+                j++;
+            } else {
+                shared[count++] = first[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(shared, count);
+    }
+
+    private static String[] orEmpty(String[] urls) {
+        return urls == null ? new String[0] : urls;
+    }
+}
@@ -0,0 +1,53 @@
+package com.rickandmorty.api.catalog;
+
+// Utilidades para las URLs de recursos de la API (https://.../api/character/1)
+public final class ResourceUrls {
+
+    private ResourceUrls() {
+    }
+
+    // ID numérico final de la URL, sin crear subcadenas; 0 si la URL está vacía o no termina en un ID
+    public static int id(String url) {
+        if (url == null) {
+            return 0;
+        }
+        int id = 0;
+        int multiplier = 1;
+        for (int i = url.length() - 1; i >= 0; i--) {
+            char c = url.charAt(i);
+            if (c == '/') {
+                return multiplier == 1 ? 0 : id;
+            }
+            if (c < '0' || c > '9') {
+                return 0;
+            }
+            id += (c - '0') * multiplier;
+            multiplier *= 10;
+        }
+        return 0;
+    }
+
+    // Como id(url), pero exige que la URL apunte al recurso indicado (".../episode/28" para "episode")
+    public static int id(String url, String resource) {
+        int id = id(url);
+        if (id == 0) {
+            return 0;
+        }
+        int slash = url.lastIndexOf('/');
+        int start = slash - resource.length();
+        boolean matches = start > 0 && url.charAt(start - 1) == '/' && url.startsWith(resource, start);
+        return matches ? id : 0;
+    }
+
+    // IDs de un arreglo de URLs, en el mismo orden
+    public static int[] ids(String[] urls) {
+        if (urls == null) {
+            return new int[0];
+        }
+        int[] ids = new int[urls.length];
+        for (int i = 0; i < urls.length; i++) {
+            ids[i] = id(urls[i]);
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,50 @@
+package com.rickandmorty.api.catalog;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Resultado de {@link IncrementalValidator}: por recurso, cuántas entidades son nuevas, cambiaron,
+ * desaparecieron o siguen igual respecto a la ejecución anterior, cuántas se volvieron a validar y las
+ * violaciones vigentes (las reutilizadas incluidas), con el formato {@code recurso/id: mensaje}.
+ */
+public record ValidationDelta(Map<String, Counts> counts, List<String> violations, long elapsedMillis) {
+
+    public record Counts(int added, int changed, int removed, int unchanged, int revalidated) {
+    }
+
+    public ValidationDelta {
+        counts = Map.copyOf(counts);
+        violations = List.copyOf(violations);
+    }
+
+    public int revalidated() {
+        return counts.values().stream().mapToInt(Counts::revalidated).sum();
+    }
+
+    public int total() {
+        return counts.values().stream().mapToInt(count -> count.added() + count.changed() + count.unchanged()).sum();
+    }
+
+    public boolean isValid() {
+        return violations.isEmpty();
+    }
+
+    public String summary() {
+        StringBuilder summary = new StringBuilder(String.format(Locale.ROOT, "%-10s %7s %9s %10s %9s %12s%n",
+                "Recurso", "Nuevas", "Cambiadas", "Eliminadas", "Iguales", "Revalidadas"));
+        for (String resource : List.of("character", "location", "episode")) {
+            Counts count = counts.get(resource);
+            if (count != null) {
+                summary.append(String.format(Locale.ROOT, "%-10s %7d %9d %10d %9d %12d%n", resource,
+                        count.added(), count.changed(), count.removed(), count.unchanged(), count.revalidated()));
+            }
+        }
+        summary.append(String.format(Locale.ROOT, "Revalidadas %d de %d entidades en %d ms; violaciones: %d%n",
+                revalidated(), total(), elapsedMillis, violations.size()));
+        violations.stream().limit(IntegrityVerifier.MAX_REPORTED_VIOLATIONS)
+                .forEach(violation -> summary.append("  - ").append(violation).append(System.lineSeparator()));
+        return summary.toString();
+    }
+}
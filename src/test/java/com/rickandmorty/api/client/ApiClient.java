@@ -0,0 +1,148 @@
+package com.rickandmorty.api.client;
+
+import com.rickandmorty.api.config.ApiConfig;
+import com.rickandmorty.api.jfr.JfrEventFilter;
+import com.rickandmorty.api.models.ModelMapper;
+import com.rickandmorty.api.reporting.AttachmentStore;
+import com.rickandmorty.api.reporting.SuiteReport;
+import io.qameta.allure.restassured.AllureRestAssured;
+import io.restassured.config.HttpClientConfig;
+import io.restassured.config.ObjectMapperConfig;
+import io.restassured.config.RestAssuredConfig;
+import io.restassured.filter.Filter;
+import io.restassured.specification.RequestSpecification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static io.restassured.RestAssured.given;
+
+/**
+ * Cliente compartido por los page objects: construye cada petición con la cadena de filtros
+ * configurada. El orden de la lista es el orden de ejecución (el primero envuelve a los demás).
+ *
+ * <p>Es seguro usarlo desde varios hilos: la configuración y los filtros se crean una sola vez y son
+ * inmutables, y cada llamada a {@link #request()} devuelve una especificación nueva.</p>
+ */
+public final class ApiClient {
+    private static final ConnectionMetrics CONNECTION_METRICS = new ConnectionMetrics();
+
+    private static ResponseCache responseCache;
+    private static CoalescingFilter coalescingFilter;
+    private static CassetteFilter cassetteFilter;
+    private static RateLimitFilter rateLimitFilter;
+    private static TimingBreakdown timingBreakdown;
+    private static List<Filter> filters;
+    private static RestAssuredConfig config;
+
+    private ApiClient() {
+    }
+
+    public static RequestSpecification request() {
+        return given().config(config()).filters(filters());
+    }
+
+    // Mismo cliente HTTP (pool e interceptores de tiempos) pero sin la cadena de filtros: para medir un
+    // filtro propio sin que la caché, la agrupación o el desglose compartido respondan o lo envuelvan
+    public static RequestSpecification unfilteredRequest() {
+        return given().config(config());
+    }
+
+    public static ConnectionMetrics getConnectionMetrics() {
+        return CONNECTION_METRICS;
+    }
+
+    // Cierra el ciclo de la suite: persiste la cassette, publica métricas y reinicia la configuración
+    public static synchronized void finish() {
+        if (cassetteFilter != null) {
+            cassetteFilter.save();
+        }
+        if (responseCache != null && responseCache.hasActivity()) {
+            SuiteReport.publish("Caché de respuestas", responseCache.summary());
+        }
+        if (coalescingFilter != null && coalescingFilter.hasActivity()) {
+            SuiteReport.publish("Peticiones agrupadas", coalescingFilter.summary());
+        }
+        if (rateLimitFilter != null && rateLimitFilter.hasActivity()) {
+            SuiteReport.publish("Limitador de peticiones", rateLimitFilter.summary());
+        }
+        if (timingBreakdown != null && timingBreakdown.hasActivity()) {
+            SuiteReport.publish("Desglose de tiempos por endpoint", timingBreakdown.summary(), timingBreakdown.csv());
+        }
+        AttachmentStore attachments = AttachmentStore.finish();
+        if (attachments != null && attachments.hasActivity()) {
+            SuiteReport.publish("Adjuntos de Allure", attachments.summary());
+        }
+        if (config != null) {
+            PooledHttpClientFactory.shutdown(config.getHttpClientConfig().httpClientInstance());
+            if (CONNECTION_METRICS.getRequests() > 0) {
+                SuiteReport.publish("Pool de conexiones HTTP", CONNECTION_METRICS.summary());
+            }
+        }
+        responseCache = null;
+        coalescingFilter = null;
+        cassetteFilter = null;
+        rateLimitFilter = null;
+        timingBreakdown = null;
+        filters = null;
+        config = null;
+    }
+
+    // Un único cliente HTTP con pool keep-alive para toda la suite
+    private static synchronized RestAssuredConfig config() {
+        if (config == null) {
+            HttpClientConfig httpClientConfig = HttpClientConfig.httpClientConfig()
+                    .httpClientFactory(new PooledHttpClientFactory(ApiConfig.getMaxConnections(),
+                            ApiConfig.getMaxConnectionsPerRoute(), ApiConfig.getKeepAliveMillis(),
+                            ApiConfig.getConnectTimeoutMillis(), ApiConfig.getReadTimeoutMillis(), CONNECTION_METRICS))
+                    .reuseHttpClientInstance();
+            // response.as(...) y jsonPath().getObject(...) usan los deserializadores generados de los modelos
+            ObjectMapperConfig objectMapperConfig = ObjectMapperConfig.objectMapperConfig()
+                    .jackson2ObjectMapperFactory((type, charset) -> ModelMapper.get());
+            config = RestAssuredConfig.config().httpClient(httpClientConfig).objectMapperConfig(objectMapperConfig);
+        }
+        return config;
+    }
+
+    private static synchronized List<Filter> filters() {
+        if (filters == null) {
+            List<Filter> chain = new ArrayList<>();
+            // Allure asocia cada petición a la prueba del hilo actual, también en modo paralelo
+            // Con el almacén, los adjuntos se guardan por contenido y se escriben en segundo plano
+            chain.add(ApiConfig.isAttachmentStoreEnabled()
+                    ? new AttachmentFilter(AttachmentStore.shared())
+                    : new AllureRestAssured());
+            // Un evento por llamada del page object, tanto si llega a la red como si no
+            if (ApiConfig.isJfrEnabled()) {
+                chain.add(new JfrEventFilter());
+            }
+            if (ApiConfig.isCacheEnabled()) {
+                responseCache = new ResponseCache(ApiConfig.getCacheMaxEntries());
+                chain.add(responseCache);
+            }
+            // Tras la caché: solo las peticiones que no se resuelven en memoria llegan a agruparse
+            if (ApiConfig.isCoalescingEnabled()) {
+                coalescingFilter = new CoalescingFilter();
+                chain.add(coalescingFilter);
+            }
+            ApiConfig.CassetteMode cassetteMode = ApiConfig.getCassetteMode();
+            if (cassetteMode != ApiConfig.CassetteMode.OFF) {
+                cassetteFilter = new CassetteFilter(cassetteMode, ApiConfig.getCassettePath());
+                chain.add(cassetteFilter);
+            }
+            // Solo mide las peticiones que llegan a la red; incluye la espera del limitador
+            if (ApiConfig.isTimingEnabled()) {
+                timingBreakdown = new TimingBreakdown();
+                chain.add(timingBreakdown);
+            }
+            chain.add(new BodyDrainFilter());
+            // Último: sus reintentos no pasan por la caché ni la cassette, y solo se graba la respuesta final
+            if (ApiConfig.isRateLimitEnabled()) {
+                rateLimitFilter = RateLimitFilter.fromConfig();
+                chain.add(rateLimitFilter);
+            }
+            filters = List.copyOf(chain);
+        }
+        return filters;
+    }
+}
@@ -0,0 +1,96 @@
+package com.rickandmorty.api.client;
+
+import com.rickandmorty.api.reporting.AttachmentStore;
+import io.qameta.allure.attachment.AttachmentContent;
+import io.qameta.allure.attachment.AttachmentData;
+import io.qameta.allure.attachment.FreemarkerAttachmentRenderer;
+import io.qameta.allure.attachment.http.HttpRequestAttachment;
+import io.qameta.allure.attachment.http.HttpResponseAttachment;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.internal.NameAndValue;
+import io.restassured.internal.support.Prettifier;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Adjunta a Allure cada petición y su respuesta con las mismas plantillas que {@code AllureRestAssured},
+ * pero a través de {@link AttachmentStore}: los cuerpos largos se recortan y todo se guarda por
+ * contenido y se escribe en segundo plano.
+ *
+ * <p>El cuerpo va en un adjunto propio, separado de la línea de estado y las cabeceras: estas cambian
+ * en cada respuesta ({@code Date}, identificadores de petición) y, juntas, impedirían reconocer dos
+ * veces el mismo cuerpo.</p>
+ *
+ * <p>Conserva el orden de {@code AllureRestAssured} (el último de la cadena), así que ve la petición
+ * tal como sale y la respuesta del servidor, no la de la caché o la cassette.</p>
+ */
+public final class AttachmentFilter implements OrderedFilter {
+    private static final FreemarkerAttachmentRenderer REQUEST = new FreemarkerAttachmentRenderer("http-request.ftl");
+    private static final FreemarkerAttachmentRenderer RESPONSE = new FreemarkerAttachmentRenderer("http-response.ftl");
+
+    private final AttachmentStore store;
+
+    public AttachmentFilter(AttachmentStore store) {
+        this.store = store;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        Prettifier prettifier = new Prettifier();
+        HttpRequestAttachment.Builder request = HttpRequestAttachment.Builder.create("Request", requestSpec.getURI())
+                .setMethod(requestSpec.getMethod())
+                .setHeaders(toMap(requestSpec.getHeaders()))
+                .setCookies(toMap(requestSpec.getCookies()));
+        attach(request.build(), REQUEST);
+        if (requestSpec.getBody() != null) {
+            attachBody("Request body", requestSpec.getContentType(), prettifier.getPrettifiedBodyIfPossible(requestSpec));
+        }
+
+        Response response = ctx.next(requestSpec, responseSpec);
+        String name = response.getStatusLine() != null ? response.getStatusLine() : "Response";
+        attach(HttpResponseAttachment.Builder.create(name)
+                .setResponseCode(response.getStatusCode())
+                .setHeaders(toMap(response.getHeaders()))
+                .build(), RESPONSE);
+        attachBody("Response body", response.getContentType(),
+                prettifier.getPrettifiedBodyIfPossible(response, response.getBody()));
+        return response;
+    }
+
+    @Override
+    public int getOrder() {
+        return Integer.MAX_VALUE;
+    }
+
+    private void attach(AttachmentData data, FreemarkerAttachmentRenderer renderer) {
+        AttachmentContent content = renderer.render(data);
+        store.add(data.getName(), content.getContentType(), content.getFileExtension(),
+                content.getContent().getBytes(StandardCharsets.UTF_8));
+    }
+
+    // JSON se muestra en línea en Allure; cualquier otro contenido, y un JSON recortado (ya no es
+    // válido y el visor no lo mostraría), como texto
+    private void attachBody(String name, String contentType, String body) {
+        if (body == null || body.isEmpty()) {
+            return;
+        }
+        String shown = store.truncate(body);
+        boolean json = contentType != null && contentType.contains("json") && shown.equals(body);
+        store.add(name, json ? "application/json" : "text/plain", json ? ".json" : ".txt",
+                shown.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Map<String, String> toMap(Iterable<? extends NameAndValue> values) {
+        Map<String, String> map = new HashMap<>();
+        values.forEach(value -> map.put(value.getName(), value.getValue()));
+        return map;
+    }
+}
@@ -0,0 +1,24 @@
+package com.rickandmorty.api.client;
+
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+/**
+ * Lee el cuerpo completo en cuanto llega la respuesta. Con un cliente reutilizado, RestAssured solo
+ * devuelve la conexión al pool al consumir el cuerpo; sin esto, las pruebas que solo miran el código
+ * de estado dejarían conexiones retenidas hasta agotar el pool.
+ */
+final class BodyDrainFilter implements Filter {
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        Response response = ctx.next(requestSpec, responseSpec);
+        response.asByteArray();
+        return response;
+    }
+}
@@ -0,0 +1,196 @@
+package com.rickandmorty.api.client;
+
+import io.restassured.http.Header;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Archivo de interacciones grabadas, indexado y mapeado en memoria.
+ *
+ * <p>Formato (big-endian):</p>
+ * <pre>
+ * cabecera : magic "RMCASSET" | versión (int) | cantidad (int)
+ * índice   : cantidad × [hash de la clave (long) | offset del registro (long)], ordenado por hash
+ * registros: clave | estado (int) | línea de estado | nº headers (int) | [nombre | valor]* | cuerpo
+ * </pre>
+ * <p>Cada cadena o cuerpo se guarda como longitud (int) seguida de los bytes. Abrir la cassette solo
+ * mapea el archivo; un registro se decodifica cuando se busca su clave (búsqueda binaria en el índice).</p>
+ */
+public final class Cassette {
+    private static final byte[] MAGIC = "RMCASSET".getBytes(StandardCharsets.US_ASCII);
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = MAGIC.length + Integer.BYTES * 2;
+    private static final int INDEX_ENTRY_SIZE = Long.BYTES * 2;
+
+    private final Path path;
+    private final MappedByteBuffer buffer;
+    private final int count;
+
+    private Cassette(Path path, MappedByteBuffer buffer, int count) {
+        this.path = path;
+        this.buffer = buffer;
+        this.count = count;
+    }
+
+    public static Cassette open(Path path) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            byte[] magic = new byte[MAGIC.length];
+            buffer.get(0, magic);
+            if (!Arrays.equals(magic, MAGIC)) {
+                throw new IllegalStateException(path + " no es una cassette válida");
+            }
+            int version = buffer.getInt(MAGIC.length);
+            if (version != VERSION) {
+                throw new IllegalStateException("Versión de cassette no soportada: " + version + " en " + path);
+            }
+            return new Cassette(path, buffer, buffer.getInt(MAGIC.length + Integer.BYTES));
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo abrir la cassette " + path, e);
+        }
+    }
+
+    public static void write(Path path, Map<String, ResponseSnapshot> interactions) {
+        List<Map.Entry<String, ResponseSnapshot>> entries = new ArrayList<>(interactions.entrySet());
+        entries.sort(Comparator.<Map.Entry<String, ResponseSnapshot>>comparingLong(entry -> hash(entry.getKey()))
+                .thenComparing(Map.Entry::getKey));
+
+        try {
+            ByteArrayOutputStream records = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(records);
+            long[] offsets = new long[entries.size()];
+            long recordsStart = HEADER_SIZE + (long) entries.size() * INDEX_ENTRY_SIZE;
+            for (int i = 0; i < entries.size(); i++) {
+                offsets[i] = recordsStart + out.size();
+                ResponseSnapshot snapshot = entries.get(i).getValue();
+                writeBytes(out, entries.get(i).getKey().getBytes(StandardCharsets.UTF_8));
+                out.writeInt(snapshot.getStatusCode());
+                writeBytes(out, snapshot.getStatusLine().getBytes(StandardCharsets.UTF_8));
+                out.writeInt(snapshot.getHeaders().size());
+                for (Header header : snapshot.getHeaders()) {
+                    writeBytes(out, header.getName().getBytes(StandardCharsets.UTF_8));
+                    writeBytes(out, header.getValue().getBytes(StandardCharsets.UTF_8));
+                }
+                writeBytes(out, snapshot.getBody());
+            }
+
+            ByteBuffer head = ByteBuffer.allocate((int) recordsStart);
+            head.put(MAGIC).putInt(VERSION).putInt(entries.size());
+            for (int i = 0; i < entries.size(); i++) {
+                head.putLong(hash(entries.get(i).getKey())).putLong(offsets[i]);
+            }
+            head.flip();
+
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                channel.write(head);
+                channel.write(ByteBuffer.wrap(records.toByteArray()));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo escribir la cassette " + path, e);
+        }
+    }
+
+    public Optional<ResponseSnapshot> find(String key) {
+        long hash = hash(key);
+        int low = 0;
+        int high = count - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long midHash = indexHash(mid);
+            if (midHash < hash) {
+                low = mid + 1;
+            } else if (midHash > hash) {
+                high = mid - 1;
+            } else {
+                // Ante colisiones de hash se recorren las entradas vecinas comparando la clave completa
+                int first = mid;
+                while (first > 0 && indexHash(first - 1) == hash) {
+                    first--;
+                }
+                byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+                for (int i = first; i < count && indexHash(i) == hash; i++) {
+                    ResponseSnapshot snapshot = readIfKeyMatches(indexOffset(i), keyBytes);
+                    if (snapshot != null) {
+                        return Optional.of(snapshot);
+                    }
+                }
+                return Optional.empty();
+            }
+        }
+        return Optional.empty();
+    }
+
+    public int size() {
+        return count;
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    // FNV-1a de 64 bits sobre la clave en UTF-8
+    static long hash(String key) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    private long indexHash(int i) {
+        return buffer.getLong(HEADER_SIZE + i * INDEX_ENTRY_SIZE);
+    }
+
+    private long indexOffset(int i) {
+        return buffer.getLong(HEADER_SIZE + i * INDEX_ENTRY_SIZE + Long.BYTES);
+    }
+
+    private ResponseSnapshot readIfKeyMatches(long offset, byte[] expectedKey) {
+        ByteBuffer record = buffer.duplicate().position((int) offset);
+        byte[] key = readBytes(record);
+        if (!Arrays.equals(key, expectedKey)) {
+            return null;
+        }
+        int statusCode = record.getInt();
+        String statusLine = new String(readBytes(record), StandardCharsets.UTF_8);
+        int headerCount = record.getInt();
+        List<Header> headers = new ArrayList<>(headerCount);
+        for (int i = 0; i < headerCount; i++) {
+            headers.add(new Header(new String(readBytes(record), StandardCharsets.UTF_8),
+                    new String(readBytes(record), StandardCharsets.UTF_8)));
+        }
+        return new ResponseSnapshot(statusCode, statusLine, headers, readBytes(record));
+    }
+
+    private static byte[] readBytes(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    private static void writeBytes(DataOutputStream out, byte[] bytes) throws IOException {
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+}
@@ -0,0 +1,82 @@
+package com.rickandmorty.api.client;
+
+import com.rickandmorty.api.config.ApiConfig;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Graba en una {@link Cassette} cada interacción que pasa por los page objects, o las reproduce sin
+ * abrir ningún socket.
+ *
+ * <p>La clave es el método más la ruta y query relativas a la URL base, de modo que una cassette
+ * grabada contra la API pública se puede reproducir con cualquier otra URL base.</p>
+ */
+public class CassetteFilter implements Filter {
+    private final ApiConfig.CassetteMode mode;
+    private final Path path;
+    private final Map<String, ResponseSnapshot> recorded = new ConcurrentHashMap<>();
+    private volatile Cassette cassette;
+
+    public CassetteFilter(ApiConfig.CassetteMode mode, Path path) {
+        this.mode = mode;
+        this.path = path;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        String key = key(requestSpec);
+        if (mode == ApiConfig.CassetteMode.REPLAY) {
+            long start = System.nanoTime();
+            ResponseSnapshot snapshot = cassette().find(key)
+                    .orElseThrow(() -> new IllegalStateException(
+                            "La cassette " + path + " no contiene la interacción " + key));
+            return snapshot.toResponse(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        }
+
+        Response response = ctx.next(requestSpec, responseSpec);
+        if (mode == ApiConfig.CassetteMode.RECORD) {
+            recorded.putIfAbsent(key, ResponseSnapshot.of(response));
+        }
+        return response;
+    }
+
+    // Persiste lo grabado; en modo replay no hace nada
+    public void save() {
+        if (mode == ApiConfig.CassetteMode.RECORD && !recorded.isEmpty()) {
+            Cassette.write(path, recorded);
+        }
+    }
+
+    static String key(FilterableRequestSpecification requestSpec) {
+        String uri = requestSpec.getURI();
+        String baseUrl = ApiConfig.getBaseUrl();
+        if (uri.startsWith(baseUrl)) {
+            uri = uri.substring(baseUrl.length());
+        }
+        return requestSpec.getMethod() + " " + uri;
+    }
+
+    private Cassette cassette() {
+        Cassette current = cassette;
+        if (current == null) {
+            synchronized (this) {
+                current = cassette;
+                if (current == null) {
+                    current = Cassette.open(path);
+                    cassette = current;
+                }
+            }
+        }
+        return current;
+    }
+}
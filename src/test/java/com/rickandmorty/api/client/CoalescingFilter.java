@@ -0,0 +1,120 @@
+package com.rickandmorty.api.client;
+
+import com.rickandmorty.api.config.ApiConfig;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Agrupa peticiones GET idénticas que están en vuelo a la vez (single-flight).
+ *
+ * <p>El primer hilo que pide una URL la envía; los que llegan mientras tanto esperan esa misma
+ * respuesta y reciben cada uno su propia copia. La entrada se retira al completarse, así que no
+ * guarda nada entre peticiones: es independiente de la caché. Las llamadas dentro de
+ * {@link ResponseCache#bypass} no se agrupan, porque deben llegar al servidor.</p>
+ *
+ * <p>Un seguidor espera como mucho el tiempo de conexión más el de lectura; si la líder falla o
+ * tarda más, envía la petición por su cuenta.</p>
+ */
+public final class CoalescingFilter implements Filter {
+    private final Map<String, CompletableFuture<ResponseSnapshot>> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, Stats> stats = new ConcurrentHashMap<>();
+    private final long followTimeoutMillis;
+
+    public CoalescingFilter() {
+        this(ApiConfig.getConnectTimeoutMillis() + ApiConfig.getReadTimeoutMillis());
+    }
+
+    public CoalescingFilter(long followTimeoutMillis) {
+        this.followTimeoutMillis = followTimeoutMillis;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        if (ResponseCache.isBypassed() || !"GET".equals(requestSpec.getMethod())) {
+            return ctx.next(requestSpec, responseSpec);
+        }
+
+        Stats endpointStats = stats.computeIfAbsent(Endpoint.of(requestSpec).toString(), name -> new Stats());
+        String key = requestSpec.getMethod() + " " + requestSpec.getURI();
+        CompletableFuture<ResponseSnapshot> flight = new CompletableFuture<>();
+        CompletableFuture<ResponseSnapshot> leader = inFlight.putIfAbsent(key, flight);
+        if (leader != null) {
+            return follow(leader, endpointStats, requestSpec, responseSpec, ctx);
+        }
+
+        endpointStats.upstream.increment();
+        try {
+            Response response = ctx.next(requestSpec, responseSpec);
+            flight.complete(ResponseSnapshot.of(response));
+            return response;
+        } catch (Throwable e) {
+            // RestAssured relanza sin envolver excepciones comprobadas (SocketTimeoutException,
+            // ConnectionPoolTimeoutException): sin completar el futuro, los seguidores no saldrían nunca
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    public long getUpstream() {
+        return stats.values().stream().mapToLong(endpointStats -> endpointStats.upstream.sum()).sum();
+    }
+
+    public long getCoalesced() {
+        return stats.values().stream().mapToLong(endpointStats -> endpointStats.coalesced.sum()).sum();
+    }
+
+    public boolean hasActivity() {
+        return getCoalesced() > 0;
+    }
+
+    public String summary() {
+        StringBuilder summary = new StringBuilder(String.format("%-20s %8s %8s%n", "Endpoint", "Enviadas", "Agrupadas"));
+        for (Map.Entry<String, Stats> entry : new TreeMap<>(stats).entrySet()) {
+            summary.append(String.format("%-20s %8d %8d%n", entry.getKey(),
+                    entry.getValue().upstream.sum(), entry.getValue().coalesced.sum()));
+        }
+        summary.append(String.format("Peticiones evitadas: %d%n", getCoalesced()));
+        return summary.toString();
+    }
+
+    // Si la petición líder falla o no termina a tiempo, cada seguidor la envía por su cuenta
+    private Response follow(CompletableFuture<ResponseSnapshot> leader, Stats endpointStats,
+                            FilterableRequestSpecification requestSpec,
+                            FilterableResponseSpecification responseSpec,
+                            FilterContext ctx) {
+        long start = System.nanoTime();
+        ResponseSnapshot snapshot;
+        try {
+            snapshot = leader.get(followTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException | TimeoutException e) {
+            endpointStats.upstream.increment();
+            return ctx.next(requestSpec, responseSpec);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrumpido esperando la petición agrupada " + requestSpec.getURI(), e);
+        }
+        endpointStats.coalesced.increment();
+        return snapshot.toResponse(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    private static final class Stats {
+        private final LongAdder upstream = new LongAdder();
+        private final LongAdder coalesced = new LongAdder();
+    }
+}
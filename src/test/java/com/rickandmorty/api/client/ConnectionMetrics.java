@@ -0,0 +1,74 @@
+package com.rickandmorty.api.client;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Contadores del pool de conexiones: peticiones enviadas, conexiones abiertas y tiempo invertido en
+ * conectar (TCP) y negociar TLS. Con ellos se estima cuánto tiempo ahorró la reutilización.
+ */
+public final class ConnectionMetrics {
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder connections = new LongAdder();
+    private final LongAdder connectNanos = new LongAdder();
+    private final LongAdder handshakes = new LongAdder();
+    private final LongAdder handshakeNanos = new LongAdder();
+
+    void recordRequest() {
+        requests.increment();
+    }
+
+    void recordConnect(long nanos) {
+        connections.increment();
+        connectNanos.add(nanos);
+    }
+
+    void recordHandshake(long nanos) {
+        handshakes.increment();
+        handshakeNanos.add(nanos);
+    }
+
+    public long getRequests() {
+        return requests.sum();
+    }
+
+    public long getConnections() {
+        return connections.sum();
+    }
+
+    // Fracción de peticiones que usaron una conexión ya abierta
+    public double getReuseRate() {
+        long total = getRequests();
+        return total == 0 ? 0 : Math.max(0, total - getConnections()) / (double) total;
+    }
+
+    public long getConnectMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(connectNanos.sum());
+    }
+
+    public long getHandshakeMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(handshakeNanos.sum());
+    }
+
+    // Estimación: cada petición reutilizada se ahorró una conexión (y un handshake) promedio
+    public long getEstimatedSavedMillis() {
+        long opened = getConnections();
+        if (opened == 0) {
+            return 0;
+        }
+        long reused = Math.max(0, getRequests() - opened);
+        double setupNanosPerConnection = (connectNanos.sum() + handshakeNanos.sum()) / (double) opened;
+        return TimeUnit.NANOSECONDS.toMillis((long) (setupNanosPerConnection * reused));
+    }
+
+    public String summary() {
+        return String.format("Peticiones enviadas: %d%n"
+                        + "Conexiones abiertas: %d%n"
+                        + "Tasa de reutilización: %.1f%%%n"
+                        + "Tiempo de conexión TCP: %d ms%n"
+                        + "Handshakes TLS: %d (%d ms)%n"
+                        + "Tiempo ahorrado estimado: %d ms%n",
+                getRequests(), getConnections(), getReuseRate() * 100, getConnectMillis(),
+                handshakes.sum(), getHandshakeMillis(), getEstimatedSavedMillis());
+    }
+}
@@ -0,0 +1,64 @@
+package com.rickandmorty.api.client;
+
+import com.rickandmorty.api.config.ApiConfig;
+import io.restassured.specification.FilterableRequestSpecification;
+
+import java.net.URI;
+import java.util.Locale;
+
+/**
+ * Clasifica una petición por recurso (character, location, episode) y tipo de consulta, para
+ * agrupar métricas y configuración por endpoint, por ejemplo {@code character.single}.
+ */
+public record Endpoint(String resource, Kind kind) {
+
+    public enum Kind {
+        SINGLE, LIST, MULTI, FILTER
+    }
+
+    public static Endpoint of(FilterableRequestSpecification requestSpec) {
+        return of(requestSpec.getURI());
+    }
+
+    public static Endpoint of(String uri) {
+        String path = URI.create(uri).getRawPath();
+        String basePath = URI.create(ApiConfig.getBaseUrl()).getRawPath();
+        if (basePath != null && path.startsWith(basePath)) {
+            path = path.substring(basePath.length());
+        }
+        String[] segments = path.replaceFirst("^/", "").split("/", 2);
+        String resource = segments[0].isEmpty() ? "unknown" : segments[0];
+        String ids = segments.length > 1 ? segments[1] : "";
+
+        Kind kind;
+        if (!ids.isEmpty()) {
+            kind = ids.contains(",") || ids.contains("%2C") || ids.startsWith("[") || ids.startsWith("%5B")
+                    ? Kind.MULTI : Kind.SINGLE;
+        } else {
+            String query = URI.create(uri).getRawQuery();
+            kind = hasFilter(query) ? Kind.FILTER : Kind.LIST;
+        }
+        return new Endpoint(resource, kind);
+    }
+
+    // El parámetro page solo pagina; cualquier otro parámetro con valor cuenta como filtro
+    private static boolean hasFilter(String query) {
+        if (query == null) {
+            return false;
+        }
+        for (String pair : query.split("&")) {
+            int equals = pair.indexOf('=');
+            String name = equals < 0 ? pair : pair.substring(0, equals);
+            String value = equals < 0 ? "" : pair.substring(equals + 1);
+            if (!name.equals("page") && !value.isEmpty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return resource + "." + kind.name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,79 @@
+package com.rickandmorty.api.client;
+
+import org.apache.http.conn.scheme.PlainSocketFactory;
+import org.apache.http.conn.scheme.SchemeLayeredSocketFactory;
+import org.apache.http.conn.scheme.SchemeSocketFactory;
+import org.apache.http.conn.ssl.SSLSocketFactory;
+import org.apache.http.params.HttpParams;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+
+/**
+ * Fábrica de sockets que mide por separado la conexión TCP y el handshake TLS de cada conexión
+ * nueva, tanto en el total del pool como en la traza de la petición que la abre. Las conexiones
+ * reutilizadas del pool no pasan por aquí.
+ *
+ * <p>Implementa la interfaz de sockets de HttpClient 4.x, obsoleta pero la única que acepta el pool
+ * que exige RestAssured (ver {@link PooledHttpClientFactory}).</p>
+ */
+@SuppressWarnings("deprecation")
+class MeteredSocketFactory implements SchemeSocketFactory {
+    private final ConnectionMetrics metrics;
+    protected final SSLSocketFactory tls;
+
+    private MeteredSocketFactory(ConnectionMetrics metrics, SSLSocketFactory tls) {
+        this.metrics = metrics;
+        this.tls = tls;
+    }
+
+    static SchemeSocketFactory plain(ConnectionMetrics metrics) {
+        return new MeteredSocketFactory(metrics, null);
+    }
+
+    static SchemeSocketFactory tls(ConnectionMetrics metrics) {
+        return new Layered(metrics, SSLSocketFactory.getSocketFactory());
+    }
+
+    @Override
+    public Socket createSocket(HttpParams params) throws IOException {
+        return PlainSocketFactory.getSocketFactory().createSocket(params);
+    }
+
+    @Override
+    public Socket connectSocket(Socket socket, InetSocketAddress remoteAddress, InetSocketAddress localAddress,
+                                HttpParams params) throws IOException {
+        long start = System.nanoTime();
+        Socket connected = PlainSocketFactory.getSocketFactory().connectSocket(socket, remoteAddress, localAddress, params);
+        long connectNanos = System.nanoTime() - start;
+        metrics.recordConnect(connectNanos);
+        RequestTrace.connected(connectNanos);
+        if (tls == null) {
+            return connected;
+        }
+        long handshakeStart = System.nanoTime();
+        Socket secured = tls.createLayeredSocket(connected, remoteAddress.getHostName(), remoteAddress.getPort(), params);
+        long handshakeNanos = System.nanoTime() - handshakeStart;
+        metrics.recordHandshake(handshakeNanos);
+        RequestTrace.handshake(handshakeNanos);
+        return secured;
+    }
+
+    @Override
+    public boolean isSecure(Socket socket) {
+        return tls != null;
+    }
+
+    // Variante para https: el operador de conexiones exige una fábrica "layered"
+    private static final class Layered extends MeteredSocketFactory implements SchemeLayeredSocketFactory {
+        private Layered(ConnectionMetrics metrics, SSLSocketFactory tls) {
+            super(metrics, tls);
+        }
+
+        @Override
+        public Socket createLayeredSocket(Socket socket, String target, int port, HttpParams params) throws IOException {
+            return tls.createLayeredSocket(socket, target, port, params);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.rickandmorty.api.client;
+
+import io.restassured.config.HttpClientConfig;
+import org.apache.http.HttpHeaders;
+import org.apache.http.client.HttpClient;
+import org.apache.http.client.params.HttpClientParams;
+import org.apache.http.conn.scheme.Scheme;
+import org.apache.http.conn.scheme.SchemeRegistry;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.apache.http.params.HttpConnectionParams;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Crea el único cliente HTTP que comparten todos los page objects: pool acotado de conexiones
+ * keep-alive y sockets medidos por {@link ConnectionMetrics}. Marca además el envío y la llegada de
+ * los headers para {@link TimingBreakdown}.
+ *
+ * <p>RestAssured solo admite la API 4.x de HttpClient, marcada como obsoleta; todo su uso (creación,
+ * tiempos de espera y cierre del pool) queda en esta clase.</p>
+ */
+final class PooledHttpClientFactory implements HttpClientConfig.HttpClientFactory {
+    private final int maxConnections;
+    private final int maxConnectionsPerRoute;
+    private final long keepAliveMillis;
+    private final int connectTimeoutMillis;
+    private final int readTimeoutMillis;
+    private final ConnectionMetrics metrics;
+
+    PooledHttpClientFactory(int maxConnections, int maxConnectionsPerRoute, long keepAliveMillis,
+                            int connectTimeoutMillis, int readTimeoutMillis, ConnectionMetrics metrics) {
+        this.maxConnections = maxConnections;
+        this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+        this.keepAliveMillis = keepAliveMillis;
+        this.connectTimeoutMillis = connectTimeoutMillis;
+        this.readTimeoutMillis = readTimeoutMillis;
+        this.metrics = metrics;
+    }
+
+    // Cierra las conexiones del pool de un cliente creado por esta fábrica
+    @SuppressWarnings("deprecation")
+    static void shutdown(HttpClient client) {
+        client.getConnectionManager().shutdown();
+    }
+
+    // RestAssured exige un AbstractHttpClient, de ahí el DefaultHttpClient (API 4.x)
+    @Override
+    @SuppressWarnings("deprecation")
+    public HttpClient createHttpClient() {
+        SchemeRegistry schemes = new SchemeRegistry();
+        schemes.register(new Scheme("http", 80, MeteredSocketFactory.plain(metrics)));
+        schemes.register(new Scheme("https", 443, MeteredSocketFactory.tls(metrics)));
+
+        PoolingClientConnectionManager pool = new PoolingClientConnectionManager(
+                schemes, keepAliveMillis, TimeUnit.MILLISECONDS);
+        pool.setMaxTotal(maxConnections);
+        pool.setDefaultMaxPerRoute(maxConnectionsPerRoute);
+
+        DefaultHttpClient client = new DefaultHttpClient(pool);
+        // Conexión, lectura y espera de una conexión libre del pool
+        HttpConnectionParams.setConnectionTimeout(client.getParams(), connectTimeoutMillis);
+        HttpConnectionParams.setSoTimeout(client.getParams(), readTimeoutMillis);
+        HttpClientParams.setConnectionManagerTimeout(client.getParams(), connectTimeoutMillis);
+        client.setKeepAliveStrategy((response, context) -> keepAliveMillis);
+        client.addRequestInterceptor((request, context) -> {
+            request.setHeader(HttpHeaders.CONNECTION, "keep-alive");
+            metrics.recordRequest();
+            RequestTrace.requestSent();
+        });
+        // Los interceptores de respuesta corren con los headers ya leídos y antes de consumir el cuerpo
+        client.addResponseInterceptor((response, context) -> RequestTrace.headersReceived());
+        return client;
+    }
+}
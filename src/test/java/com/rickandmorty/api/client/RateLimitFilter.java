@@ -0,0 +1,145 @@
+package com.rickandmorty.api.client;
+
+import com.rickandmorty.api.config.ApiConfig;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.internal.filter.SendRequestFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Pasa cada petición por un {@link RateLimiter} compartido y reintenta las respuestas 429 y 5xx.
+ *
+ * <p>Entre reintentos espera un tiempo aleatorio entre 0 y {@code base × 2^intento} (acotado por el
+ * máximo), y el limitador respeta además el {@code Retry-After} del servidor. Cada petición dispone
+ * de {@code api.retry.max} reintentos; agotados, o si el servidor pide esperar más que el máximo, se
+ * devuelve la última respuesta tal cual para que la prueba la vea.</p>
+ *
+ * <p>Debe ser el último filtro de la cadena. El primer intento sigue la cadena con {@code ctx.next};
+ * como RestAssured solo permite recorrerla una vez, los reintentos envían la petición con el mismo
+ * filtro interno que la cierra.</p>
+ */
+public final class RateLimitFilter implements Filter {
+    private static final Filter SEND = new SendRequestFilter();
+
+    private final RateLimiter limiter;
+    private final int maxRetries;
+    private final long baseDelayNanos;
+    private final long maxDelayNanos;
+
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder exhausted = new LongAdder();
+
+    public RateLimitFilter(RateLimiter limiter, int maxRetries, long baseDelayMillis, long maxDelayMillis) {
+        this.limiter = limiter;
+        this.maxRetries = maxRetries;
+        this.baseDelayNanos = TimeUnit.MILLISECONDS.toNanos(baseDelayMillis);
+        this.maxDelayNanos = TimeUnit.MILLISECONDS.toNanos(maxDelayMillis);
+    }
+
+    public static RateLimitFilter fromConfig() {
+        return new RateLimitFilter(RateLimiter.fromConfig(), ApiConfig.getRetryMax(),
+                ApiConfig.getRetryBaseDelayMillis(), ApiConfig.getRetryMaxDelayMillis());
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        for (int attempt = 0; ; attempt++) {
+            long issuedAt;
+            try {
+                issuedAt = limiter.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrumpido esperando turno para " + requestSpec.getURI(), e);
+            }
+            Response response = attempt == 0
+                    ? ctx.next(requestSpec, responseSpec)
+                    : SEND.filter(requestSpec, responseSpec, ctx);
+            if (!isRetriable(response.getStatusCode())) {
+                limiter.onSuccess();
+                return response;
+            }
+
+            long retryAfterNanos = retryAfterNanos(response.getHeader("Retry-After"));
+            limiter.onThrottle(issuedAt, Math.min(retryAfterNanos, maxDelayNanos));
+            if (attempt >= maxRetries || retryAfterNanos > maxDelayNanos) {
+                exhausted.increment();
+                return response;
+            }
+            // La respuesta descartada se consume para devolver la conexión al pool
+            response.asByteArray();
+            retries.increment();
+            try {
+                TimeUnit.NANOSECONDS.sleep(backoffNanos(attempt));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return response;
+            }
+        }
+    }
+
+    public RateLimiter getLimiter() {
+        return limiter;
+    }
+
+    public long getRetries() {
+        return retries.sum();
+    }
+
+    public long getExhausted() {
+        return exhausted.sum();
+    }
+
+    public boolean hasActivity() {
+        return limiter.getPermits() > 0;
+    }
+
+    public String summary() {
+        return String.format("Peticiones enviadas: %d%n"
+                        + "Respuestas 429/5xx: %d%n"
+                        + "Reintentos: %d%n"
+                        + "Reintentos agotados: %d%n"
+                        + "Espera acumulada: %d ms%n"
+                        + "Tasa final: %.1f req/s%n",
+                limiter.getPermits(), limiter.getThrottled(), getRetries(), getExhausted(),
+                limiter.getWaitedMillis(), limiter.getRate());
+    }
+
+    private static boolean isRetriable(int statusCode) {
+        return statusCode == 429 || statusCode >= 500;
+    }
+
+    // Full jitter: aleatorio entre 0 y base × 2^intento, sin pasar del máximo
+    private long backoffNanos(int attempt) {
+        long ceiling = Math.min(maxDelayNanos, baseDelayNanos << Math.min(attempt, 20));
+        return ceiling <= 0 ? 0 : ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    // Retry-After admite segundos o una fecha HTTP; 0 si falta o no se entiende
+    static long retryAfterNanos(String value) {
+        if (value == null || value.isBlank()) {
+            return 0;
+        }
+        try {
+            return TimeUnit.SECONDS.toNanos(Math.max(0, Long.parseLong(value.trim())));
+        } catch (NumberFormatException e) {
+            try {
+                ZonedDateTime date = ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME);
+                return Math.max(0, Duration.between(ZonedDateTime.now(date.getZone()), date).toNanos());
+            } catch (DateTimeParseException ignored) {
+                return 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.rickandmorty.api.client;
+
+import com.rickandmorty.api.config.ApiConfig;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cubeta de fichas compartida por todos los hilos que adapta su tasa a las respuestas del servidor.
+ *
+ * <p>La tasa sube de forma aditiva con cada respuesta aceptada (unas +1 req/s por segundo de tráfico)
+ * y se reduce a la mitad ante un 429 o un 5xx (AIMD). Un {@code Retry-After} además pausa la cubeta
+ * hasta esa fecha. Solo cuenta un recorte por ráfaga: las respuestas de peticiones enviadas antes
+ * del último recorte no vuelven a reducir la tasa.</p>
+ */
+public final class RateLimiter {
+    private final double minRate;
+    private final double maxRate;
+    private final double burst;
+
+    private double rate;
+    private double tokens;
+    // Puede quedar en el futuro mientras dura una pausa por Retry-After
+    private long lastRefill = System.nanoTime();
+    private long lastDecrease = lastRefill;
+
+    private final LongAdder permits = new LongAdder();
+    private final LongAdder throttled = new LongAdder();
+    private final LongAdder waitedNanos = new LongAdder();
+
+    public RateLimiter(double initialRate, double minRate, double maxRate, double burst) {
+        if (minRate <= 0 || minRate > maxRate || burst < 1) {
+            throw new IllegalArgumentException("Límites de tasa no válidos: min=" + minRate
+                    + ", max=" + maxRate + ", ráfaga=" + burst);
+        }
+        this.minRate = minRate;
+        this.maxRate = maxRate;
+        this.burst = burst;
+        this.rate = Math.max(minRate, Math.min(maxRate, initialRate));
+        this.tokens = burst;
+    }
+
+    public static RateLimiter fromConfig() {
+        return new RateLimiter(ApiConfig.getRateLimit(), ApiConfig.getRateLimitMin(),
+                ApiConfig.getRateLimitMax(), ApiConfig.getRateLimitBurst());
+    }
+
+    // Bloquea hasta que haya ficha; devuelve el instante de salida para asociarlo a la respuesta
+    public long acquire() throws InterruptedException {
+        long waitNanos = reserve();
+        if (waitNanos > 0) {
+            waitedNanos.add(waitNanos);
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+        permits.increment();
+        return System.nanoTime();
+    }
+
+    public synchronized void onSuccess() {
+        rate = Math.min(maxRate, rate + 1 / rate);
+    }
+
+    // issuedAt: valor devuelto por acquire() para la petición rechazada
+    public synchronized void onThrottle(long issuedAt, long retryAfterNanos) {
+        throttled.increment();
+        long now = System.nanoTime();
+        if (issuedAt - lastDecrease > 0) {
+            rate = Math.max(minRate, rate / 2);
+            lastDecrease = now;
+        }
+        if (retryAfterNanos > 0) {
+            refill(now);
+            tokens = Math.min(tokens, 0);
+            if (now + retryAfterNanos - lastRefill > 0) {
+                lastRefill = now + retryAfterNanos;
+            }
+        }
+    }
+
+    public synchronized double getRate() {
+        return rate;
+    }
+
+    public long getPermits() {
+        return permits.sum();
+    }
+
+    public long getThrottled() {
+        return throttled.sum();
+    }
+
+    public long getWaitedMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(waitedNanos.sum());
+    }
+
+    // Reserva una ficha aunque todavía no exista: el déficit se traduce en tiempo de espera
+    private synchronized long reserve() {
+        long now = System.nanoTime();
+        refill(now);
+        tokens -= 1;
+        long waitNanos = Math.max(0, lastRefill - now);
+        if (tokens < 0) {
+            waitNanos += (long) (-tokens / rate * 1e9);
+        }
+        return waitNanos;
+    }
+
+    private void refill(long now) {
+        if (now - lastRefill > 0) {
+            tokens = Math.min(burst, tokens + (now - lastRefill) / 1e9 * rate);
+            lastRefill = now;
+        }
+    }
+}
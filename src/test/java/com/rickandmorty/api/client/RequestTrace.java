@@ -0,0 +1,65 @@
+package com.rickandmorty.api.client;
+
+/**
+ * Marcas de tiempo de la petición en curso en este hilo. El cliente HTTP es bloqueante, así que la
+ * fábrica de sockets y los interceptores corren en el mismo hilo que el filtro que abrió la traza.
+ * Sin traza abierta (por ejemplo, fuera de {@link TimingBreakdown}) las marcas se ignoran.
+ */
+final class RequestTrace {
+    private static final ThreadLocal<RequestTrace> CURRENT = new ThreadLocal<>();
+
+    final long start = System.nanoTime();
+    long connectNanos;
+    long handshakeNanos;
+    long sent;
+    long firstByte;
+    private RequestTrace previous;
+
+    private RequestTrace() {
+    }
+
+    static RequestTrace open() {
+        RequestTrace trace = new RequestTrace();
+        trace.previous = CURRENT.get();
+        CURRENT.set(trace);
+        return trace;
+    }
+
+    void close() {
+        if (previous != null) {
+            CURRENT.set(previous);
+        } else {
+            CURRENT.remove();
+        }
+    }
+
+    static void connected(long nanos) {
+        RequestTrace trace = CURRENT.get();
+        if (trace != null) {
+            trace.connectNanos += nanos;
+        }
+    }
+
+    static void handshake(long nanos) {
+        RequestTrace trace = CURRENT.get();
+        if (trace != null) {
+            trace.handshakeNanos += nanos;
+        }
+    }
+
+    // Se vuelve a marcar en cada reintento: cuenta el último envío
+    static void requestSent() {
+        RequestTrace trace = CURRENT.get();
+        if (trace != null) {
+            trace.sent = System.nanoTime();
+            trace.firstByte = 0;
+        }
+    }
+
+    static void headersReceived() {
+        RequestTrace trace = CURRENT.get();
+        if (trace != null) {
+            trace.firstByte = System.nanoTime();
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.rickandmorty.api.client;
+
+import com.rickandmorty.api.config.ApiConfig;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Caché de respuestas compartida por todas las clases de prueba, activada con {@code api.cache=true}.
+ *
+ * <p>La clave es método + URL completa (con query). Las entradas se descartan por antigüedad de uso
+ * cuando se supera el tamaño máximo (LRU) y caducan según el TTL de su endpoint. Solo se guardan las
+ * respuestas GET con estado 200 o 404, que son deterministas.</p>
+ */
+public final class ResponseCache implements Filter {
+    private static final ThreadLocal<Boolean> BYPASS = ThreadLocal.withInitial(() -> false);
+
+    private final int maxEntries;
+    private final Map<String, Entry> entries;
+    private final Map<String, Stats> stats = new ConcurrentHashMap<>();
+
+    public ResponseCache(int maxEntries) {
+        this.maxEntries = maxEntries;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > ResponseCache.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Ejecuta la acción sin leer ni escribir en la caché ni agrupar peticiones (por ejemplo, para
+     * pruebas de headers o de tiempo de respuesta que deben llegar al servidor). Solo afecta al hilo actual.
+     */
+    public static <T> T bypass(Supplier<T> action) {
+        boolean previous = BYPASS.get();
+        BYPASS.set(true);
+        try {
+            return action.get();
+        } finally {
+            BYPASS.set(previous);
+        }
+    }
+
+    static boolean isBypassed() {
+        return BYPASS.get();
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        Endpoint endpoint = Endpoint.of(requestSpec);
+        Stats endpointStats = stats.computeIfAbsent(endpoint.toString(), name -> new Stats());
+        if (BYPASS.get() || !"GET".equals(requestSpec.getMethod())) {
+            endpointStats.bypassed.increment();
+            return ctx.next(requestSpec, responseSpec);
+        }
+
+        long start = System.nanoTime();
+        String key = requestSpec.getMethod() + " " + requestSpec.getURI();
+        ResponseSnapshot cached = lookup(key, start);
+        if (cached != null) {
+            endpointStats.hits.increment();
+            return cached.toResponse(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        }
+
+        endpointStats.misses.increment();
+        Response response = ctx.next(requestSpec, responseSpec);
+        if (response.getStatusCode() == 200 || response.getStatusCode() == 404) {
+            long ttlNanos = TimeUnit.SECONDS.toNanos(ApiConfig.getCacheTtlSeconds(endpoint.toString()));
+            store(key, new Entry(ResponseSnapshot.of(response), System.nanoTime() + ttlNanos));
+        }
+        return response;
+    }
+
+    public String summary() {
+        StringBuilder summary = new StringBuilder(String.format("%-20s %8s %8s %8s %8s%n",
+                "Endpoint", "Aciertos", "Fallos", "Omitidas", "Ratio"));
+        long totalHits = 0;
+        long totalMisses = 0;
+        for (Map.Entry<String, Stats> entry : new TreeMap<>(stats).entrySet()) {
+            Stats endpointStats = entry.getValue();
+            long hits = endpointStats.hits.sum();
+            long misses = endpointStats.misses.sum();
+            totalHits += hits;
+            totalMisses += misses;
+            summary.append(String.format("%-20s %8d %8d %8d %7.1f%%%n", entry.getKey(), hits, misses,
+                    endpointStats.bypassed.sum(), ratio(hits, misses)));
+        }
+        summary.append(String.format("Peticiones evitadas: %d de %d (%.1f%%)%n",
+                totalHits, totalHits + totalMisses, ratio(totalHits, totalMisses)));
+        return summary.toString();
+    }
+
+    public boolean hasActivity() {
+        return !stats.isEmpty();
+    }
+
+    private synchronized ResponseSnapshot lookup(String key, long now) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (now - entry.expiresAtNanos > 0) {
+            entries.remove(key);
+            return null;
+        }
+        return entry.snapshot;
+    }
+
+    private synchronized void store(String key, Entry entry) {
+        entries.put(key, entry);
+    }
+
+    private static double ratio(long hits, long misses) {
+        long total = hits + misses;
+        return total == 0 ? 0 : hits * 100.0 / total;
+    }
+
+    private record Entry(ResponseSnapshot snapshot, long expiresAtNanos) {
+    }
+
+    private static final class Stats {
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+        private final LongAdder bypassed = new LongAdder();
+    }
+}
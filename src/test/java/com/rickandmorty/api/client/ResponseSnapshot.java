@@ -0,0 +1,83 @@
+package com.rickandmorty.api.client;
+
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.filter.time.TimingFilter;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.internal.RestAssuredResponseImpl;
+import io.restassured.response.Response;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Copia inmutable de una respuesta HTTP (estado, headers y cuerpo).
+ *
+ * <p>Permite reconstruir una {@link Response} nueva en cada uso, de modo que varias pruebas pueden
+ * reutilizar la misma respuesta sin compartir un objeto mutable de RestAssured.</p>
+ */
+public final class ResponseSnapshot {
+    private final int statusCode;
+    private final String statusLine;
+    private final List<Header> headers;
+    private final byte[] body;
+
+    public ResponseSnapshot(int statusCode, String statusLine, List<Header> headers, byte[] body) {
+        this.statusCode = statusCode;
+        this.statusLine = statusLine;
+        this.headers = Collections.unmodifiableList(new ArrayList<>(headers));
+        this.body = body;
+    }
+
+    public static ResponseSnapshot of(Response response) {
+        return new ResponseSnapshot(response.getStatusCode(), response.getStatusLine(),
+                response.getHeaders().asList(), response.asByteArray());
+    }
+
+    // Reconstruye la respuesta registrando como tiempo el que tardó en obtenerse localmente
+    public Response toResponse(long elapsedMillis) {
+        ResponseBuilder builder = new ResponseBuilder()
+                .setStatusCode(statusCode)
+                .setStatusLine(statusLine)
+                .setHeaders(new Headers(headers))
+                .setBody(body);
+        String contentType = getHeader("Content-Type");
+        if (contentType != null) {
+            builder.setContentType(contentType);
+        }
+        Response response = builder.build();
+        if (response instanceof RestAssuredResponseImpl restAssuredResponse) {
+            restAssuredResponse.setFilterContextProperties(
+                    Map.of(TimingFilter.RESPONSE_TIME_MILLISECONDS, elapsedMillis));
+        }
+        return response;
+    }
+
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    public String getStatusLine() {
+        return statusLine;
+    }
+
+    public List<Header> getHeaders() {
+        return headers;
+    }
+
+    // El arreglo se comparte; quien lo reciba no debe modificarlo
+    public byte[] getBody() {
+        return body;
+    }
+
+    public String getHeader(String name) {
+        for (Header header : headers) {
+            if (header.getName().equalsIgnoreCase(name)) {
+                return header.getValue();
+            }
+        }
+        return null;
+    }
+}
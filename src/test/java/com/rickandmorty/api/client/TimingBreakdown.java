@@ -0,0 +1,133 @@
+package com.rickandmorty.api.client;
+
+import com.rickandmorty.api.performance.LatencyHistogram;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Desglosa el tiempo de cada petición en fases y las acumula en histogramas por endpoint.
+ *
+ * <ul>
+ *   <li>Espera: desde que entra en el filtro hasta que sale la petición, sin contar conexión ni TLS
+ *   (préstamo del pool, limitador de peticiones, preparación en RestAssured).</li>
+ *   <li>Conexión TCP y TLS: solo en peticiones que abren una conexión nueva.</li>
+ *   <li>Primer byte: desde el envío hasta recibir los headers de la respuesta; es la latencia del
+ *   servidor más la de la red.</li>
+ *   <li>Descarga: desde los headers hasta tener el cuerpo leído y procesado por RestAssured.</li>
+ * </ul>
+ * <p>Si la espera o la descarga crecen mientras el primer byte se mantiene, la lentitud está en el
+ * cliente y no en el servidor. Las respuestas servidas sin red (caché, cassette) no se registran.</p>
+ */
+public final class TimingBreakdown implements Filter {
+
+    public enum Phase {
+        QUEUE("Espera"), CONNECT("Conexión"), TLS("TLS"), FIRST_BYTE("Primer byte"), DOWNLOAD("Descarga"), TOTAL("Total");
+
+        private final String label;
+
+        Phase(String label) {
+            this.label = label;
+        }
+
+        public String label() {
+            return label;
+        }
+    }
+
+    private final Map<String, LatencyHistogram[]> histograms = new ConcurrentHashMap<>();
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        RequestTrace trace = RequestTrace.open();
+        try {
+            Response response = ctx.next(requestSpec, responseSpec);
+            // El cuerpo ya está leído si BodyDrainFilter va detrás; si no, se lee aquí
+            response.asByteArray();
+            long end = System.nanoTime();
+            if (trace.sent != 0 && trace.firstByte != 0) {
+                record(Endpoint.of(requestSpec).toString(), trace, end);
+            }
+            return response;
+        } finally {
+            trace.close();
+        }
+    }
+
+    public LatencyHistogram histogram(String endpoint, Phase phase) {
+        LatencyHistogram[] phases = histograms.get(endpoint);
+        return phases == null ? new LatencyHistogram() : phases[phase.ordinal()];
+    }
+
+    public boolean hasActivity() {
+        return !histograms.isEmpty();
+    }
+
+    // Una fila por endpoint con p50/p99 de cada fase, en milisegundos
+    public String summary() {
+        StringBuilder summary = new StringBuilder(String.format("%-20s %6s", "Endpoint", "Total"));
+        for (Phase phase : Phase.values()) {
+            summary.append(String.format(" %15s", phase.label()));
+        }
+        summary.append(String.format("%n%-20s %6s", "", "n"));
+        for (int i = 0; i < Phase.values().length; i++) {
+            summary.append(String.format(" %15s", "p50/p99 ms"));
+        }
+        summary.append(System.lineSeparator());
+        for (Map.Entry<String, LatencyHistogram[]> entry : new TreeMap<>(histograms).entrySet()) {
+            LatencyHistogram[] phases = entry.getValue();
+            summary.append(String.format("%-20s %6d", entry.getKey(), phases[Phase.TOTAL.ordinal()].getCount()));
+            for (LatencyHistogram histogram : phases) {
+                summary.append(String.format(" %15s", String.format("%.1f/%.1f",
+                        histogram.percentileMillis(50), histogram.percentileMillis(99))));
+            }
+            summary.append(System.lineSeparator());
+        }
+        return summary.toString();
+    }
+
+    // Mismos datos en CSV, que Allure muestra como tabla
+    public String csv() {
+        StringBuilder csv = new StringBuilder("endpoint,fase,muestras,p50_ms,p90_ms,p99_ms,max_ms\n");
+        for (Map.Entry<String, LatencyHistogram[]> entry : new TreeMap<>(histograms).entrySet()) {
+            for (Phase phase : Phase.values()) {
+                LatencyHistogram histogram = entry.getValue()[phase.ordinal()];
+                csv.append(String.format(Locale.ROOT, "%s,%s,%d,%.2f,%.2f,%.2f,%.2f%n", entry.getKey(),
+                        phase.label(), histogram.getCount(), histogram.percentileMillis(50),
+                        histogram.percentileMillis(90), histogram.percentileMillis(99),
+                        histogram.getMaxMicros() / 1_000.0));
+            }
+        }
+        return csv.toString();
+    }
+
+    private void record(String endpoint, RequestTrace trace, long end) {
+        LatencyHistogram[] phases = histograms.computeIfAbsent(endpoint, name -> {
+            LatencyHistogram[] created = new LatencyHistogram[Phase.values().length];
+            for (int i = 0; i < created.length; i++) {
+                created[i] = new LatencyHistogram();
+            }
+            return created;
+        });
+        phases[Phase.QUEUE.ordinal()].recordNanos(trace.sent - trace.start - trace.connectNanos - trace.handshakeNanos);
+        // Las fases de conexión solo se registran cuando hubo conexión nueva, para no diluir sus percentiles
+        if (trace.connectNanos > 0) {
+            phases[Phase.CONNECT.ordinal()].recordNanos(trace.connectNanos);
+        }
+        if (trace.handshakeNanos > 0) {
+            phases[Phase.TLS.ordinal()].recordNanos(trace.handshakeNanos);
+        }
+        phases[Phase.FIRST_BYTE.ordinal()].recordNanos(trace.firstByte - trace.sent);
+        phases[Phase.DOWNLOAD.ordinal()].recordNanos(end - trace.firstByte);
+        phases[Phase.TOTAL.ordinal()].recordNanos(end - trace.start);
+    }
+}
@@ -0,0 +1,397 @@
+package com.rickandmorty.api.config;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Locale;
+
+/**
+ * Configuración central de la API bajo prueba.
+ *
+ * <p>La URL base se resuelve en este orden: la asignada en tiempo de ejecución (por ejemplo por el
+ * servidor local), la propiedad de sistema {@code api.base.url} y, por último, la API pública.</p>
+ */
+public final class ApiConfig {
+    public static final String DEFAULT_BASE_URL = "https://rickandmortyapi.com/api";
+
+    // Modo de ejecución: "stub" levanta el servidor local, "live" usa la API real
+    public static final String MODE_PROPERTY = "api.mode";
+    public static final String BASE_URL_PROPERTY = "api.base.url";
+
+    // Grabación/reproducción de interacciones: off, record o replay
+    public static final String CASSETTE_PROPERTY = "api.cassette";
+    public static final String CASSETTE_PATH_PROPERTY = "api.cassette.path";
+    public static final String DEFAULT_CASSETTE_PATH = "target/cassettes/rickandmorty.cassette";
+
+    // Pool de conexiones compartido (tiempos en milisegundos)
+    public static final String MAX_CONNECTIONS_PROPERTY = "api.http.maxConnections";
+    public static final String MAX_CONNECTIONS_PER_ROUTE_PROPERTY = "api.http.maxConnectionsPerRoute";
+    public static final String CONNECT_TIMEOUT_PROPERTY = "api.http.connectTimeout";
+    public static final String READ_TIMEOUT_PROPERTY = "api.http.readTimeout";
+    public static final String KEEP_ALIVE_PROPERTY = "api.http.keepAlive";
+
+    // Caché de respuestas: desactivada por defecto; TTL en segundos, configurable por endpoint
+    // (api.cache.ttl.character o api.cache.ttl.character.single)
+    public static final String CACHE_PROPERTY = "api.cache";
+    public static final String CACHE_MAX_ENTRIES_PROPERTY = "api.cache.maxEntries";
+    public static final String CACHE_TTL_PROPERTY = "api.cache.ttl";
+
+    // Desglose de tiempos por fase (espera, conexión, TLS, primer byte, descarga); activo por defecto
+    public static final String TIMING_PROPERTY = "api.timing";
+
+    // Agrupación de peticiones GET idénticas en vuelo (activa por defecto)
+    public static final String COALESCE_PROPERTY = "api.coalesce";
+
+    // Limitador de peticiones adaptativo (activo por defecto contra la API real o si el servidor local
+    // limita la tasa): tasa inicial, mínima y máxima en req/s y ráfaga en fichas
+    public static final String RATE_LIMIT_PROPERTY = "api.ratelimit";
+    public static final String RATE_LIMIT_RATE_PROPERTY = "api.ratelimit.rate";
+    public static final String RATE_LIMIT_MIN_PROPERTY = "api.ratelimit.minRate";
+    public static final String RATE_LIMIT_MAX_PROPERTY = "api.ratelimit.maxRate";
+    public static final String RATE_LIMIT_BURST_PROPERTY = "api.ratelimit.burst";
+
+    // Reintentos ante 429 y 5xx por petición, con espera exponencial (milisegundos)
+    public static final String RETRY_MAX_PROPERTY = "api.retry.max";
+    public static final String RETRY_BASE_DELAY_PROPERTY = "api.retry.baseDelay";
+    public static final String RETRY_MAX_DELAY_PROPERTY = "api.retry.maxDelay";
+
+    // Tasa máxima del servidor local en req/s antes de responder 429; 0 sin límite
+    public static final String STUB_MAX_RATE_PROPERTY = "api.stub.maxRate";
+
+    // Peticiones en vuelo de las variantes asíncronas de los page objects
+    public static final String ASYNC_MAX_CONCURRENCY_PROPERTY = "api.async.maxConcurrency";
+
+    // Peticiones en vuelo al descargar el catálogo completo
+    public static final String CRAWLER_PARALLELISM_PROPERTY = "api.crawler.parallelism";
+
+    // Instantánea binaria del catálogo: off (siempre se descarga) o auto (se reutiliza si existe, es del
+    // mismo origen y no supera la antigüedad máxima en horas; si no, se descarga y se escribe)
+    public static final String SNAPSHOT_PROPERTY = "api.snapshot";
+    public static final String SNAPSHOT_PATH_PROPERTY = "api.snapshot.path";
+    public static final String SNAPSHOT_MAX_AGE_PROPERTY = "api.snapshot.maxAgeHours";
+    public static final String DEFAULT_SNAPSHOT_PATH = "target/snapshots/catalog.snapshot";
+
+    // Resultados de la validación anterior del catálogo (hash y violaciones por entidad)
+    public static final String VALIDATION_STATE_PROPERTY = "api.validation.state";
+    public static final String DEFAULT_VALIDATION_STATE_PATH = "target/validation/catalog-state.json";
+
+    // IDs por petición múltiple al verificar la integridad referencial del catálogo
+    public static final String INTEGRITY_BATCH_SIZE_PROPERTY = "api.integrity.batchSize";
+
+    // Combinaciones de filtros aleatorias que se contrastan con el motor de filtros local, y su semilla
+    public static final String FILTER_CROSS_CHECK_PROPERTY = "api.filter.crossCheck";
+    public static final String FILTER_SEED_PROPERTY = "api.filter.seed";
+
+    // Pruebas de carga: modelo (closed u open), usuarios concurrentes, tasa en req/s, peticiones por
+    // prueba, peticiones de calentamiento que no se miden y umbrales de aceptación (p99 en milisegundos y proporción de errores)
+    public static final String LOAD_MODEL_PROPERTY = "load.model";
+    public static final String LOAD_CONCURRENCY_PROPERTY = "load.concurrency";
+    public static final String LOAD_RATE_PROPERTY = "load.rate";
+    public static final String LOAD_REQUESTS_PROPERTY = "load.requests";
+    public static final String LOAD_WARMUP_PROPERTY = "load.warmup";
+    public static final String LOAD_P99_PROPERTY = "load.threshold.p99";
+    public static final String LOAD_ERROR_RATE_PROPERTY = "load.threshold.errorRate";
+
+    // Eventos de JFR (llamadas HTTP y ejecución de pruebas); sin una grabación ya en marcha, la suite
+    // graba con la configuración "profile" y la vuelca en la ruta indicada
+    public static final String JFR_EVENTS_PROPERTY = "jfr.events";
+    public static final String JFR_RECORDING_PROPERTY = "jfr.recording";
+    public static final String DEFAULT_JFR_RECORDING_PATH = "target/jfr/suite.jfr";
+
+    // Línea base de latencia por endpoint: archivo, nivel de significación de Mann-Whitney, factor
+    // mínimo de la mediana para considerar regresión y si una ejecución sin regresión la reemplaza
+    public static final String LOAD_BASELINE_PATH_PROPERTY = "load.baseline.path";
+    public static final String DEFAULT_LOAD_BASELINE_PATH = "perf-history/latency.json";
+    public static final String LOAD_BASELINE_UPDATE_PROPERTY = "load.baseline.update";
+    public static final String REGRESSION_ALPHA_PROPERTY = "load.regression.alpha";
+    public static final String REGRESSION_MIN_RATIO_PROPERTY = "load.regression.minRatio";
+
+    // Reparto de la suite en shards por duración histórica: índice de este shard (desde 0), número de
+    // shards y directorio del historial de duraciones (fuera de target para sobrevivir a mvn clean)
+    public static final String SHARD_INDEX_PROPERTY = "shard.index";
+    public static final String SHARD_TOTAL_PROPERTY = "shard.total";
+    public static final String SHARD_HISTORY_PROPERTY = "shard.history";
+    public static final String DEFAULT_SHARD_HISTORY_PATH = "perf-history/shard-history";
+
+    // Adjuntos de Allure guardados por contenido (activo por defecto): caracteres máximos por cuerpo
+    // HTTP antes de recortarlo y tamaño en bytes a partir del cual el adjunto se comprime (0 nunca)
+    public static final String ATTACHMENT_STORE_PROPERTY = "allure.attachments.store";
+    public static final String ATTACHMENT_MAX_BODY_PROPERTY = "allure.attachments.maxBody";
+    public static final String ATTACHMENT_COMPRESS_ABOVE_PROPERTY = "allure.attachments.compressAbove";
+    public static final String ALLURE_RESULTS_PROPERTY = "allure.results.directory";
+    public static final String DEFAULT_ALLURE_RESULTS_PATH = "allure-results";
+
+    // Modo paralelo de TestNG (none, methods, ...) e hilos; el pool de conexiones se dimensiona a
+    // partir del número de hilos
+    public static final String TEST_PARALLEL_PROPERTY = "test.parallel";
+    public static final String TEST_THREADS_PROPERTY = "test.threads";
+
+    public enum CassetteMode {
+        OFF, RECORD, REPLAY
+    }
+
+    private static volatile String baseUrlOverride;
+
+    private ApiConfig() {
+    }
+
+    public static String getBaseUrl() {
+        String override = baseUrlOverride;
+        if (override != null) {
+            return override;
+        }
+        return System.getProperty(BASE_URL_PROPERTY, DEFAULT_BASE_URL);
+    }
+
+    public static void setBaseUrl(String baseUrl) {
+        baseUrlOverride = baseUrl;
+    }
+
+    public static void resetBaseUrl() {
+        baseUrlOverride = null;
+    }
+
+    public static boolean isStubMode() {
+        return "stub".equalsIgnoreCase(System.getProperty(MODE_PROPERTY, "stub"));
+    }
+
+    public static String getTestParallel() {
+        return System.getProperty(TEST_PARALLEL_PROPERTY, "none").toLowerCase(Locale.ROOT);
+    }
+
+    public static int getTestThreads() {
+        return Integer.getInteger(TEST_THREADS_PROPERTY, 1);
+    }
+
+    public static int getMaxConnections() {
+        return Integer.getInteger(MAX_CONNECTIONS_PROPERTY, Math.max(20, getTestThreads() * 2));
+    }
+
+    public static int getMaxConnectionsPerRoute() {
+        return Integer.getInteger(MAX_CONNECTIONS_PER_ROUTE_PROPERTY,
+                Math.max(10, Math.max(getTestThreads(), getCrawlerParallelism())));
+    }
+
+    public static int getConnectTimeoutMillis() {
+        return Integer.getInteger(CONNECT_TIMEOUT_PROPERTY, 5000);
+    }
+
+    public static int getReadTimeoutMillis() {
+        return Integer.getInteger(READ_TIMEOUT_PROPERTY, 10000);
+    }
+
+    public static long getKeepAliveMillis() {
+        return Long.getLong(KEEP_ALIVE_PROPERTY, 30000L);
+    }
+
+    public static boolean isCacheEnabled() {
+        return Boolean.getBoolean(CACHE_PROPERTY);
+    }
+
+    public static int getCacheMaxEntries() {
+        return Integer.getInteger(CACHE_MAX_ENTRIES_PROPERTY, 500);
+    }
+
+    // Busca el TTL más específico: recurso.tipo, luego recurso y por último el valor general
+    public static long getCacheTtlSeconds(String endpoint) {
+        String property = CACHE_TTL_PROPERTY + "." + endpoint;
+        while (property.length() >= CACHE_TTL_PROPERTY.length()) {
+            String value = System.getProperty(property);
+            if (value != null) {
+                return Long.parseLong(value);
+            }
+            property = property.substring(0, Math.max(0, property.lastIndexOf('.')));
+        }
+        return 300;
+    }
+
+    public static boolean isTimingEnabled() {
+        return Boolean.parseBoolean(System.getProperty(TIMING_PROPERTY, "true"));
+    }
+
+    public static boolean isCoalescingEnabled() {
+        return Boolean.parseBoolean(System.getProperty(COALESCE_PROPERTY, "true"));
+    }
+
+    public static boolean isRateLimitEnabled() {
+        String value = System.getProperty(RATE_LIMIT_PROPERTY);
+        if (value != null) {
+            return Boolean.parseBoolean(value);
+        }
+        return !isStubMode() || getStubMaxRate() > 0;
+    }
+
+    public static double getRateLimit() {
+        return Double.parseDouble(System.getProperty(RATE_LIMIT_RATE_PROPERTY, "10"));
+    }
+
+    public static double getRateLimitMin() {
+        return Double.parseDouble(System.getProperty(RATE_LIMIT_MIN_PROPERTY, "0.5"));
+    }
+
+    public static double getRateLimitMax() {
+        return Double.parseDouble(System.getProperty(RATE_LIMIT_MAX_PROPERTY, "100"));
+    }
+
+    public static double getRateLimitBurst() {
+        return Double.parseDouble(System.getProperty(RATE_LIMIT_BURST_PROPERTY, "5"));
+    }
+
+    public static int getRetryMax() {
+        return Integer.getInteger(RETRY_MAX_PROPERTY, 3);
+    }
+
+    public static long getRetryBaseDelayMillis() {
+        return Long.getLong(RETRY_BASE_DELAY_PROPERTY, 200L);
+    }
+
+    public static long getRetryMaxDelayMillis() {
+        return Long.getLong(RETRY_MAX_DELAY_PROPERTY, 10000L);
+    }
+
+    public static double getStubMaxRate() {
+        return Double.parseDouble(System.getProperty(STUB_MAX_RATE_PROPERTY, "0"));
+    }
+
+    public static int getAsyncMaxConcurrency() {
+        return Integer.getInteger(ASYNC_MAX_CONCURRENCY_PROPERTY, getMaxConnectionsPerRoute());
+    }
+
+    public static int getCrawlerParallelism() {
+        return Integer.getInteger(CRAWLER_PARALLELISM_PROPERTY, 8);
+    }
+
+    public static boolean isSnapshotEnabled() {
+        return "auto".equalsIgnoreCase(System.getProperty(SNAPSHOT_PROPERTY, "off"));
+    }
+
+    public static Path getSnapshotPath() {
+        return Paths.get(System.getProperty(SNAPSHOT_PATH_PROPERTY, DEFAULT_SNAPSHOT_PATH));
+    }
+
+    public static long getSnapshotMaxAgeHours() {
+        return Long.getLong(SNAPSHOT_MAX_AGE_PROPERTY, 24L);
+    }
+
+    // Identifica de dónde salen los datos, para no reutilizar en live una instantánea del servidor local
+    public static String getDataSource() {
+        return isStubMode() ? "stub" : getBaseUrl();
+    }
+
+    public static Path getValidationStatePath() {
+        return Paths.get(System.getProperty(VALIDATION_STATE_PROPERTY, DEFAULT_VALIDATION_STATE_PATH));
+    }
+
+    public static int getIntegrityBatchSize() {
+        return Integer.getInteger(INTEGRITY_BATCH_SIZE_PROPERTY, 100);
+    }
+
+    public static int getFilterCrossCheck() {
+        return Integer.getInteger(FILTER_CROSS_CHECK_PROPERTY, 200);
+    }
+
+    public static long getFilterSeed() {
+        return Long.getLong(FILTER_SEED_PROPERTY, 42L);
+    }
+
+    public static String getLoadModel() {
+        return System.getProperty(LOAD_MODEL_PROPERTY, "closed");
+    }
+
+    public static int getLoadConcurrency() {
+        return Integer.getInteger(LOAD_CONCURRENCY_PROPERTY, 4);
+    }
+
+    public static double getLoadRate() {
+        return Double.parseDouble(System.getProperty(LOAD_RATE_PROPERTY, "50"));
+    }
+
+    public static int getLoadRequests() {
+        return Integer.getInteger(LOAD_REQUESTS_PROPERTY, 50);
+    }
+
+    public static int getLoadWarmupRequests() {
+        return Integer.getInteger(LOAD_WARMUP_PROPERTY, 10);
+    }
+
+    public static long getLoadP99ThresholdMillis() {
+        return Long.getLong(LOAD_P99_PROPERTY, 2000L);
+    }
+
+    public static double getLoadMaxErrorRate() {
+        return Double.parseDouble(System.getProperty(LOAD_ERROR_RATE_PROPERTY, "0"));
+    }
+
+    public static Path getLoadBaselinePath() {
+        return Paths.get(System.getProperty(LOAD_BASELINE_PATH_PROPERTY, DEFAULT_LOAD_BASELINE_PATH));
+    }
+
+    public static boolean isLoadBaselineUpdate() {
+        return Boolean.getBoolean(LOAD_BASELINE_UPDATE_PROPERTY);
+    }
+
+    public static int getShardTotal() {
+        int total = Integer.getInteger(SHARD_TOTAL_PROPERTY, 1);
+        if (total < 1) {
+            throw new IllegalArgumentException(SHARD_TOTAL_PROPERTY + " debe ser positivo: " + total);
+        }
+        return total;
+    }
+
+    public static int getShardIndex() {
+        int index = Integer.getInteger(SHARD_INDEX_PROPERTY, 0);
+        if (index < 0 || index >= getShardTotal()) {
+            throw new IllegalArgumentException(SHARD_INDEX_PROPERTY + " debe estar entre 0 y "
+                    + (getShardTotal() - 1) + ": " + index);
+        }
+        return index;
+    }
+
+    // "shard 2 de 3": numeración desde 1, la misma en resúmenes y líneas base
+    public static String getShardLabel() {
+        return String.format("shard %d de %d", getShardIndex() + 1, getShardTotal());
+    }
+
+    public static Path getShardHistoryPath() {
+        return Paths.get(System.getProperty(SHARD_HISTORY_PROPERTY, DEFAULT_SHARD_HISTORY_PATH));
+    }
+
+    public static double getRegressionAlpha() {
+        return Double.parseDouble(System.getProperty(REGRESSION_ALPHA_PROPERTY, "0.01"));
+    }
+
+    public static double getRegressionMinRatio() {
+        return Double.parseDouble(System.getProperty(REGRESSION_MIN_RATIO_PROPERTY, "1.5"));
+    }
+
+    public static boolean isJfrEnabled() {
+        return Boolean.getBoolean(JFR_EVENTS_PROPERTY);
+    }
+
+    public static Path getJfrRecordingPath() {
+        return Paths.get(System.getProperty(JFR_RECORDING_PROPERTY, DEFAULT_JFR_RECORDING_PATH));
+    }
+
+    public static boolean isAttachmentStoreEnabled() {
+        return Boolean.parseBoolean(System.getProperty(ATTACHMENT_STORE_PROPERTY, "true"));
+    }
+
+    public static int getAttachmentMaxBody() {
+        return Integer.getInteger(ATTACHMENT_MAX_BODY_PROPERTY, 256 * 1024);
+    }
+
+    public static int getAttachmentCompressAbove() {
+        return Integer.getInteger(ATTACHMENT_COMPRESS_ABOVE_PROPERTY, 64 * 1024);
+    }
+
+    public static Path getAllureResultsPath() {
+        return Paths.get(System.getProperty(ALLURE_RESULTS_PROPERTY, DEFAULT_ALLURE_RESULTS_PATH));
+    }
+
+    public static CassetteMode getCassetteMode() {
+        return CassetteMode.valueOf(System.getProperty(CASSETTE_PROPERTY, "off").toUpperCase(Locale.ROOT));
+    }
+
+    public static Path getCassettePath() {
+        return Paths.get(System.getProperty(CASSETTE_PATH_PROPERTY, DEFAULT_CASSETTE_PATH));
+    }
+}
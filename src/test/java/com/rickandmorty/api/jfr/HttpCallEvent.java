@@ -0,0 +1,36 @@
+package com.rickandmorty.api.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+// Una llamada de un page object: duración desde que entra en el cliente hasta tener el cuerpo
+@Name("rickandmorty.HttpCall")
+@Label("Llamada HTTP")
+@Category({"Rick and Morty API", "HTTP"})
+@Description("Petición de un page object, con el endpoint, el estado y la prueba que la hizo")
+@StackTrace(false)
+public class HttpCallEvent extends Event {
+    @Label("Método")
+    public String method;
+
+    @Label("Endpoint")
+    public String endpoint;
+
+    @Label("URL")
+    public String url;
+
+    @Label("Estado")
+    public int status;
+
+    @Label("Bytes")
+    @DataAmount
+    public long bytes;
+
+    @Label("Prueba")
+    public String test;
+}
@@ -0,0 +1,47 @@
+package com.rickandmorty.api.jfr;
+
+import com.rickandmorty.api.client.Endpoint;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import org.testng.ITestResult;
+import org.testng.Reporter;
+
+/**
+ * Emite un {@link HttpCallEvent} por cada llamada de los page objects. Si no hay una grabación que
+ * tenga el evento activo, solo cuesta crear el objeto y comprobar {@code isEnabled()}.
+ */
+public final class JfrEventFilter implements Filter {
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        HttpCallEvent event = new HttpCallEvent();
+        if (!event.isEnabled()) {
+            return ctx.next(requestSpec, responseSpec);
+        }
+        event.begin();
+        Response response = ctx.next(requestSpec, responseSpec);
+        byte[] body = response.asByteArray();
+        event.end();
+        if (event.shouldCommit()) {
+            event.method = requestSpec.getMethod();
+            event.endpoint = Endpoint.of(requestSpec).toString();
+            event.url = requestSpec.getURI();
+            event.status = response.getStatusCode();
+            event.bytes = body.length;
+            event.test = currentTest();
+            event.commit();
+        }
+        return response;
+    }
+
+    // Solo se conoce en el hilo de la prueba; las llamadas asíncronas quedan sin prueba asociada
+    private static String currentTest() {
+        ITestResult result = Reporter.getCurrentTestResult();
+        return result == null ? null : result.getTestClass().getRealClass().getSimpleName() + "." + result.getName();
+    }
+}
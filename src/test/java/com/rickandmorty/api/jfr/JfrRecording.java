@@ -0,0 +1,66 @@
+package com.rickandmorty.api.jfr;
+
+import com.rickandmorty.api.config.ApiConfig;
+import jdk.jfr.Configuration;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+
+/**
+ * Grabación de JFR propia de la suite, para cuando se activan los eventos sin arrancar la JVM con
+ * {@code -XX:StartFlightRecording}. Usa la configuración "profile" (GC, bloqueos, muestreo de
+ * hilos) más los eventos de la suite y se vuelca a {@code jfr.recording} al terminar.
+ */
+public final class JfrRecording {
+    private static Recording recording;
+
+    private JfrRecording() {
+    }
+
+    public static synchronized void start() {
+        if (recording != null || hasExternalRecording()) {
+            return;
+        }
+        try {
+            recording = new Recording(Configuration.getConfiguration("profile"));
+        } catch (IOException | ParseException e) {
+            throw new IllegalStateException("No se pudo cargar la configuración de JFR", e);
+        }
+        recording.setName("rickandmorty-suite");
+        recording.enable(HttpCallEvent.class);
+        recording.enable(TestExecutionEvent.class);
+        recording.start();
+    }
+
+    // Devuelve el archivo escrito, o null si la suite no tenía grabación propia
+    public static synchronized Path stop() {
+        if (recording == null) {
+            return null;
+        }
+        Path path = ApiConfig.getJfrRecordingPath();
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            recording.stop();
+            recording.dump(path);
+            return path;
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo escribir la grabación " + path, e);
+        } finally {
+            recording.close();
+            recording = null;
+        }
+    }
+
+    private static boolean hasExternalRecording() {
+        return FlightRecorder.isInitialized() && FlightRecorder.getFlightRecorder().getRecordings().stream()
+                .anyMatch(existing -> existing.getState() == RecordingState.RUNNING);
+    }
+}
@@ -0,0 +1,25 @@
+package com.rickandmorty.api.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+// Ejecución de un método de prueba, de onTestStart al resultado
+@Name("rickandmorty.TestExecution")
+@Label("Ejecución de prueba")
+@Category({"Rick and Morty API", "TestNG"})
+@Description("Método de prueba en ejecución y su resultado")
+@StackTrace(false)
+public class TestExecutionEvent extends Event {
+    @Label("Clase")
+    public String testClass;
+
+    @Label("Método")
+    public String testMethod;
+
+    @Label("Resultado")
+    public String outcome;
+}
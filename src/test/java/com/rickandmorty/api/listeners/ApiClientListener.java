@@ -0,0 +1,14 @@
+package com.rickandmorty.api.listeners;
+
+import com.rickandmorty.api.client.ApiClient;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+// Cierra el cliente compartido al terminar la suite (por ejemplo, guarda la cassette grabada)
+public class ApiClientListener implements ISuiteListener {
+
+    @Override
+    public void onFinish(ISuite suite) {
+        ApiClient.finish();
+    }
+}
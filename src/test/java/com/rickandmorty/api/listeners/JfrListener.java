@@ -0,0 +1,84 @@
+package com.rickandmorty.api.listeners;
+
+import com.rickandmorty.api.config.ApiConfig;
+import com.rickandmorty.api.jfr.JfrRecording;
+import com.rickandmorty.api.jfr.TestExecutionEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+
+import java.nio.file.Path;
+
+/**
+ * Con {@code jfr.events=true} emite un {@link TestExecutionEvent} por cada método de prueba y, si la
+ * JVM no tiene ya una grabación en curso, graba la suite y la vuelca a {@code jfr.recording}.
+ * El evento se guarda como atributo del resultado, así que una segunda instancia del listener
+ * (ServiceLoader y testng.xml) no lo duplica.
+ */
+public class JfrListener implements ISuiteListener, ITestListener {
+    private static final Logger LOG = LoggerFactory.getLogger(JfrListener.class);
+    private static final String EVENT_ATTRIBUTE = TestExecutionEvent.class.getName();
+
+    @Override
+    public void onStart(ISuite suite) {
+        if (ApiConfig.isJfrEnabled()) {
+            JfrRecording.start();
+        }
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        Path path = JfrRecording.stop();
+        if (path != null) {
+            LOG.info("Grabación de JFR escrita en {}", path.toAbsolutePath());
+        }
+    }
+
+    @Override
+    public void onTestStart(ITestResult result) {
+        if (!ApiConfig.isJfrEnabled() || result.getAttribute(EVENT_ATTRIBUTE) != null) {
+            return;
+        }
+        TestExecutionEvent event = new TestExecutionEvent();
+        if (event.isEnabled()) {
+            event.begin();
+            result.setAttribute(EVENT_ATTRIBUTE, event);
+        }
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        commit(result, "SUCCESS");
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        commit(result, "FAILURE");
+    }
+
+    @Override
+    public void onTestSkipped(ITestResult result) {
+        commit(result, "SKIPPED");
+    }
+
+    @Override
+    public void onTestFailedButWithinSuccessPercentage(ITestResult result) {
+        commit(result, "SUCCESS_PERCENTAGE_FAILURE");
+    }
+
+    private static void commit(ITestResult result, String outcome) {
+        if (!(result.removeAttribute(EVENT_ATTRIBUTE) instanceof TestExecutionEvent event)) {
+            return;
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.testClass = result.getTestClass().getRealClass().getName();
+            event.testMethod = result.getName();
+            event.outcome = outcome;
+            event.commit();
+        }
+    }
+}
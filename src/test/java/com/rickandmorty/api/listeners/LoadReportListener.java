@@ -0,0 +1,14 @@
+package com.rickandmorty.api.listeners;
+
+import com.rickandmorty.api.performance.LoadReport;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+// Publica al terminar la suite la tabla de latencias de todas las pruebas de carga
+public class LoadReportListener implements ISuiteListener {
+
+    @Override
+    public void onFinish(ISuite suite) {
+        LoadReport.publish();
+    }
+}
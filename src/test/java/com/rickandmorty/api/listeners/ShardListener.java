@@ -0,0 +1,117 @@
+package com.rickandmorty.api.listeners;
+
+import com.rickandmorty.api.config.ApiConfig;
+import com.rickandmorty.api.reporting.SuiteReport;
+import com.rickandmorty.api.sharding.DurationHistory;
+import com.rickandmorty.api.sharding.ShardPlan;
+import org.testng.IConfigurationListener;
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestContext;
+import org.testng.ITestListener;
+import org.testng.ITestNGMethod;
+import org.testng.ITestResult;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reparte la suite en {@code shard.total} shards por duración histórica y ejecuta solo el
+ * {@code shard.index}; además mide la duración de cada prueba para el reparto siguiente.
+ *
+ * <p>El reparto ({@link ShardPlan}) parte de {@code durations.json} en {@code shard.history}. Sin
+ * shards, las duraciones medidas se combinan directamente en ese archivo; con shards, cada uno las
+ * escribe en su propio {@code durations-shard-N.json} y {@code ShardMerge} las combina al reunir los
+ * resultados, de modo que un shard que termina antes no cambia el reparto de los demás.</p>
+ *
+ * <p>El reparto se calcula una vez con la lista completa de métodos; una segunda instancia del
+ * listener (ServiceLoader y testng.xml) recibe la lista ya filtrada y no la vuelve a repartir. Por
+ * el mismo motivo cada resultado se marca al medirlo, para no sumar dos veces una configuración.</p>
+ */
+public class ShardListener implements IMethodInterceptor, ITestListener, IConfigurationListener, ISuiteListener {
+    private static final String MEASURED_ATTRIBUTE = ShardListener.class.getName();
+
+    private static volatile ShardPlan plan;
+    private static volatile DurationHistory measured = new DurationHistory();
+
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        int total = ApiConfig.getShardTotal();
+        if (total == 1) {
+            return methods;
+        }
+        int index = ApiConfig.getShardIndex();
+        List<String> tests = methods.stream().map(method -> key(method.getMethod())).toList();
+        ShardPlan current = plan;
+        if (current == null || !current.assignment().keySet().containsAll(tests)) {
+            current = ShardPlan.of(tests, DurationHistory.read(historyFile()), total);
+            plan = current;
+            SuiteReport.publish("Reparto en shards: " + context.getName(), current.summary());
+        }
+        List<IMethodInstance> selected = new ArrayList<>();
+        for (IMethodInstance method : methods) {
+            if (current.includes(key(method.getMethod()), index)) {
+                selected.add(method);
+            }
+        }
+        return selected;
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        recordTest(result);
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        recordTest(result);
+    }
+
+    @Override
+    public void onConfigurationSuccess(ITestResult result) {
+        ITestNGMethod method = result.getMethod();
+        if ((method.isBeforeClassConfiguration() || method.isAfterClassConfiguration()) && markMeasured(result)) {
+            measured.recordSetup(method.getRealClass().getName(), result.getEndMillis() - result.getStartMillis());
+        }
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        DurationHistory latest = measured;
+        measured = new DurationHistory();
+        plan = null;
+        if (latest.isEmpty()) {
+            return;
+        }
+        if (ApiConfig.getShardTotal() == 1) {
+            DurationHistory.read(historyFile()).merge(latest).write(historyFile());
+        } else {
+            latest.write(ApiConfig.getShardHistoryPath().resolve(DurationHistory.shardFile(ApiConfig.getShardIndex())));
+        }
+    }
+
+    private static void recordTest(ITestResult result) {
+        if (markMeasured(result)) {
+            measured.recordTest(key(result.getMethod()), result.getEndMillis() - result.getStartMillis());
+        }
+    }
+
+    private static boolean markMeasured(ITestResult result) {
+        if (result.getAttribute(MEASURED_ATTRIBUTE) != null) {
+            return false;
+        }
+        result.setAttribute(MEASURED_ATTRIBUTE, Boolean.TRUE);
+        return true;
+    }
+
+    private static String key(ITestNGMethod method) {
+        return method.getRealClass().getName() + "#" + method.getMethodName();
+    }
+
+    private static Path historyFile() {
+        return ApiConfig.getShardHistoryPath().resolve(DurationHistory.HISTORY_FILE);
+    }
+}
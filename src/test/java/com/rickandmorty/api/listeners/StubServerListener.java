@@ -0,0 +1,49 @@
+package com.rickandmorty.api.listeners;
+
+import com.rickandmorty.api.config.ApiConfig;
+import com.rickandmorty.api.stub.FixtureCatalog;
+import com.rickandmorty.api.stub.StubServer;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Levanta el servidor local antes de la suite cuando {@code api.mode=stub} y apunta los page objects
+ * a él. Se registra por ServiceLoader y en testng.xml, por lo que el arranque es idempotente.
+ */
+public class StubServerListener implements ISuiteListener {
+    private static StubServer server;
+
+    @Override
+    public void onStart(ISuite suite) {
+        // Al reproducir una cassette no se abre ningún socket, así que el servidor sobra
+        if (!ApiConfig.isStubMode() || ApiConfig.getCassetteMode() == ApiConfig.CassetteMode.REPLAY) {
+            return;
+        }
+        synchronized (StubServerListener.class) {
+            if (server != null) {
+                return;
+            }
+            try {
+                server = StubServer.start(FixtureCatalog.load(), ApiConfig.getStubMaxRate());
+            } catch (IOException e) {
+                throw new UncheckedIOException("No se pudo iniciar el servidor local", e);
+            }
+            ApiConfig.setBaseUrl(server.getBaseUrl());
+        }
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        synchronized (StubServerListener.class) {
+            if (server == null) {
+                return;
+            }
+            server.stop();
+            server = null;
+            ApiConfig.resetBaseUrl();
+        }
+    }
+}
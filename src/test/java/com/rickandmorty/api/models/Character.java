@@ -1,8 +1,10 @@
 package com.rickandmorty.api.models;
 
+import com.rickandmorty.api.codegen.JsonCodec;
 import lombok.Data;
 
 @Data
+@JsonCodec
 public class Character {
     private int id;
     private String name;
@@ -18,12 +20,14 @@ public class Character {
     private String created;
 
     @Data
+    @JsonCodec
     public static class Origin {
         private String name;
         private String url;
     }
 
     @Data
+    @JsonCodec
     public static class Location {
         private String name;
         private String url;
@@ -1,8 +1,10 @@
 package com.rickandmorty.api.models;
 
+import com.rickandmorty.api.codegen.JsonCodec;
 import lombok.Data;
 
 @Data
+@JsonCodec
 public class Location {
     private int id;
     private String name;
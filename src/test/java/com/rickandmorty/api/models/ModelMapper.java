@@ -0,0 +1,29 @@
+package com.rickandmorty.api.models;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * ObjectMapper compartido para convertir respuestas en modelos.
+ *
+ * <p>Registra los deserializadores que genera {@code @JsonCodec} al compilar ({@link GeneratedCodecs}):
+ * {@code Character}, {@code Location} y {@code Episode} se leen directamente del parser en streaming,
+ * sin introspección ni reflexión. Los campos desconocidos se ignoran, como en el resto de mappers.</p>
+ */
+public final class ModelMapper {
+    private static final ObjectMapper MAPPER = create();
+
+    private ModelMapper() {
+    }
+
+    // Es seguro compartirlo entre hilos una vez configurado
+    public static ObjectMapper get() {
+        return MAPPER;
+    }
+
+    public static ObjectMapper create() {
+        return new ObjectMapper()
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+                .registerModule(GeneratedCodecs.module());
+    }
+}
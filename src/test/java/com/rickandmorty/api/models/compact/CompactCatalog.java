@@ -0,0 +1,43 @@
+package com.rickandmorty.api.models.compact;
+
+import com.rickandmorty.api.catalog.Catalog;
+import com.rickandmorty.api.config.ApiConfig;
+import com.rickandmorty.api.models.Character;
+
+import java.util.List;
+
+// Catálogo completo en forma compacta; todos los elementos comparten los pools de un único CompactCodec
+public record CompactCatalog(String baseUrl, List<CompactCharacter> characters, List<CompactLocation> locations,
+                             List<CompactEpisode> episodes) {
+
+    public CompactCatalog {
+        characters = List.copyOf(characters);
+        locations = List.copyOf(locations);
+        episodes = List.copyOf(episodes);
+    }
+
+    public static CompactCatalog of(Catalog catalog) {
+        CompactCodec codec = new CompactCodec(baseUrl(catalog));
+        return new CompactCatalog(codec.getBaseUrl(),
+                catalog.characters().stream().map(codec::compact).toList(),
+                catalog.locations().stream().map(codec::compact).toList(),
+                catalog.episodes().stream().map(codec::compact).toList());
+    }
+
+    public Catalog toCatalog() {
+        CompactCodec codec = new CompactCodec(baseUrl);
+        return new Catalog(characters.stream().map(codec::expand).toList(),
+                locations.stream().map(codec::expand).toList(),
+                episodes.stream().map(codec::expand).toList());
+    }
+
+    // La API publica URLs absolutas con su propio host; se toma del primer personaje
+    private static String baseUrl(Catalog catalog) {
+        if (catalog.characters().isEmpty()) {
+            return ApiConfig.DEFAULT_BASE_URL;
+        }
+        Character first = catalog.characters().get(0);
+        int resource = first.getUrl().lastIndexOf("/character/");
+        return resource < 0 ? ApiConfig.DEFAULT_BASE_URL : first.getUrl().substring(0, resource);
+    }
+}
@@ -0,0 +1,10 @@
+package com.rickandmorty.api.models.compact;
+
+/**
+ * Personaje compacto: referencias como IDs, {@code created} en milisegundos desde epoch, estado y
+ * género como enums y origen/ubicación como {@link Place} compartidos. {@code image} solo se guarda
+ * cuando no sigue el patrón {@code <base>/character/avatar/<id>.jpeg}.
+ */
+public record CompactCharacter(int id, String name, Status status, String species, String type, Gender gender,
+                               Place origin, Place location, String image, int[] episodes, long created) {
+}
@@ -0,0 +1,210 @@
+package com.rickandmorty.api.models.compact;
+
+import com.rickandmorty.api.models.Character;
+import com.rickandmorty.api.models.Episode;
+import com.rickandmorty.api.models.Location;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Convierte entre los modelos de la API y su forma compacta, sin pérdida.
+ *
+ * <p>Las URLs se reducen a IDs comprobando que sigan el patrón {@code <base>/<recurso>/<id>}; los
+ * valores que se repiten (especie, tipo, dimensión y lugares) se comparten a través de los pools del
+ * codec, así que conviene usar un único codec por catálogo. Un valor que no se pueda reconstruir
+ * exactamente produce {@link IllegalArgumentException}.</p>
+ */
+public final class CompactCodec {
+    private static final DateTimeFormatter CREATED_FORMAT =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'").withZone(ZoneOffset.UTC);
+    private static final DateTimeFormatter AIR_DATE_FORMAT = DateTimeFormatter.ofPattern("MMMM d, yyyy", Locale.US);
+
+    private final String baseUrl;
+    private final String characterPrefix;
+    private final String locationPrefix;
+    private final String episodePrefix;
+    private final Map<String, String> strings = new ConcurrentHashMap<>();
+    private final Map<Place, Place> places = new ConcurrentHashMap<>();
+
+    public CompactCodec(String baseUrl) {
+        this.baseUrl = baseUrl;
+        this.characterPrefix = baseUrl + "/character/";
+        this.locationPrefix = baseUrl + "/location/";
+        this.episodePrefix = baseUrl + "/episode/";
+    }
+
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    public CompactCharacter compact(Character character) {
+        int id = character.getId();
+        requireEqual(characterPrefix + id, character.getUrl(), "url del personaje " + id);
+        String image = character.getImage();
+        return new CompactCharacter(id, character.getName(),
+                character.getStatus() == null ? null : Status.fromLabel(character.getStatus()),
+                intern(character.getSpecies()), intern(character.getType()),
+                character.getGender() == null ? null : Gender.fromLabel(character.getGender()),
+                character.getOrigin() == null ? null : place(character.getOrigin().getName(), character.getOrigin().getUrl()),
+                character.getLocation() == null ? null : place(character.getLocation().getName(), character.getLocation().getUrl()),
+                defaultImage(id).equals(image) ? null : image,
+                ids(character.getEpisode(), episodePrefix),
+                epochMillis(character.getCreated()));
+    }
+
+    public Character expand(CompactCharacter compact) {
+        Character character = new Character();
+        character.setId(compact.id());
+        character.setName(compact.name());
+        character.setStatus(compact.status() == null ? null : compact.status().label());
+        character.setSpecies(compact.species());
+        character.setType(compact.type());
+        character.setGender(compact.gender() == null ? null : compact.gender().label());
+        if (compact.origin() != null) {
+            Character.Origin origin = new Character.Origin();
+            origin.setName(compact.origin().name());
+            origin.setUrl(placeUrl(compact.origin()));
+            character.setOrigin(origin);
+        }
+        if (compact.location() != null) {
+            Character.Location location = new Character.Location();
+            location.setName(compact.location().name());
+            location.setUrl(placeUrl(compact.location()));
+            character.setLocation(location);
+        }
+        character.setImage(compact.image() == null ? defaultImage(compact.id()) : compact.image());
+        character.setEpisode(urls(compact.episodes(), episodePrefix));
+        character.setUrl(characterPrefix + compact.id());
+        character.setCreated(created(compact.created()));
+        return character;
+    }
+
+    public CompactLocation compact(Location location) {
+        requireEqual(locationPrefix + location.getId(), location.getUrl(), "url de la ubicación " + location.getId());
+        return new CompactLocation(location.getId(), location.getName(), intern(location.getType()),
+                intern(location.getDimension()), ids(location.getResidents(), characterPrefix),
+                epochMillis(location.getCreated()));
+    }
+
+    public Location expand(CompactLocation compact) {
+        Location location = new Location();
+        location.setId(compact.id());
+        location.setName(compact.name());
+        location.setType(compact.type());
+        location.setDimension(compact.dimension());
+        location.setResidents(urls(compact.residents(), characterPrefix));
+        location.setUrl(locationPrefix + compact.id());
+        location.setCreated(created(compact.created()));
+        return location;
+    }
+
+    public CompactEpisode compact(Episode episode) {
+        requireEqual(episodePrefix + episode.getId(), episode.getUrl(), "url del episodio " + episode.getId());
+        return new CompactEpisode(episode.getId(), episode.getName(), airDate(episode.getAir_date()),
+                episodeCode(episode.getEpisode()), ids(episode.getCharacters(), characterPrefix),
+                epochMillis(episode.getCreated()));
+    }
+
+    public Episode expand(CompactEpisode compact) {
+        Episode episode = new Episode();
+        episode.setId(compact.id());
+        episode.setName(compact.name());
+        episode.setAir_date(LocalDate.ofEpochDay(compact.airDate()).format(AIR_DATE_FORMAT));
+        episode.setEpisode(String.format("S%02dE%02d", compact.code() / 100, compact.code() % 100));
+        episode.setCharacters(urls(compact.characters(), characterPrefix));
+        episode.setUrl(episodePrefix + compact.id());
+        episode.setCreated(created(compact.created()));
+        return episode;
+    }
+
+    private String intern(String value) {
+        return value == null ? null : strings.computeIfAbsent(value, key -> key);
+    }
+
+    // El mismo lugar (ID y nombre) se representa siempre con la misma instancia
+    private Place place(String name, String url) {
+        int id = url == null || url.isEmpty() ? 0 : id(url, locationPrefix);
+        Place place = new Place(id, intern(name));
+        return places.computeIfAbsent(place, key -> key);
+    }
+
+    private String placeUrl(Place place) {
+        return place.id() == 0 ? "" : locationPrefix + place.id();
+    }
+
+    private String defaultImage(int id) {
+        return characterPrefix + "avatar/" + id + ".jpeg";
+    }
+
+    private static int[] ids(String[] urls, String prefix) {
+        if (urls == null) {
+            return null;
+        }
+        int[] ids = new int[urls.length];
+        for (int i = 0; i < urls.length; i++) {
+            ids[i] = id(urls[i], prefix);
+        }
+        return ids;
+    }
+
+    private static String[] urls(int[] ids, String prefix) {
+        if (ids == null) {
+            return null;
+        }
+        String[] urls = new String[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            urls[i] = prefix + ids[i];
+        }
+        return urls;
+    }
+
+    private static int id(String url, String prefix) {
+        if (url == null || !url.startsWith(prefix)) {
+            throw new IllegalArgumentException("URL fuera del patrón " + prefix + "<id>: " + url);
+        }
+        int id;
+        try {
+            id = Integer.parseInt(url, prefix.length(), url.length(), 10);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("URL sin ID numérico: " + url, e);
+        }
+        requireEqual(prefix + id, url, "URL");
+        return id;
+    }
+
+    private static long epochMillis(String created) {
+        long millis = Instant.parse(created).toEpochMilli();
+        requireEqual(created(millis), created, "created");
+        return millis;
+    }
+
+    private static String created(long epochMillis) {
+        return CREATED_FORMAT.format(Instant.ofEpochMilli(epochMillis));
+    }
+
+    private static int airDate(String airDate) {
+        LocalDate date = LocalDate.parse(airDate, AIR_DATE_FORMAT);
+        requireEqual(date.format(AIR_DATE_FORMAT), airDate, "air_date");
+        return Math.toIntExact(date.toEpochDay());
+    }
+
+    // "S01E11" -> 111
+    private static int episodeCode(String code) {
+        if (code == null || !code.matches("S\\d{2}E\\d{2}")) {
+            throw new IllegalArgumentException("Código de episodio inesperado: " + code);
+        }
+        return Integer.parseInt(code, 1, 3, 10) * 100 + Integer.parseInt(code, 4, 6, 10);
+    }
+
+    private static void requireEqual(String expected, String actual, String what) {
+        if (!expected.equals(actual)) {
+            throw new IllegalArgumentException(what + " no se puede compactar sin pérdida: " + actual);
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package com.rickandmorty.api.models.compact;
+
+// Episodio compacto: fecha de emisión en días desde epoch, código SxxEyy como temporada * 100 + número,
+// personajes como IDs y created en milisegundos desde epoch
+public record CompactEpisode(int id, String name, int airDate, int code, int[] characters, long created) {
+}
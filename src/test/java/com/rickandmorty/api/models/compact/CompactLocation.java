@@ -0,0 +1,5 @@
+package com.rickandmorty.api.models.compact;
+
+// Ubicación compacta: residentes como IDs y created en milisegundos desde epoch
+public record CompactLocation(int id, String name, String type, String dimension, int[] residents, long created) {
+}
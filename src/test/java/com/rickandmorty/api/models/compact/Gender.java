@@ -0,0 +1,25 @@
+package com.rickandmorty.api.models.compact;
+
+// Valores posibles de Character.gender
+public enum Gender {
+    FEMALE("Female"), MALE("Male"), GENDERLESS("Genderless"), UNKNOWN("unknown");
+
+    private final String label;
+
+    Gender(String label) {
+        this.label = label;
+    }
+
+    public String label() {
+        return label;
+    }
+
+    public static Gender fromLabel(String label) {
+        for (Gender gender : values()) {
+            if (gender.label.equals(label)) {
+                return gender;
+            }
+        }
+        throw new IllegalArgumentException("Género desconocido: " + label);
+    }
+}
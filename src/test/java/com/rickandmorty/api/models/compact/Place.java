@@ -0,0 +1,6 @@
+package com.rickandmorty.api.models.compact;
+
+// Origen o ubicación de un personaje; id 0 cuando la API publica la URL vacía ("unknown").
+// CompactCodec comparte una única instancia por lugar entre todos los personajes.
+public record Place(int id, String name) {
+}
@@ -0,0 +1,25 @@
+package com.rickandmorty.api.models.compact;
+
+// Valores posibles de Character.status
+public enum Status {
+    ALIVE("Alive"), DEAD("Dead"), UNKNOWN("unknown");
+
+    private final String label;
+
+    Status(String label) {
+        this.label = label;
+    }
+
+    public String label() {
+        return label;
+    }
+
+    public static Status fromLabel(String label) {
+        for (Status status : values()) {
+            if (status.label.equals(label)) {
+                return status;
+            }
+        }
+        throw new IllegalArgumentException("Estado desconocido: " + label);
+    }
+}
@@ -0,0 +1,111 @@
+package com.rickandmorty.api.pages;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rickandmorty.api.config.ApiConfig;
+import com.rickandmorty.api.models.ModelMapper;
+import io.restassured.response.Response;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Ejecuta las variantes asíncronas de los page objects en un pool de {@code api.async.maxConcurrency}
+ * hilos (por defecto, las conexiones por host del pool HTTP) y convierte la respuesta en modelos tipados.
+ *
+ * <p>El tamaño del pool limita las peticiones en vuelo; se pueden encolar cientos de llamadas y el
+ * resto espera su turno en la cola, sin ocupar un hilo. Son hilos de plataforma, igual que en el
+ * crawler, el verificador de integridad y el generador de carga: RestAssured espera conexión del pool dentro de bloques sincronizados, y un hilo virtual
+ * fijaría ahí su portador. Con la suite en paralelo el pool HTTP también lo usan otras pruebas, así
+ * que esa espera ocurre, y en una máquina de un núcleo dejaba sin portador al servidor local.</p>
+ */
+final class AsyncRequests {
+    private static final ObjectMapper MAPPER = ModelMapper.get();
+    private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(ApiConfig.getAsyncMaxConcurrency(),
+            Thread.ofPlatform().name("page-async-", 0).daemon().factory());
+
+    private AsyncRequests() {
+    }
+
+    static <T> CompletableFuture<T> submit(Supplier<Response> call, Function<Response, T> decoder) {
+        return CompletableFuture.supplyAsync(() -> decoder.apply(call.get()), EXECUTOR);
+    }
+
+    // Una entidad; cualquier estado distinto de 200 completa el futuro con error
+    static <T> Function<Response, T> entity(Class<T> type) {
+        return response -> read(response, "la entidad", parser -> MAPPER.readValue(parser, type));
+    }
+
+    // Consulta de varios IDs: con un único ID la API devuelve el objeto en lugar de un arreglo
+    static <T> Function<Response, List<T>> list(Class<T> type) {
+        return response -> read(response, "la consulta múltiple", parser -> {
+            List<T> items = new ArrayList<>();
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.START_ARRAY) {
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    items.add(MAPPER.readValue(parser, type));
+                }
+            } else if (token == JsonToken.START_OBJECT) {
+                items.add(MAPPER.readValue(parser, type));
+            }
+            return items;
+        });
+    }
+
+    // Los resultados se leen en streaming; solo el bloque info, pequeño, pasa por el árbol JSON
+    static <T> Function<Response, Page<T>> page(Class<T> type) {
+        return response -> {
+            if (response.getStatusCode() == 404) {
+                return Page.empty();
+            }
+            return read(response, "la página", parser -> {
+                if (parser.nextToken() != JsonToken.START_OBJECT) {
+                    throw new IOException("Se esperaba un objeto con info y results");
+                }
+                JsonNode info = MAPPER.createObjectNode();
+                List<T> results = new ArrayList<>();
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String field = parser.getCurrentName();
+                    JsonToken value = parser.nextToken();
+                    if ("info".equals(field) && value == JsonToken.START_OBJECT) {
+                        info = MAPPER.readTree(parser);
+                    } else if ("results".equals(field) && value == JsonToken.START_ARRAY) {
+                        while (parser.nextToken() == JsonToken.START_OBJECT) {
+                            results.add(MAPPER.readValue(parser, type));
+                        }
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+                return new Page<>(info.path("count").asInt(), info.path("pages").asInt(),
+                        info.path("next").textValue(), info.path("prev").textValue(), results);
+            });
+        };
+    }
+
+    private static <T> T read(Response response, String what, BodyReader<T> reader) {
+        if (response.getStatusCode() != 200) {
+            throw new IllegalStateException("Al pedir " + what + " la API respondió con estado "
+                    + response.getStatusCode() + ": " + response.asString());
+        }
+        try (JsonParser parser = MAPPER.getFactory().createParser(response.asByteArray())) {
+            return reader.read(parser);
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo leer " + what, e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface BodyReader<T> {
+        T read(JsonParser parser) throws IOException;
+    }
+}
@@ -0,0 +1,32 @@
+package com.rickandmorty.api.pages;
+
+import com.rickandmorty.api.client.ApiClient;
+import com.rickandmorty.api.config.ApiConfig;
+import io.restassured.specification.RequestSpecification;
+
+import java.util.List;
+
+// Base común de los page objects: todas las peticiones pasan por el cliente compartido
+public abstract class BasePage {
+
+    protected RequestSpecification request() {
+        return ApiClient.request();
+    }
+
+    protected String url(String path) {
+        return ApiConfig.getBaseUrl() + path;
+    }
+
+    // IDs separados por comas para las consultas múltiples; un único StringBuilder en lugar de
+    // concatenar cadenas intermedias, cuyo coste crece cuadráticamente con la lista
+    public static String joinIds(List<Integer> ids) {
+        StringBuilder joined = new StringBuilder(ids.size() * 4);
+        for (int i = 0; i < ids.size(); i++) {
+            if (i > 0) {
+                joined.append(',');
+            }
+            joined.append(ids.get(i).intValue());
+        }
+        return joined.toString();
+    }
+}
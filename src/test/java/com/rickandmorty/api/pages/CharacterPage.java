@@ -1,47 +1,102 @@
 package com.rickandmorty.api.pages;
 
+import com.rickandmorty.api.models.Character;
 import io.restassured.response.Response;
 import java.util.List;
-import static io.restassured.RestAssured.given;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 
-public class CharacterPage {
-    private static final String BASE_URL = "https://rickandmortyapi.com/api";
-
+public class CharacterPage extends BasePage {
     // Obtener un personaje por ID
     public Response getCharacter(int id) {
-        return given()
+        return request()
                 .when()
-                .get(BASE_URL + "/character/" + id);
+                .get(url("/character/" + id));
     }
 
     // Obtener todos los personajes
     public Response getAllCharacters() {
-        return given()
+        return request()
+                .when()
+                .get(url("/character"));
+    }
+
+    // Obtener una página concreta del listado de personajes
+    public Response getCharactersPage(int page) {
+        return request()
+                .queryParam("page", page)
                 .when()
-                .get(BASE_URL + "/character");
+                .get(url("/character"));
     }
 
     // Obtener múltiples personajes por IDs
     public Response getMultipleCharacters(List<Integer> ids) {
-        String idsParam = ids.stream()
-                .map(String::valueOf)
-                .reduce((a, b) -> a + "," + b)
-                .orElse("");
-        return given()
+        return request()
                 .when()
-                .get(BASE_URL + "/character/" + idsParam);
+                .get(url("/character/" + joinIds(ids)));
     }
 
     // Filtrar personajes por parámetros
     public Response filterCharacters(String name, String status, String species, String type, String gender) {
-        return given()
+        return request()
                 .queryParam("name", name)
                 .queryParam("status", status)
                 .queryParam("species", species)
                 .queryParam("type", type)
                 .queryParam("gender", gender)
                 .when()
-                .get(BASE_URL + "/character/");
+                .get(url("/character/"));
+    }
+
+    // Filtrar personajes por parámetros en una página concreta
+    public Response filterCharacters(String name, String status, String species, String type, String gender, int page) {
+        return request()
+                .queryParam("name", name)
+                .queryParam("status", status)
+                .queryParam("species", species)
+                .queryParam("type", type)
+                .queryParam("gender", gender)
+                .queryParam("page", page)
+                .when()
+                .get(url("/character/"));
+    }
+
+    // Recorrer todos los personajes de forma perezosa, página a página
+    public Stream<Character> streamCharacters() {
+        return PagedIterator.stream(this::getCharactersPage, Character.class);
+    }
+
+    // Recorrer de forma perezosa los personajes que cumplen el filtro
+    public Stream<Character> streamFilteredCharacters(String name, String status, String species, String type, String gender) {
+        return PagedIterator.stream(page -> filterCharacters(name, status, species, type, gender, page), Character.class);
+    }
+
+    // Variantes asíncronas: misma petición que la bloqueante, en el pool de hilos de plataforma de
+    // AsyncRequests (allí se explica por qué no son hilos virtuales) y con el resultado tipado
+
+    public CompletableFuture<Character> getCharacterAsync(int id) {
+        return AsyncRequests.submit(() -> getCharacter(id), AsyncRequests.entity(Character.class));
+    }
+
+    public CompletableFuture<Page<Character>> getAllCharactersAsync() {
+        return AsyncRequests.submit(this::getAllCharacters, AsyncRequests.page(Character.class));
+    }
+
+    public CompletableFuture<Page<Character>> getCharactersPageAsync(int page) {
+        return AsyncRequests.submit(() -> getCharactersPage(page), AsyncRequests.page(Character.class));
+    }
+
+    public CompletableFuture<List<Character>> getMultipleCharactersAsync(List<Integer> ids) {
+        List<Integer> snapshot = List.copyOf(ids);
+        return AsyncRequests.submit(() -> getMultipleCharacters(snapshot), AsyncRequests.list(Character.class));
+    }
+
+    public CompletableFuture<Page<Character>> filterCharactersAsync(String name, String status, String species, String type, String gender) {
+        return AsyncRequests.submit(() -> filterCharacters(name, status, species, type, gender), AsyncRequests.page(Character.class));
+    }
+
+    public CompletableFuture<Page<Character>> filterCharactersAsync(String name, String status, String species, String type, String gender, int page) {
+        return AsyncRequests.submit(() -> filterCharacters(name, status, species, type, gender, page), AsyncRequests.page(Character.class));
     }
 }
@@ -1,43 +1,95 @@
 package com.rickandmorty.api.pages;
 
+import com.rickandmorty.api.models.Episode;
 import io.restassured.response.Response;
 import java.util.List;
-import static io.restassured.RestAssured.given;
-
-public class EpisodePage {
-    private static final String BASE_URL = "https://rickandmortyapi.com/api";
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
+public class EpisodePage extends BasePage {
     // Obtener un episodio por ID
     public Response getEpisode(int id) {
-        return given()
+        return request()
                 .when()
-                .get(BASE_URL + "/episode/" + id);
+                .get(url("/episode/" + id));
     }
 
     // Obtener todos los episodios
     public Response getAllEpisodes() {
-        return given()
+        return request()
+                .when()
+                .get(url("/episode"));
+    }
+
+    // Obtener una página concreta del listado de episodios
+    public Response getEpisodesPage(int page) {
+        return request()
+                .queryParam("page", page)
                 .when()
-                .get(BASE_URL + "/episode");
+                .get(url("/episode"));
     }
 
     // Obtener múltiples episodios por IDs
     public Response getMultipleEpisodes(List<Integer> ids) {
-        String idsParam = ids.stream()
-                .map(String::valueOf)
-                .reduce((a, b) -> a + "," + b)
-                .orElse("");
-        return given()
+        return request()
                 .when()
-                .get(BASE_URL + "/episode/" + idsParam);
+                .get(url("/episode/" + joinIds(ids)));
     }
 
     // Filtrar episodios por parámetros
     public Response filterEpisodes(String name, String episodeCode) {
-        return given()
+        return request()
                 .queryParam("name", name)
                 .queryParam("episode", episodeCode)
                 .when()
-                .get(BASE_URL + "/episode/");
+                .get(url("/episode/"));
+    }
+
+    // Filtrar episodios por parámetros en una página concreta
+    public Response filterEpisodes(String name, String episodeCode, int page) {
+        return request()
+                .queryParam("name", name)
+                .queryParam("episode", episodeCode)
+                .queryParam("page", page)
+                .when()
+                .get(url("/episode/"));
+    }
+
+    // Recorrer todos los episodios de forma perezosa, página a página
+    public Stream<Episode> streamEpisodes() {
+        return PagedIterator.stream(this::getEpisodesPage, Episode.class);
+    }
+
+    // Recorrer de forma perezosa los episodios que cumplen el filtro
+    public Stream<Episode> streamFilteredEpisodes(String name, String episodeCode) {
+        return PagedIterator.stream(page -> filterEpisodes(name, episodeCode, page), Episode.class);
+    }
+
+    // Variantes asíncronas: misma petición que la bloqueante, en el pool de hilos de plataforma de
+    // AsyncRequests (allí se explica por qué no son hilos virtuales) y con el resultado tipado
+
+    public CompletableFuture<Episode> getEpisodeAsync(int id) {
+        return AsyncRequests.submit(() -> getEpisode(id), AsyncRequests.entity(Episode.class));
+    }
+
+    public CompletableFuture<Page<Episode>> getAllEpisodesAsync() {
+        return AsyncRequests.submit(this::getAllEpisodes, AsyncRequests.page(Episode.class));
+    }
+
+    public CompletableFuture<Page<Episode>> getEpisodesPageAsync(int page) {
+        return AsyncRequests.submit(() -> getEpisodesPage(page), AsyncRequests.page(Episode.class));
+    }
+
+    public CompletableFuture<List<Episode>> getMultipleEpisodesAsync(List<Integer> ids) {
+        List<Integer> snapshot = List.copyOf(ids);
+        return AsyncRequests.submit(() -> getMultipleEpisodes(snapshot), AsyncRequests.list(Episode.class));
+    }
+
+    public CompletableFuture<Page<Episode>> filterEpisodesAsync(String name, String episodeCode) {
+        return AsyncRequests.submit(() -> filterEpisodes(name, episodeCode), AsyncRequests.page(Episode.class));
+    }
+
+    public CompletableFuture<Page<Episode>> filterEpisodesAsync(String name, String episodeCode, int page) {
+        return AsyncRequests.submit(() -> filterEpisodes(name, episodeCode, page), AsyncRequests.page(Episode.class));
     }
-}
\ No newline at end of file
+}
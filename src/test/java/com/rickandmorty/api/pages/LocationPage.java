@@ -1,44 +1,97 @@
 package com.rickandmorty.api.pages;
 
+import com.rickandmorty.api.models.Location;
 import io.restassured.response.Response;
 import java.util.List;
-import static io.restassured.RestAssured.given;
-
-public class LocationPage {
-    private static final String BASE_URL = "https://rickandmortyapi.com/api";
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
+public class LocationPage extends BasePage {
     // Obtener una ubicación por ID
     public Response getLocation(int id) {
-        return given()
+        return request()
                 .when()
-                .get(BASE_URL + "/location/" + id);
+                .get(url("/location/" + id));
     }
 
     // Obtener todas las ubicaciones
     public Response getAllLocations() {
-        return given()
+        return request()
+                .when()
+                .get(url("/location"));
+    }
+
+    // Obtener una página concreta del listado de ubicaciones
+    public Response getLocationsPage(int page) {
+        return request()
+                .queryParam("page", page)
                 .when()
-                .get(BASE_URL + "/location");
+                .get(url("/location"));
     }
 
     // Obtener múltiples ubicaciones por IDs
     public Response getMultipleLocations(List<Integer> ids) {
-        String idsParam = ids.stream()
-                .map(String::valueOf)
-                .reduce((a, b) -> a + "," + b)
-                .orElse("");
-        return given()
+        return request()
                 .when()
-                .get(BASE_URL + "/location/" + idsParam);
+                .get(url("/location/" + joinIds(ids)));
     }
 
     // Filtrar ubicaciones por parámetros
     public Response filterLocations(String name, String type, String dimension) {
-        return given()
+        return request()
+                .queryParam("name", name)
+                .queryParam("type", type)
+                .queryParam("dimension", dimension)
+                .when()
+                .get(url("/location/"));
+    }
+
+    // Filtrar ubicaciones por parámetros en una página concreta
+    public Response filterLocations(String name, String type, String dimension, int page) {
+        return request()
                 .queryParam("name", name)
                 .queryParam("type", type)
                 .queryParam("dimension", dimension)
+                .queryParam("page", page)
                 .when()
-                .get(BASE_URL + "/location/");
+                .get(url("/location/"));
+    }
+
+    // Recorrer todos los ubicaciones de forma perezosa, página a página
+    public Stream<Location> streamLocations() {
+        return PagedIterator.stream(this::getLocationsPage, Location.class);
+    }
+
+    // Recorrer de forma perezosa los ubicaciones que cumplen el filtro
+    public Stream<Location> streamFilteredLocations(String name, String type, String dimension) {
+        return PagedIterator.stream(page -> filterLocations(name, type, dimension, page), Location.class);
+    }
+
+    // Variantes asíncronas: misma petición que la bloqueante, en el pool de hilos de plataforma de
+    // AsyncRequests (allí se explica por qué no son hilos virtuales) y con el resultado tipado
+
+    public CompletableFuture<Location> getLocationAsync(int id) {
+        return AsyncRequests.submit(() -> getLocation(id), AsyncRequests.entity(Location.class));
+    }
+
+    public CompletableFuture<Page<Location>> getAllLocationsAsync() {
+        return AsyncRequests.submit(this::getAllLocations, AsyncRequests.page(Location.class));
+    }
+
+    public CompletableFuture<Page<Location>> getLocationsPageAsync(int page) {
+        return AsyncRequests.submit(() -> getLocationsPage(page), AsyncRequests.page(Location.class));
+    }
+
+    public CompletableFuture<List<Location>> getMultipleLocationsAsync(List<Integer> ids) {
+        List<Integer> snapshot = List.copyOf(ids);
+        return AsyncRequests.submit(() -> getMultipleLocations(snapshot), AsyncRequests.list(Location.class));
+    }
+
+    public CompletableFuture<Page<Location>> filterLocationsAsync(String name, String type, String dimension) {
+        return AsyncRequests.submit(() -> filterLocations(name, type, dimension), AsyncRequests.page(Location.class));
+    }
+
+    public CompletableFuture<Page<Location>> filterLocationsAsync(String name, String type, String dimension, int page) {
+        return AsyncRequests.submit(() -> filterLocations(name, type, dimension, page), AsyncRequests.page(Location.class));
     }
-}
\ No newline at end of file
+}
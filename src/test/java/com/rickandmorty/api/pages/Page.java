@@ -0,0 +1,19 @@
+package com.rickandmorty.api.pages;
+
+import java.util.List;
+
+/**
+ * Una página de un listado de la API ya deserializada: el bloque {@code info} y los resultados.
+ * {@code next} y {@code prev} son las URLs de las páginas vecinas, o {@code null} en los extremos.
+ */
+public record Page<T>(int count, int pages, String next, String prev, List<T> results) {
+
+    // La API responde 404 cuando un filtro no tiene resultados; se representa como página vacía
+    public static <T> Page<T> empty() {
+        return new Page<>(0, 0, null, null, List.of());
+    }
+
+    public boolean hasNext() {
+        return next != null;
+    }
+}
@@ -0,0 +1,170 @@
+package com.rickandmorty.api.pages;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rickandmorty.api.models.ModelMapper;
+import io.restassured.response.Response;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.IntFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Iterador perezoso sobre un listado paginado de la API.
+ *
+ * <p>Mantiene en memoria solo la página que se está consumiendo y, como mucho, la siguiente, que se
+ * pide en segundo plano en cuanto empieza el consumo de la actual. Cada página se lee con el parser
+ * en streaming de Jackson: los elementos de {@code results} se deserializan uno a uno, con los
+ * deserializadores generados de {@link ModelMapper}, sin construir el árbol JSON completo. Si el
+ * consumidor deja de pedir elementos (por ejemplo con {@code findFirst}), no se piden más páginas
+ * que la ya adelantada.</p>
+ */
+public final class PagedIterator<T> implements Iterator<T>, AutoCloseable {
+    private static final ObjectMapper MAPPER = ModelMapper.get();
+    // Hilos de plataforma, no virtuales: ver AsyncRequests
+    private static final ExecutorService PREFETCH = Executors.newCachedThreadPool(
+            Thread.ofPlatform().name("page-prefetch-", 0).daemon().factory());
+
+    private final IntFunction<Response> pageFetcher;
+    private final Class<T> type;
+    private Iterator<T> current = Collections.emptyIterator();
+    private CompletableFuture<Chunk<T>> next;
+    private int nextPage = 1;
+    private boolean lastPageLoaded;
+    private boolean closed;
+
+    public PagedIterator(IntFunction<Response> pageFetcher, Class<T> type) {
+        this.pageFetcher = pageFetcher;
+        this.type = type;
+    }
+
+    public static <T> Stream<T> stream(IntFunction<Response> pageFetcher, Class<T> type) {
+        PagedIterator<T> iterator = new PagedIterator<>(pageFetcher, type);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator,
+                        Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(iterator::close);
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!current.hasNext()) {
+            if (closed || (lastPageLoaded && next == null)) {
+                return false;
+            }
+            Chunk<T> chunk = next != null ? join(next) : load(nextPage++);
+            next = null;
+            current = chunk.items().iterator();
+            lastPageLoaded = !chunk.hasNext();
+            if (!lastPageLoaded) {
+                int page = nextPage++;
+                next = CompletableFuture.supplyAsync(() -> load(page), PREFETCH);
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return current.next();
+    }
+
+    // Descarta la página adelantada; no se pedirá ninguna otra
+    @Override
+    public void close() {
+        closed = true;
+        if (next != null) {
+            next.cancel(false);
+            next = null;
+        }
+    }
+
+    private Chunk<T> load(int page) {
+        Response response = pageFetcher.apply(page);
+        if (response.getStatusCode() == 404 && page == 1) {
+            // La API responde 404 cuando un filtro no tiene resultados
+            return new Chunk<>(List.of(), false);
+        }
+        if (response.getStatusCode() != 200) {
+            throw new IllegalStateException("La página " + page + " respondió con estado " + response.getStatusCode());
+        }
+        try (InputStream body = response.asInputStream()) {
+            return parse(body, type);
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo leer la página " + page, e);
+        }
+    }
+
+    // Solo los resultados de una página ya descargada, leídos en streaming
+    public static <T> List<T> results(Response response, Class<T> type) {
+        try (InputStream body = response.asInputStream()) {
+            return parse(body, type).items();
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudieron leer los resultados", e);
+        }
+    }
+
+    // Lee {"info": {..., "next": ...}, "results": [...]} token a token
+    static <T> Chunk<T> parse(InputStream body, Class<T> type) throws IOException {
+        List<T> items = new ArrayList<>();
+        boolean hasNext = false;
+        try (JsonParser parser = MAPPER.getFactory().createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Se esperaba un objeto con info y results");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if ("info".equals(field) && value == JsonToken.START_OBJECT) {
+                    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                        String infoField = parser.getCurrentName();
+                        JsonToken infoValue = parser.nextToken();
+                        if ("next".equals(infoField)) {
+                            hasNext = infoValue != JsonToken.VALUE_NULL;
+                        } else {
+                            parser.skipChildren();
+                        }
+                    }
+                } else if ("results".equals(field) && value == JsonToken.START_ARRAY) {
+                    while (parser.nextToken() == JsonToken.START_OBJECT) {
+                        items.add(MAPPER.readValue(parser, type));
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        return new Chunk<>(items, hasNext);
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    record Chunk<T>(List<T> items, boolean hasNext) {
+    }
+}
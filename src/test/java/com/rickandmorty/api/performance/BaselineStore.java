@@ -0,0 +1,118 @@
+package com.rickandmorty.api.performance;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Archivo JSON con las líneas base de latencia, separadas por origen de los datos (servidor local o
+ * URL de la API) para no comparar ejecuciones contra entornos distintos.
+ *
+ * <pre>{"version":1,"stub":{"character.single":{"recordedAt":"...","p50Millis":..,"p90Millis":..,"p99Millis":..,"samplesMicros":[..]}}}</pre>
+ * <p>Los percentiles se guardan para leer el archivo a simple vista; la comparación usa las muestras.</p>
+ *
+ * <p>Todas las instancias sobre el mismo archivo comparten cerrojo, porque las pruebas de carga en
+ * paralelo leen y escriben a la vez. Cada escritura va a un archivo temporal que luego reemplaza al
+ * original de forma atómica, así que nunca se lee un archivo a medio escribir.</p>
+ */
+public final class BaselineStore {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final int VERSION = 1;
+    private static final Map<Path, Object> LOCKS = new ConcurrentHashMap<>();
+
+    private final Path path;
+    private final Object lock;
+
+    public BaselineStore(Path path) {
+        this.path = path;
+        this.lock = LOCKS.computeIfAbsent(path.toAbsolutePath().normalize(), key -> new Object());
+    }
+
+    public Optional<LatencyBaseline> find(String source, String endpoint) {
+        JsonNode node;
+        synchronized (lock) {
+            node = read().path(source).path(endpoint);
+        }
+        if (!node.path("samplesMicros").isArray() || node.path("samplesMicros").isEmpty()) {
+            return Optional.empty();
+        }
+        long[] samples = new long[node.path("samplesMicros").size()];
+        for (int i = 0; i < samples.length; i++) {
+            samples[i] = node.path("samplesMicros").get(i).asLong();
+        }
+        return Optional.of(new LatencyBaseline(Instant.parse(node.path("recordedAt").asText()), samples));
+    }
+
+    // Lectura, modificación y escritura bajo el mismo cerrojo, por si varias pruebas terminan a la vez
+    public void save(String source, String endpoint, LatencyBaseline baseline) {
+        synchronized (lock) {
+            write(update(read(), source, endpoint, baseline));
+        }
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    private static ObjectNode update(ObjectNode root, String source, String endpoint, LatencyBaseline baseline) {
+        root.put("version", VERSION);
+        JsonNode sourceNode = root.path(source);
+        ObjectNode endpoints = sourceNode.isObject() ? (ObjectNode) sourceNode : root.putObject(source);
+        ObjectNode entry = endpoints.putObject(endpoint);
+        entry.put("recordedAt", baseline.recordedAt().toString());
+        entry.put("p50Millis", baseline.percentileMillis(50));
+        entry.put("p90Millis", baseline.percentileMillis(90));
+        entry.put("p99Millis", baseline.percentileMillis(99));
+        ArrayNode samples = entry.putArray("samplesMicros");
+        for (long sample : baseline.samplesMicros()) {
+            samples.add(sample);
+        }
+        return root;
+    }
+
+    private void write(ObjectNode root) {
+        try {
+            Path directory = path.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            Path temp = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+            try {
+                MAPPER.writerWithDefaultPrettyPrinter().writeValue(temp.toFile(), root);
+                Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo guardar la línea base en " + path, e);
+        }
+    }
+
+    // Un archivo ausente o de otra versión equivale a no tener líneas base; uno ilegible es un error,
+    // porque reescribirlo borraría las líneas base de los demás endpoints
+    private ObjectNode read() {
+        if (!Files.isRegularFile(path)) {
+            return MAPPER.createObjectNode();
+        }
+        JsonNode root;
+        try {
+            root = MAPPER.readTree(path.toFile());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Archivo de líneas base ilegible: " + path
+                    + " (corrígelo o bórralo para empezar de cero)", e);
+        }
+        if (root instanceof ObjectNode object && root.path("version").asInt() == VERSION) {
+            return object;
+        }
+        return MAPPER.createObjectNode();
+    }
+}
@@ -0,0 +1,134 @@
+package com.rickandmorty.api.performance;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Estima el tamaño retenido en el heap por un grafo de objetos, recorriéndolo por reflexión.
+ *
+ * <p>Supone la disposición de HotSpot de 64 bits con referencias comprimidas (cabecera de 12 bytes,
+ * referencias de 4, arreglos con cabecera de 16 y alineación a 8). Cada objeto se cuenta una vez, así
+ * que las instancias compartidas (cadenas internadas, flyweights) solo suman la primera vez; los enums
+ * y las clases no se cuentan. Las cadenas y las colecciones del JDK se estiman sin reflexión, porque
+ * sus campos no son accesibles desde fuera de {@code java.base}.</p>
+ */
+public final class HeapFootprint {
+    private static final int OBJECT_HEADER = 12;
+    private static final int ARRAY_HEADER = 16;
+    private static final int REFERENCE = 4;
+    private static final int STRING_SHALLOW = 24;
+
+    private HeapFootprint() {
+    }
+
+    public static long deepSize(Object root) {
+        Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        Deque<Object> pending = new ArrayDeque<>();
+        pending.push(root);
+        long total = 0;
+        while (!pending.isEmpty()) {
+            Object object = pending.pop();
+            if (object instanceof Enum<?> || object instanceof Class<?> || !visited.add(object)) {
+                continue;
+            }
+            total += shallowSize(object, pending);
+        }
+        return total;
+    }
+
+    // Tamaño del propio objeto; las referencias que contiene se encolan para recorrerlas después
+    private static long shallowSize(Object object, Deque<Object> pending) {
+        Class<?> type = object.getClass();
+        if (object instanceof String string) {
+            return STRING_SHALLOW + align(ARRAY_HEADER + (long) string.length() * (isLatin1(string) ? 1 : 2));
+        }
+        if (type.isArray()) {
+            int length = Array.getLength(object);
+            Class<?> component = type.getComponentType();
+            if (!component.isPrimitive()) {
+                for (Object element : (Object[]) object) {
+                    pushIfPresent(pending, element);
+                }
+            }
+            return align(ARRAY_HEADER + (long) length * (component.isPrimitive() ? primitiveSize(component) : REFERENCE));
+        }
+        if (object instanceof Collection<?> collection && type.getName().startsWith("java.")) {
+            collection.forEach(element -> pushIfPresent(pending, element));
+            return align(OBJECT_HEADER + 2L * REFERENCE) + align(ARRAY_HEADER + (long) collection.size() * REFERENCE);
+        }
+        if (object instanceof Map<?, ?> map && type.getName().startsWith("java.")) {
+            map.forEach((key, value) -> {
+                pushIfPresent(pending, key);
+                pushIfPresent(pending, value);
+            });
+            // Tabla de cubetas más un nodo de 32 bytes por entrada, como HashMap
+            return align(OBJECT_HEADER + 4L * REFERENCE) + align(ARRAY_HEADER + (long) map.size() * 2 * REFERENCE) + 32L * map.size();
+        }
+        if (type.getName().startsWith("java.")) {
+            // Wrappers y otros objetos pequeños del JDK: solo la cabecera y un campo
+            return align(OBJECT_HEADER + Long.BYTES);
+        }
+
+        long size = OBJECT_HEADER;
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers())) {
+                    continue;
+                }
+                Class<?> fieldType = field.getType();
+                if (fieldType.isPrimitive()) {
+                    size += primitiveSize(fieldType);
+                    continue;
+                }
+                size += REFERENCE;
+                try {
+                    field.setAccessible(true);
+                    pushIfPresent(pending, field.get(object));
+                } catch (ReflectiveOperationException | RuntimeException e) {
+                    throw new IllegalStateException("No se puede medir el campo " + field, e);
+                }
+            }
+        }
+        return align(size);
+    }
+
+    private static void pushIfPresent(Deque<Object> pending, Object object) {
+        if (object != null) {
+            pending.push(object);
+        }
+    }
+
+    private static boolean isLatin1(String string) {
+        for (int i = 0; i < string.length(); i++) {
+            if (string.charAt(i) > 0xFF) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int primitiveSize(Class<?> type) {
+        if (type == long.class || type == double.class) {
+            return 8;
+        }
+        if (type == int.class || type == float.class) {
+            return 4;
+        }
+        if (type == short.class || type == char.class) {
+            return 2;
+        }
+        return 1;
+    }
+
+    private static long align(long size) {
+        return (size + 7) & ~7L;
+    }
+}
@@ -0,0 +1,36 @@
+package com.rickandmorty.api.performance;
+
+import java.time.Instant;
+import java.util.Arrays;
+
+// Muestra de referencia de un endpoint: latencias ordenadas en microsegundos y fecha de grabación
+public record LatencyBaseline(Instant recordedAt, long[] samplesMicros) {
+    // Tope de latencias guardadas; por encima se toman valores equiespaciados de la muestra ordenada
+    static final int MAX_SAMPLES = 500;
+
+    public static LatencyBaseline of(long[] samplesMicros) {
+        long[] sorted = samplesMicros.clone();
+        Arrays.sort(sorted);
+        if (sorted.length > MAX_SAMPLES) {
+            long[] reduced = new long[MAX_SAMPLES];
+            for (int i = 0; i < MAX_SAMPLES; i++) {
+                reduced[i] = sorted[(int) ((long) i * (sorted.length - 1) / (MAX_SAMPLES - 1))];
+            }
+            sorted = reduced;
+        }
+        return new LatencyBaseline(Instant.now(), sorted);
+    }
+
+    // Percentil por rango más cercano sobre la muestra ordenada, en milisegundos
+    public double percentileMillis(double percentile) {
+        return percentileMillis(samplesMicros, percentile);
+    }
+
+    static double percentileMillis(long[] sortedMicros, double percentile) {
+        if (sortedMicros.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile / 100.0 * sortedMicros.length) - 1;
+        return sortedMicros[Math.max(0, Math.min(sortedMicros.length - 1, index))] / 1_000.0;
+    }
+}
@@ -0,0 +1,113 @@
+package com.rickandmorty.api.performance;
+
+import io.restassured.response.Response;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * Genera carga contra un endpoint según un {@link LoadProfile}.
+ *
+ * <p>Usa hilos de plataforma, no virtuales, por el motivo que explica {@code AsyncRequests}.</p>
+ *
+ * <p>Cada latencia se registra en un {@link LatencyHistogram} y se conserva además la muestra
+ * completa, que necesita la comparación estadística con la línea base. Una petición cuenta como error si
+ * lanza una excepción o responde con estado 4xx/5xx. Los resultados se acumulan en
+ * {@link LoadReport} para el resumen de la suite.</p>
+ */
+public final class LoadGenerator {
+
+    private static final ThreadFactory WORKERS = Thread.ofPlatform().name("load-", 0).daemon().factory();
+
+    private LoadGenerator() {
+    }
+
+    public static LoadResult run(String endpoint, LoadProfile profile, Supplier<Response> call) {
+        for (int i = 0; i < profile.warmup(); i++) {
+            try {
+                call.get();
+            } catch (RuntimeException e) {
+                // Los errores del calentamiento no cuentan; si persisten, aparecerán en la medición
+            }
+        }
+
+        Samples samples = new Samples(profile.requests());
+        LongAdder errors = new LongAdder();
+        long start = System.nanoTime();
+
+        try (ExecutorService executor = Executors.newCachedThreadPool(WORKERS)) {
+            if (profile.model() == LoadProfile.Model.OPEN) {
+                long periodNanos = (long) (1e9 / profile.ratePerSecond());
+                for (int i = 0; i < profile.requests(); i++) {
+                    long intendedStart = start + i * periodNanos;
+                    waitUntil(intendedStart);
+                    executor.execute(() -> execute(call, intendedStart, samples, errors));
+                }
+            } else {
+                AtomicInteger remaining = new AtomicInteger(profile.requests());
+                for (int worker = 0; worker < profile.concurrency(); worker++) {
+                    executor.execute(() -> {
+                        while (remaining.getAndDecrement() > 0) {
+                            execute(call, System.nanoTime(), samples, errors);
+                        }
+                    });
+                }
+            }
+        }
+
+        LoadResult result = new LoadResult(endpoint, profile, samples.histogram, errors.sum(),
+                System.nanoTime() - start, samples.toArray());
+        LoadReport.record(result);
+        return result;
+    }
+
+    private static void execute(Supplier<Response> call, long startNanos, Samples samples, LongAdder errors) {
+        try {
+            Response response = call.get();
+            if (response.getStatusCode() >= 400) {
+                errors.increment();
+            }
+        } catch (RuntimeException e) {
+            errors.increment();
+        } finally {
+            samples.record(System.nanoTime() - startNanos);
+        }
+    }
+
+    private static void waitUntil(long deadlineNanos) {
+        long remaining;
+        while ((remaining = deadlineNanos - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+
+    // Histograma y latencias individuales en microsegundos, en el orden en que terminan
+    private static final class Samples {
+        private final LatencyHistogram histogram = new LatencyHistogram();
+        private final AtomicLongArray micros;
+        private final AtomicInteger size = new AtomicInteger();
+
+        private Samples(int capacity) {
+            this.micros = new AtomicLongArray(capacity);
+        }
+
+        private void record(long nanos) {
+            histogram.recordNanos(nanos);
+            micros.set(size.getAndIncrement(), nanos / 1_000);
+        }
+
+        private long[] toArray() {
+            long[] values = new long[size.get()];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = micros.get(i);
+            }
+            return values;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.rickandmorty.api.performance;
+
+import com.rickandmorty.api.config.ApiConfig;
+
+import java.util.Locale;
+
+/**
+ * Parámetros de una ejecución de carga.
+ *
+ * <ul>
+ *   <li>Modelo cerrado: {@code concurrency} usuarios virtuales que lanzan una petición tras otra.</li>
+ *   <li>Modelo abierto: las peticiones llegan a {@code ratePerSecond} por segundo, independientemente
+ *   de lo que tarde el servidor; la latencia se mide desde el instante programado, de modo que las
+ *   esperas en cola también cuentan.</li>
+ * </ul>
+ *
+ * <p>Antes de medir se lanzan {@code warmup} peticiones secuenciales para que la inicialización de
+ * RestAssured y el JIT no aparezcan en la cola de la distribución.</p>
+ */
+public record LoadProfile(Model model, int concurrency, double ratePerSecond, int requests, int warmup) {
+
+    public enum Model {
+        OPEN, CLOSED
+    }
+
+    public LoadProfile {
+        if (requests < 1) {
+            throw new IllegalArgumentException("Se necesita al menos una petición");
+        }
+        if (model == Model.CLOSED && concurrency < 1) {
+            throw new IllegalArgumentException("La concurrencia debe ser al menos 1");
+        }
+        if (warmup < 0) {
+            throw new IllegalArgumentException("El calentamiento no puede ser negativo");
+        }
+        if (model == Model.OPEN && ratePerSecond <= 0) {
+            throw new IllegalArgumentException("La tasa debe ser mayor que 0");
+        }
+    }
+
+    public static LoadProfile closed(int concurrency, int requests, int warmup) {
+        return new LoadProfile(Model.CLOSED, concurrency, 0, requests, warmup);
+    }
+
+    public static LoadProfile open(double ratePerSecond, int requests, int warmup) {
+        return new LoadProfile(Model.OPEN, 0, ratePerSecond, requests, warmup);
+    }
+
+    // Perfil definido por las propiedades load.* (ver ApiConfig)
+    public static LoadProfile fromConfig() {
+        Model model = Model.valueOf(ApiConfig.getLoadModel().toUpperCase(Locale.ROOT));
+        return model == Model.OPEN
+                ? open(ApiConfig.getLoadRate(), ApiConfig.getLoadRequests(), ApiConfig.getLoadWarmupRequests())
+                : closed(ApiConfig.getLoadConcurrency(), ApiConfig.getLoadRequests(), ApiConfig.getLoadWarmupRequests());
+    }
+
+    @Override
+    public String toString() {
+        return model == Model.OPEN
+                ? String.format(Locale.ROOT, "abierto, %.1f req/s, %d peticiones", ratePerSecond, requests)
+                : String.format(Locale.ROOT, "cerrado, %d usuarios, %d peticiones", concurrency, requests);
+    }
+}
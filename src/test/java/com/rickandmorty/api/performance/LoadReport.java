@@ -0,0 +1,50 @@
+package com.rickandmorty.api.performance;
+
+import com.rickandmorty.api.reporting.SuiteReport;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+// Acumula los resultados de carga de la suite y los publica agrupados por endpoint, junto con la
+// comparación de cada endpoint con su línea base
+public final class LoadReport {
+    private static final Map<String, LatencyHistogram> LATENCIES = new TreeMap<>();
+    private static final Map<String, long[]> TOTALS = new TreeMap<>();
+    private static final List<RegressionVerdict> VERDICTS = new ArrayList<>();
+
+    private LoadReport() {
+    }
+
+    static synchronized void record(LoadResult result) {
+        LATENCIES.computeIfAbsent(result.endpoint(), endpoint -> new LatencyHistogram()).add(result.latencies());
+        long[] totals = TOTALS.computeIfAbsent(result.endpoint(), endpoint -> new long[2]);
+        totals[0] += result.errors();
+        totals[1] += result.elapsedNanos();
+    }
+
+    static synchronized void record(RegressionVerdict verdict) {
+        VERDICTS.add(verdict);
+    }
+
+    public static synchronized void publish() {
+        if (!VERDICTS.isEmpty()) {
+            StringBuilder table = new StringBuilder(RegressionVerdict.header());
+            VERDICTS.forEach(verdict -> table.append(verdict.row()));
+            SuiteReport.publish("Regresión de latencia", table.toString());
+            VERDICTS.clear();
+        }
+        if (LATENCIES.isEmpty()) {
+            return;
+        }
+        StringBuilder table = new StringBuilder(LoadResult.header());
+        LATENCIES.forEach((endpoint, latencies) -> {
+            long[] totals = TOTALS.get(endpoint);
+            table.append(new LoadResult(endpoint, null, latencies, totals[0], totals[1], new long[0]).row());
+        });
+        SuiteReport.publish("Pruebas de carga", table.toString());
+        LATENCIES.clear();
+        TOTALS.clear();
+    }
+}
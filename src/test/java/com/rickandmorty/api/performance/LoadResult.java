@@ -0,0 +1,72 @@
+package com.rickandmorty.api.performance;
+
+import com.rickandmorty.api.config.ApiConfig;
+import io.qameta.allure.Allure;
+
+import java.util.Locale;
+
+// Resultado de una ejecución de carga contra un endpoint; samplesMicros guarda cada latencia medida
+public record LoadResult(String endpoint, LoadProfile profile, LatencyHistogram latencies, long errors,
+                         long elapsedNanos, long[] samplesMicros) {
+
+    public long getRequests() {
+        return latencies.getCount();
+    }
+
+    public double getThroughput() {
+        return elapsedNanos == 0 ? 0 : getRequests() / (elapsedNanos / 1e9);
+    }
+
+    public double getErrorRate() {
+        long requests = getRequests();
+        return requests == 0 ? 0 : errors / (double) requests;
+    }
+
+    public double p50() {
+        return latencies.percentileMillis(50);
+    }
+
+    public double p90() {
+        return latencies.percentileMillis(90);
+    }
+
+    public double p99() {
+        return latencies.percentileMillis(99);
+    }
+
+    public double max() {
+        return latencies.getMaxMicros() / 1_000.0;
+    }
+
+    public static String header() {
+        return String.format(Locale.ROOT, "%-20s %8s %8s %9s %9s %9s %9s %10s%n",
+                "Endpoint", "Total", "Errores", "p50 ms", "p90 ms", "p99 ms", "max ms", "req/s");
+    }
+
+    public String row() {
+        return String.format(Locale.ROOT, "%-20s %8d %8d %9.2f %9.2f %9.2f %9.2f %10.1f%n",
+                endpoint, getRequests(), errors, p50(), p90(), p99(), max(), getThroughput());
+    }
+
+    public String summary() {
+        return "Perfil: " + profile + System.lineSeparator() + header() + row();
+    }
+
+    // Falla si el p99 o la proporción de errores superan los umbrales configurados (load.threshold.*)
+    public void assertWithinThresholds() {
+        long p99Threshold = ApiConfig.getLoadP99ThresholdMillis();
+        double maxErrorRate = ApiConfig.getLoadMaxErrorRate();
+        if (getErrorRate() > maxErrorRate) {
+            throw new AssertionError(String.format(Locale.ROOT, "%s: proporción de errores %.3f mayor que %.3f%n%s",
+                    endpoint, getErrorRate(), maxErrorRate, summary()));
+        }
+        if (p99() >= p99Threshold) {
+            throw new AssertionError(String.format(Locale.ROOT, "%s: p99 de %.2f ms no es menor a %d ms%n%s",
+                    endpoint, p99(), p99Threshold, summary()));
+        }
+    }
+
+    public void attachToAllure() {
+        Allure.addAttachment("Carga: " + endpoint, "text/plain", summary(), ".txt");
+    }
+}
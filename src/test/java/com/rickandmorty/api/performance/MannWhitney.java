@@ -0,0 +1,75 @@
+package com.rickandmorty.api.performance;
+
+import java.util.Arrays;
+
+/**
+ * Prueba U de Mann-Whitney, unilateral: ¿tiende la muestra actual a ser mayor (más lenta) que la de
+ * referencia? No supone ninguna distribución, lo que encaja con latencias de cola larga.
+ *
+ * <p>Usa la aproximación normal con corrección por empates y por continuidad, válida a partir de
+ * unas 20 observaciones por muestra. {@code superiority} es la probabilidad de que una latencia
+ * actual tomada al azar supere a una de referencia (0,5 = sin diferencia).</p>
+ */
+public record MannWhitney(double u, double z, double pValue, double superiority) {
+
+    public static MannWhitney test(long[] baseline, long[] current) {
+        int n1 = baseline.length;
+        int n2 = current.length;
+        if (n1 == 0 || n2 == 0) {
+            throw new IllegalArgumentException("Las dos muestras deben tener al menos un valor");
+        }
+
+        // Rangos de la muestra combinada; los empates reciben el rango medio
+        long[][] pooled = new long[n1 + n2][];
+        for (int i = 0; i < n1; i++) {
+            pooled[i] = new long[]{baseline[i], 0};
+        }
+        for (int i = 0; i < n2; i++) {
+            pooled[n1 + i] = new long[]{current[i], 1};
+        }
+        Arrays.sort(pooled, (a, b) -> Long.compare(a[0], b[0]));
+
+        double currentRankSum = 0;
+        double tieTerm = 0;
+        int i = 0;
+        while (i < pooled.length) {
+            int j = i;
+            while (j + 1 < pooled.length && pooled[j + 1][0] == pooled[i][0]) {
+                j++;
+            }
+            double rank = (i + j) / 2.0 + 1;
+            for (int k = i; k <= j; k++) {
+                if (pooled[k][1] == 1) {
+                    currentRankSum += rank;
+                }
+            }
+            int ties = j - i + 1;
+            tieTerm += (double) ties * ties * ties - ties;
+            i = j + 1;
+        }
+
+        double u = currentRankSum - n2 * (n2 + 1) / 2.0;
+        double mean = n1 * (double) n2 / 2;
+        double n = n1 + n2;
+        double variance = n1 * (double) n2 / 12 * ((n + 1) - tieTerm / (n * (n - 1)));
+        double z = variance <= 0 ? 0 : (u - mean - 0.5) / Math.sqrt(variance);
+        return new MannWhitney(u, z, upperTail(z), u / (n1 * (double) n2));
+    }
+
+    public boolean isSignificant(double alpha) {
+        return pValue < alpha;
+    }
+
+    // P(Z > z) con la función de error complementaria (error relativo < 1,2e-7)
+    static double upperTail(double z) {
+        return 0.5 * erfc(z / Math.sqrt(2));
+    }
+
+    private static double erfc(double x) {
+        double t = 1 / (1 + 0.5 * Math.abs(x));
+        double y = t * Math.exp(-x * x - 1.26551223 + t * (1.00002368 + t * (0.37409196 + t * (0.09678418
+                + t * (-0.18628806 + t * (0.27886807 + t * (-1.13520398 + t * (1.48851587
+                + t * (-0.82215223 + t * 0.17087277)))))))));
+        return x >= 0 ? y : 2 - y;
+    }
+}
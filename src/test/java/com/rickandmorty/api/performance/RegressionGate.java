@@ -0,0 +1,74 @@
+package com.rickandmorty.api.performance;
+
+import com.rickandmorty.api.config.ApiConfig;
+
+/**
+ * Compara cada ejecución de carga con la línea base guardada de su endpoint (ver {@link RegressionVerdict}).
+ *
+ * <p>Si no hay línea base, la ejecución actual se guarda como tal. Una línea base existente solo se
+ * reemplaza con {@code load.baseline.update=true} y cuando la ejecución no es una regresión, para
+ * que una degradación no se convierta en la nueva referencia.</p>
+ *
+ * <p>Con la suite repartida en shards, cada shard tiene sus propias líneas base: lo que se ejecuta
+ * antes de una prueba de carga en la misma JVM (y con ello el calentamiento del JIT) cambia con el
+ * reparto, y sus latencias no son comparables con las de la suite completa. Por el mismo motivo,
+ * una ejecución en paralelo se compara solo con líneas base del mismo modo y número de hilos: las
+ * demás pruebas compiten por la CPU y la latencia sube sin que el servidor haya empeorado.</p>
+ */
+public final class RegressionGate {
+    private final BaselineStore store;
+    private final String source;
+    private final double alpha;
+    private final double minRatio;
+    private final boolean update;
+
+    public RegressionGate(BaselineStore store, String source, double alpha, double minRatio, boolean update) {
+        this.store = store;
+        this.source = source;
+        this.alpha = alpha;
+        this.minRatio = minRatio;
+        this.update = update;
+    }
+
+    public static RegressionGate fromConfig() {
+        String source = ApiConfig.getDataSource();
+        if (!"none".equals(ApiConfig.getTestParallel())) {
+            source += " parallel=" + ApiConfig.getTestParallel() + " threads=" + ApiConfig.getTestThreads();
+        }
+        if (ApiConfig.getShardTotal() > 1) {
+            source += " " + ApiConfig.getShardLabel();
+        }
+        return new RegressionGate(new BaselineStore(ApiConfig.getLoadBaselinePath()), source,
+                ApiConfig.getRegressionAlpha(), ApiConfig.getRegressionMinRatio(), ApiConfig.isLoadBaselineUpdate());
+    }
+
+    // Compara, adjunta el resultado a Allure y lo acumula para el resumen de la suite
+    public static RegressionVerdict check(LoadResult result) {
+        RegressionVerdict verdict = fromConfig().evaluate(result.endpoint(), result.samplesMicros());
+        verdict.attachToAllure();
+        LoadReport.record(verdict);
+        return verdict;
+    }
+
+    public RegressionVerdict evaluate(String endpoint, long[] samplesMicros) {
+        LatencyBaseline baseline = store.find(source, endpoint).orElse(null);
+        if (baseline == null) {
+            store.save(source, endpoint, LatencyBaseline.of(samplesMicros));
+            return new RegressionVerdict(endpoint, RegressionVerdict.Status.NEW, null, samplesMicros, null,
+                    alpha, minRatio);
+        }
+
+        MannWhitney test = MannWhitney.test(baseline.samplesMicros(), samplesMicros);
+        RegressionVerdict verdict = new RegressionVerdict(endpoint, RegressionVerdict.Status.PASSED, baseline,
+                samplesMicros, test, alpha, minRatio);
+        boolean regressed = test.isSignificant(alpha) && verdict.medianRatio() >= minRatio;
+        if (regressed) {
+            return new RegressionVerdict(endpoint, RegressionVerdict.Status.REGRESSED, baseline, samplesMicros,
+                    test, alpha, minRatio);
+        }
+        if (update) {
+            store.save(source, endpoint, LatencyBaseline.of(samplesMicros));
+        }
+        return verdict;
+    }
+}
@@ -0,0 +1,83 @@
+package com.rickandmorty.api.performance;
+
+import io.qameta.allure.Allure;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Comparación de una ejecución de carga con su línea base.
+ *
+ * <p>Es regresión cuando la prueba de Mann-Whitney es significativa y, además, la mediana crece al
+ * menos en el factor mínimo configurado: con muestras grandes, diferencias diminutas también son
+ * significativas, y en una máquina compartida no interesan.</p>
+ */
+public record RegressionVerdict(String endpoint, Status status, LatencyBaseline baseline, long[] currentMicros,
+                                MannWhitney test, double alpha, double minRatio) {
+
+    public enum Status {
+        // Sin línea base previa: la ejecución actual pasa a serlo
+        NEW,
+        PASSED,
+        REGRESSED
+    }
+
+    public double baselinePercentile(double percentile) {
+        return baseline == null ? 0 : baseline.percentileMillis(percentile);
+    }
+
+    public double currentPercentile(double percentile) {
+        long[] sorted = currentMicros.clone();
+        Arrays.sort(sorted);
+        return LatencyBaseline.percentileMillis(sorted, percentile);
+    }
+
+    public double medianRatio() {
+        double baselineMedian = baselinePercentile(50);
+        return baselineMedian == 0 ? 0 : currentPercentile(50) / baselineMedian;
+    }
+
+    public static String header() {
+        return String.format(Locale.ROOT, "%-20s %-10s %19s %19s %19s %8s %9s%n",
+                "Endpoint", "Estado", "p50 base/act ms", "p90 base/act ms", "p99 base/act ms", "p50 +%", "p-valor");
+    }
+
+    public String row() {
+        return String.format(Locale.ROOT, "%-20s %-10s %19s %19s %19s %8s %9s%n", endpoint, status,
+                pair(50), pair(90), pair(99),
+                baseline == null ? "-" : String.format(Locale.ROOT, "%+.0f%%", (medianRatio() - 1) * 100),
+                test == null ? "-" : String.format(Locale.ROOT, "%.4f", test.pValue()));
+    }
+
+    public String summary() {
+        StringBuilder summary = new StringBuilder(header()).append(row());
+        if (baseline != null) {
+            summary.append(String.format(Locale.ROOT,
+                    "Línea base del %s (%d muestras) frente a %d muestras actuales%n"
+                            + "Mann-Whitney: U=%.0f z=%.2f p=%.4f, P(actual > base)=%.2f%n"
+                            + "Criterio: p < %.3f y mediana ≥ %.2f × base%n",
+                    baseline.recordedAt(), baseline.samplesMicros().length, currentMicros.length,
+                    test.u(), test.z(), test.pValue(), test.superiority(), alpha, minRatio));
+        } else {
+            summary.append("Sin línea base previa: esta ejecución queda como referencia").append(System.lineSeparator());
+        }
+        return summary.toString();
+    }
+
+    public void attachToAllure() {
+        Allure.addAttachment("Regresión: " + endpoint, "text/plain", summary(), ".txt");
+    }
+
+    public void assertNoRegression() {
+        if (status == Status.REGRESSED) {
+            throw new AssertionError(endpoint + ": la latencia empeoró respecto a la línea base"
+                    + System.lineSeparator() + summary());
+        }
+    }
+
+    private String pair(double percentile) {
+        String current = String.format(Locale.ROOT, "%.1f", currentPercentile(percentile));
+        return baseline == null ? "-/" + current
+                : String.format(Locale.ROOT, "%.1f/%s", baselinePercentile(percentile), current);
+    }
+}
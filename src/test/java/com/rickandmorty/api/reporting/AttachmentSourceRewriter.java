@@ -0,0 +1,53 @@
+package com.rickandmorty.api.reporting;
+
+import io.qameta.allure.listener.ContainerLifecycleListener;
+import io.qameta.allure.listener.TestLifecycleListener;
+import io.qameta.allure.model.Attachment;
+import io.qameta.allure.model.FixtureResult;
+import io.qameta.allure.model.StepResult;
+import io.qameta.allure.model.TestResult;
+import io.qameta.allure.model.TestResultContainer;
+import io.qameta.allure.model.WithAttachments;
+import io.qameta.allure.model.WithSteps;
+
+/**
+ * Listener de Allure (registrado por ServiceLoader) que, justo antes de escribir una prueba o un
+ * contenedor de fixtures, cambia el nombre aleatorio de los adjuntos de {@link AttachmentStore} por
+ * el nombre derivado de su contenido, en la prueba y en todos sus pasos.
+ */
+public class AttachmentSourceRewriter implements TestLifecycleListener, ContainerLifecycleListener {
+
+    @Override
+    public void beforeTestWrite(TestResult result) {
+        rewrite(result);
+    }
+
+    @Override
+    public void beforeContainerWrite(TestResultContainer container) {
+        container.getBefores().forEach(AttachmentSourceRewriter::rewrite);
+        container.getAfters().forEach(AttachmentSourceRewriter::rewrite);
+    }
+
+    private static void rewrite(FixtureResult fixture) {
+        rewriteAttachments(fixture);
+        rewriteSteps(fixture);
+    }
+
+    private static void rewrite(TestResult result) {
+        rewriteAttachments(result);
+        rewriteSteps(result);
+    }
+
+    private static void rewriteSteps(WithSteps parent) {
+        for (StepResult step : parent.getSteps()) {
+            rewriteAttachments(step);
+            rewriteSteps(step);
+        }
+    }
+
+    private static void rewriteAttachments(WithAttachments holder) {
+        for (Attachment attachment : holder.getAttachments()) {
+            attachment.setSource(AttachmentStore.resolve(attachment.getSource()));
+        }
+    }
+}
@@ -0,0 +1,273 @@
+package com.rickandmorty.api.reporting;
+
+import com.rickandmorty.api.config.ApiConfig;
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Guarda los adjuntos de Allure por contenido: cada archivo se llama como el hash SHA-256 de lo que
+ * contiene, así que el mismo cuerpo (por ejemplo el de {@code getCharacter(1)}, que piden muchas
+ * pruebas) se escribe una sola vez aunque aparezca en cientos de resultados.
+ *
+ * <p>Allure asigna a cada adjunto un nombre aleatorio al registrarlo; el almacén anota la
+ * equivalencia y {@link AttachmentSourceRewriter} sustituye ese nombre por el del contenido antes de
+ * escribir cada resultado. Los archivos se escriben en lotes desde un hilo propio, fuera del camino
+ * de las pruebas. Un adjunto mayor que {@code allure.attachments.compressAbove} se guarda comprimido
+ * con gzip (Allure lo ofrece como descarga) y los cuerpos más largos que
+ * {@code allure.attachments.maxBody} caracteres se recortan antes de generar el adjunto.</p>
+ *
+ * <p>{@link #close()} escribe lo pendiente y termina el hilo de escritura.</p>
+ */
+public final class AttachmentStore implements AutoCloseable {
+    private static final Logger LOG = LoggerFactory.getLogger(AttachmentStore.class);
+    private static final int BATCH_SIZE = 64;
+    private static final Pending FLUSH = new Pending(null, null);
+    private static final Pending STOP = new Pending(null, null);
+
+    // Nombre aleatorio asignado por Allure -> nombre por contenido; lo consulta el reescritor
+    private static final Map<String, String> SOURCES = new ConcurrentHashMap<>();
+    private static volatile AttachmentStore shared;
+
+    private final Path directory;
+    private final int maxBodyChars;
+    private final int compressAbove;
+    private final Set<String> stored = ConcurrentHashMap.newKeySet();
+    private final BlockingQueue<Pending> queue = new LinkedBlockingQueue<>();
+    private final List<CompletableFuture<Void>> flushes = new ArrayList<>();
+    private final Thread writer;
+
+    private final LongAdder attachments = new LongAdder();
+    private final LongAdder duplicates = new LongAdder();
+    private final LongAdder compressed = new LongAdder();
+    private final LongAdder truncated = new LongAdder();
+    private final LongAdder receivedBytes = new LongAdder();
+    private final LongAdder writtenBytes = new LongAdder();
+    private final LongAdder writeNanos = new LongAdder();
+
+    public AttachmentStore(Path directory, int maxBodyChars, int compressAbove) {
+        this.directory = directory;
+        this.maxBodyChars = maxBodyChars;
+        this.compressAbove = compressAbove;
+        writer = new Thread(this::writeLoop, "allure-attachments");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    public static synchronized AttachmentStore shared() {
+        if (shared == null) {
+            shared = new AttachmentStore(ApiConfig.getAllureResultsPath(), ApiConfig.getAttachmentMaxBody(),
+                    ApiConfig.getAttachmentCompressAbove());
+        }
+        return shared;
+    }
+
+    // Escribe los adjuntos pendientes del almacén compartido, termina su hilo y lo descarta
+    public static synchronized AttachmentStore finish() {
+        AttachmentStore store = shared;
+        shared = null;
+        if (store != null) {
+            store.close();
+        }
+        return store;
+    }
+
+    // Nombre definitivo de un adjunto registrado por el almacén, o el mismo si no es suyo
+    static String resolve(String source) {
+        String resolved = SOURCES.remove(source);
+        return resolved != null ? resolved : source;
+    }
+
+    public String truncate(String body) {
+        if (body == null || body.length() <= maxBodyChars) {
+            return body;
+        }
+        truncated.increment();
+        return body.substring(0, maxBodyChars)
+                + String.format("%n%n[... recortado: se muestran %,d de %,d caracteres]", maxBodyChars, body.length());
+    }
+
+    // Registra el adjunto en el paso o la prueba en curso y encola su escritura si el contenido es nuevo
+    public void add(String name, String type, String extension, byte[] content) {
+        AllureLifecycle lifecycle = Allure.getLifecycle();
+        if (lifecycle.getCurrentTestCaseOrStep().isEmpty()) {
+            return;
+        }
+        attachments.increment();
+        receivedBytes.add(content.length);
+        boolean gzip = compressAbove > 0 && content.length > compressAbove;
+        String suffix = gzip ? extension + ".gz" : extension;
+        String source = hash(content) + "-attachment" + suffix;
+
+        String placeholder = gzip
+                ? lifecycle.prepareAttachment(name + " (gzip)", "application/gzip", suffix)
+                : lifecycle.prepareAttachment(name, type, suffix);
+        SOURCES.put(placeholder, source);
+        if (stored.add(source)) {
+            queue.add(new Pending(source, gzip ? gzip(content) : content));
+            if (gzip) {
+                compressed.increment();
+            }
+        } else {
+            duplicates.increment();
+        }
+    }
+
+    public void flush() {
+        if (!writer.isAlive()) {
+            return;
+        }
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        synchronized (flushes) {
+            flushes.add(done);
+        }
+        queue.add(FLUSH);
+        try {
+            done.get(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            LOG.warn("No se pudieron escribir todos los adjuntos en {}", directory, e);
+        }
+    }
+
+    @Override
+    public void close() {
+        flush();
+        queue.add(STOP);
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(30));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public long getAttachments() {
+        return attachments.sum();
+    }
+
+    public long getDuplicates() {
+        return duplicates.sum();
+    }
+
+    public long getCompressed() {
+        return compressed.sum();
+    }
+
+    public long getTruncated() {
+        return truncated.sum();
+    }
+
+    public boolean hasActivity() {
+        return attachments.sum() > 0;
+    }
+
+    public String summary() {
+        return String.format("Adjuntos: %d (%d repetidos, no se escriben)%n"
+                        + "Comprimidos: %d%n"
+                        + "Cuerpos recortados: %d%n"
+                        + "Bytes generados: %,d%n"
+                        + "Bytes escritos: %,d%n"
+                        + "Tiempo de escritura en segundo plano: %d ms%n",
+                attachments.sum(), duplicates.sum(), compressed.sum(), truncated.sum(),
+                receivedBytes.sum(), writtenBytes.sum(), TimeUnit.NANOSECONDS.toMillis(writeNanos.sum()));
+    }
+
+    // Un solo hilo escribe: espera el primer pendiente y toma los que se hayan acumulado, hasta un lote
+    private void writeLoop() {
+        List<Pending> batch = new ArrayList<>(BATCH_SIZE);
+        while (true) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                return;
+            }
+            queue.drainTo(batch, BATCH_SIZE - 1);
+            long start = System.nanoTime();
+            boolean flushRequested = false;
+            boolean stopRequested = false;
+            for (Pending pending : batch) {
+                if (pending == FLUSH) {
+                    flushRequested = true;
+                } else if (pending == STOP) {
+                    stopRequested = true;
+                } else {
+                    write(pending);
+                }
+            }
+            writeNanos.add(System.nanoTime() - start);
+            batch.clear();
+            if (flushRequested) {
+                completeFlushes();
+            }
+            if (stopRequested) {
+                return;
+            }
+        }
+    }
+
+    private void write(Pending pending) {
+        try {
+            Files.createDirectories(directory);
+            Files.write(directory.resolve(pending.source()), pending.content(), StandardOpenOption.CREATE_NEW);
+            writtenBytes.add(pending.content().length);
+        } catch (FileAlreadyExistsException e) {
+            // Mismo contenido escrito por una ejecución anterior en el mismo directorio
+        } catch (IOException e) {
+            LOG.warn("No se pudo escribir el adjunto {}", pending.source(), e);
+        }
+    }
+
+    private void completeFlushes() {
+        synchronized (flushes) {
+            flushes.forEach(done -> done.complete(null));
+            flushes.clear();
+        }
+    }
+
+    private static String hash(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no disponible", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] content) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(content.length / 4);
+        try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+            out.write(content);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private record Pending(String source, byte[] content) {
+    }
+}
@@ -0,0 +1,59 @@
+package com.rickandmorty.api.reporting;
+
+import com.rickandmorty.api.config.ApiConfig;
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.model.Status;
+import io.qameta.allure.model.TestResult;
+import io.qameta.allure.util.ResultsUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Publica resúmenes de fin de ejecución: los escribe en el log y los adjunta al reporte de Allure
+ * como un resultado propio dentro de la suite "Resumen de la ejecución". Con la suite repartida en
+ * shards, el título indica el shard para que los resúmenes de todos sobrevivan al combinar los resultados.
+ */
+public final class SuiteReport {
+    private static final Logger LOG = LoggerFactory.getLogger(SuiteReport.class);
+    private static final String SUITE = "Resumen de la ejecución";
+
+    private SuiteReport() {
+    }
+
+    public static void publish(String title, String content) {
+        publish(title, content, null);
+    }
+
+    // Con csv, se adjunta además como tabla (Allure muestra los adjuntos text/csv en forma de tabla)
+    public static void publish(String title, String content, String csv) {
+        if (ApiConfig.getShardTotal() > 1) {
+            title = title + " (" + ApiConfig.getShardLabel() + ")";
+        }
+        LOG.info("{}{}{}", title, System.lineSeparator(), content);
+
+        AllureLifecycle lifecycle = Allure.getLifecycle();
+        String uuid = UUID.randomUUID().toString();
+        TestResult result = new TestResult()
+                .setUuid(uuid)
+                .setName(title)
+                .setFullName(SUITE + "." + title)
+                .setHistoryId(ResultsUtils.md5(SUITE + "." + title))
+                .setStatus(Status.PASSED)
+                .setLabels(List.of(
+                        ResultsUtils.createSuiteLabel(SUITE),
+                        ResultsUtils.createFeatureLabel("Infraestructura")));
+        lifecycle.scheduleTestCase(result);
+        lifecycle.startTestCase(uuid);
+        lifecycle.addAttachment(title, "text/plain", ".txt", content.getBytes(StandardCharsets.UTF_8));
+        if (csv != null) {
+            lifecycle.addAttachment(title + " (tabla)", "text/csv", ".csv", csv.getBytes(StandardCharsets.UTF_8));
+        }
+        lifecycle.stopTestCase(uuid);
+        lifecycle.writeTestCase(uuid);
+    }
+}
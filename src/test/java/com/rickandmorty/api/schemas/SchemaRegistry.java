@@ -0,0 +1,98 @@
+package com.rickandmorty.api.schemas;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.fge.jackson.JsonLoader;
+import com.github.fge.jsonschema.core.exceptions.ProcessingException;
+import com.github.fge.jsonschema.core.report.ProcessingReport;
+import com.github.fge.jsonschema.main.JsonSchema;
+import com.github.fge.jsonschema.main.JsonSchemaFactory;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeMatcher;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+
+/**
+ * Esquemas JSON de {@code src/test/resources} cargados y compilados una sola vez.
+ *
+ * <p>Los {@link JsonSchema} compilados son inmutables, así que se pueden usar desde varios hilos a
+ * la vez. {@link #matchesSchema(String)} reemplaza a {@code matchesJsonSchemaInClasspath} sin volver
+ * a leer ni compilar el esquema en cada aserción.</p>
+ */
+public final class SchemaRegistry {
+    public static final String CHARACTER = "character-schema.json";
+    public static final String LOCATION = "location-schema.json";
+    public static final String EPISODE = "episode-schema.json";
+    public static final String ERROR = "error-schema.json";
+
+    private static final Map<String, JsonSchema> SCHEMAS = Map.of(
+            CHARACTER, compile(CHARACTER),
+            LOCATION, compile(LOCATION),
+            EPISODE, compile(EPISODE),
+            ERROR, compile(ERROR));
+
+    private SchemaRegistry() {
+    }
+
+    public static Matcher<String> matchesSchema(String name) {
+        JsonSchema schema = get(name);
+        return new TypeSafeMatcher<>() {
+            @Override
+            protected boolean matchesSafely(String json) {
+                return validate(schema, json).isSuccess();
+            }
+
+            @Override
+            public void describeTo(Description description) {
+                description.appendText("un JSON que cumple el esquema ").appendValue(name);
+            }
+
+            @Override
+            protected void describeMismatchSafely(String json, Description mismatch) {
+                mismatch.appendText("el JSON no cumple el esquema: ").appendText(validate(schema, json).toString());
+            }
+        };
+    }
+
+    public static ProcessingReport validate(String name, JsonNode json) {
+        try {
+            return get(name).validate(json);
+        } catch (ProcessingException e) {
+            throw new IllegalStateException("No se pudo validar contra " + name, e);
+        }
+    }
+
+    public static boolean isValid(String name, JsonNode json) {
+        return validate(name, json).isSuccess();
+    }
+
+    private static JsonSchema get(String name) {
+        JsonSchema schema = SCHEMAS.get(name);
+        if (schema == null) {
+            throw new IllegalArgumentException("Esquema no registrado: " + name);
+        }
+        return schema;
+    }
+
+    private static ProcessingReport validate(JsonSchema schema, String json) {
+        try {
+            return schema.validate(JsonLoader.fromString(json));
+        } catch (IOException e) {
+            throw new UncheckedIOException("La respuesta no es un JSON válido", e);
+        } catch (ProcessingException e) {
+            throw new IllegalStateException("No se pudo validar la respuesta", e);
+        }
+    }
+
+    private static JsonSchema compile(String resource) {
+        try {
+            return JsonSchemaFactory.byDefault().getJsonSchema(JsonLoader.fromResource("/" + resource));
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo leer el esquema " + resource, e);
+        } catch (ProcessingException e) {
+            throw new IllegalStateException("El esquema " + resource + " no es válido", e);
+        }
+    }
+}
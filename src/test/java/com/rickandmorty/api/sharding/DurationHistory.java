@@ -0,0 +1,125 @@
+package com.rickandmorty.api.sharding;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Duraciones de ejecuciones anteriores en milisegundos: una por método de prueba
+ * ({@code Clase#metodo}) y otra por clase con lo que tardan sus {@code @BeforeClass} y
+ * {@code @AfterClass}, que paga cada shard que ejecute algún método de esa clase.
+ *
+ * <pre>{"version":1,"tests":{"com...CharacterTests#testGetAllCharacters":137},"setup":{"com...CatalogTests":2400}}</pre>
+ * <p>Al combinar con una ejecución nueva se promedia con el valor anterior, para suavizar el ruido
+ * sin tardar en reflejar una prueba que se vuelve lenta.</p>
+ */
+public final class DurationHistory {
+    // En el directorio del historial: el consolidado y lo medido por cada shard en su última ejecución
+    public static final String HISTORY_FILE = "durations.json";
+    public static final String SHARD_FILE_PREFIX = "durations-shard-";
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final int VERSION = 1;
+    // Estimación para pruebas sin historial cuando tampoco hay otras con las que compararlas
+    private static final long DEFAULT_MILLIS = 100;
+
+    private final Map<String, Long> tests;
+    private final Map<String, Long> setup;
+
+    public DurationHistory() {
+        this(new TreeMap<>(), new TreeMap<>());
+    }
+
+    private DurationHistory(Map<String, Long> tests, Map<String, Long> setup) {
+        this.tests = tests;
+        this.setup = setup;
+    }
+
+    // Un archivo ausente, ilegible o de otra versión equivale a no tener historial
+    public static DurationHistory read(Path path) {
+        DurationHistory history = new DurationHistory();
+        if (!Files.isRegularFile(path)) {
+            return history;
+        }
+        try {
+            JsonNode root = MAPPER.readTree(path.toFile());
+            if (root.path("version").asInt() == VERSION) {
+                root.path("tests").fields().forEachRemaining(entry -> history.tests.put(entry.getKey(), entry.getValue().asLong()));
+                root.path("setup").fields().forEachRemaining(entry -> history.setup.put(entry.getKey(), entry.getValue().asLong()));
+            }
+        } catch (IOException e) {
+            // Se reescribe con la próxima ejecución
+        }
+        return history;
+    }
+
+    public static String shardFile(int shard) {
+        return SHARD_FILE_PREFIX + shard + ".json";
+    }
+
+    public synchronized void write(Path path) {
+        ObjectNode root = MAPPER.createObjectNode();
+        root.put("version", VERSION);
+        ObjectNode testsNode = root.putObject("tests");
+        tests.forEach(testsNode::put);
+        ObjectNode setupNode = root.putObject("setup");
+        setup.forEach(setupNode::put);
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            MAPPER.writerWithDefaultPrettyPrinter().writeValue(path.toFile(), root);
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo guardar el historial de duraciones en " + path, e);
+        }
+    }
+
+    public synchronized void recordTest(String test, long millis) {
+        tests.put(test, millis);
+    }
+
+    // Varios métodos de configuración de la misma clase se suman
+    public synchronized void recordSetup(String testClass, long millis) {
+        setup.merge(testClass, millis, Long::sum);
+    }
+
+    // Las duraciones de la ejecución nueva se promedian con las ya conocidas
+    public synchronized DurationHistory merge(DurationHistory newer) {
+        Map<String, Long> mergedTests = new TreeMap<>(tests);
+        newer.tests.forEach((key, millis) -> mergedTests.merge(key, millis, DurationHistory::average));
+        Map<String, Long> mergedSetup = new TreeMap<>(setup);
+        newer.setup.forEach((key, millis) -> mergedSetup.merge(key, millis, DurationHistory::average));
+        return new DurationHistory(mergedTests, mergedSetup);
+    }
+
+    // Sin historial, la mediana de las conocidas: una prueba nueva no debería desequilibrar el reparto
+    public synchronized long estimate(String test) {
+        Long millis = tests.get(test);
+        if (millis != null) {
+            return millis;
+        }
+        if (tests.isEmpty()) {
+            return DEFAULT_MILLIS;
+        }
+        return tests.values().stream().sorted().skip(tests.size() / 2).findFirst().orElse(DEFAULT_MILLIS);
+    }
+
+    public synchronized long setup(String testClass) {
+        return setup.getOrDefault(testClass, 0L);
+    }
+
+    public synchronized boolean isEmpty() {
+        return tests.isEmpty() && setup.isEmpty();
+    }
+
+    private static long average(long previous, long latest) {
+        return (previous + latest + 1) / 2;
+    }
+}
@@ -0,0 +1,95 @@
+package com.rickandmorty.api.sharding;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Reúne en un solo directorio lo que produjeron los shards de una ejecución.
+ *
+ * <pre>ShardMerge &lt;destino&gt; &lt;origen&gt;...</pre>
+ * <p>Destino y orígenes son directorios de proyecto: el del shard (o una copia con la misma
+ * estructura). Los resultados de {@code target/allure-results} se copian a los del destino: cada
+ * resultado tiene un nombre único, así que basta con unirlos; los archivos comunes (entorno,
+ * categorías) se conservan del primer shard que los trae. Las duraciones
+ * {@code perf-history/shard-history/durations-shard-*.json} de cada shard se combinan con el
+ * historial {@code durations.json} del destino, que es el que leerá el reparto de la siguiente ejecución.</p>
+ */
+public final class ShardMerge {
+    static final String ALLURE_RESULTS = "target/allure-results";
+    static final String SHARD_HISTORY = "perf-history/shard-history";
+
+    private ShardMerge() {
+    }
+
+    public static void main(String[] args) {
+        if (args.length < 2) {
+            System.err.println("Uso: ShardMerge <destino> <origen>...");
+            System.exit(2);
+        }
+        List<Path> sources = new ArrayList<>();
+        for (int i = 1; i < args.length; i++) {
+            sources.add(Paths.get(args[i]));
+        }
+        System.out.print(merge(Paths.get(args[0]), sources));
+    }
+
+    // Devuelve un resumen de lo combinado
+    public static String merge(Path target, List<Path> sources) {
+        Path allure = target.resolve(ALLURE_RESULTS);
+        Path historyFile = target.resolve(SHARD_HISTORY).resolve(DurationHistory.HISTORY_FILE);
+        DurationHistory history = DurationHistory.read(historyFile);
+        int copied = 0;
+        int shardFiles = 0;
+        try {
+            Files.createDirectories(allure);
+            for (Path source : sources) {
+                Path results = source.resolve(ALLURE_RESULTS);
+                if (Files.isDirectory(results) && !Files.isSameFile(results, allure)) {
+                    copied += copyNew(results, allure);
+                }
+                for (Path shardFile : shardFiles(source.resolve(SHARD_HISTORY))) {
+                    history = history.merge(DurationHistory.read(shardFile));
+                    shardFiles++;
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudieron combinar los resultados en " + target, e);
+        }
+        history.write(historyFile);
+        return String.format("Resultados de Allure copiados: %d (%s)%nDuraciones combinadas: %d archivos (%s)%n",
+                copied, allure, shardFiles, historyFile);
+    }
+
+    private static int copyNew(Path from, Path to) throws IOException {
+        int copied = 0;
+        try (Stream<Path> files = Files.list(from)) {
+            for (Path file : (Iterable<Path>) files.filter(Files::isRegularFile)::iterator) {
+                try {
+                    Files.copy(file, to.resolve(file.getFileName()));
+                    copied++;
+                } catch (FileAlreadyExistsException ignored) {
+                    // Mismo nombre: archivo común a todos los shards, ya copiado
+                }
+            }
+        }
+        return copied;
+    }
+
+    private static List<Path> shardFiles(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().startsWith(DurationHistory.SHARD_FILE_PREFIX))
+                    .sorted()
+                    .toList();
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.rickandmorty.api.sharding;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Reparto de los métodos de prueba entre {@code total} shards según su duración histórica.
+ *
+ * <p>Sigue la heurística LPT: los métodos se ordenan de más a menos lentos y cada uno va al shard que
+ * terminaría antes con él, contando el {@code @BeforeClass}/{@code @AfterClass} de su clase si ese
+ * shard aún no tiene ninguna prueba de la clase. El orden de desempate es fijo (nombre del método,
+ * índice del shard), así que todas las JVM o máquinas que parten del mismo historial calculan el
+ * mismo reparto sin coordinarse: cada prueba se ejecuta exactamente en un shard.</p>
+ *
+ * @param assignment shard de cada prueba ({@code Clase#metodo})
+ * @param estimatedMillis duración estimada de cada shard, configuración de clases incluida
+ */
+public record ShardPlan(Map<String, Integer> assignment, long[] estimatedMillis) {
+
+    public static ShardPlan of(List<String> tests, DurationHistory history, int total) {
+        if (total < 1) {
+            throw new IllegalArgumentException("El número de shards debe ser positivo: " + total);
+        }
+        List<String> ordered = new ArrayList<>(new HashSet<>(tests));
+        ordered.sort(Comparator.comparingLong(history::estimate).reversed().thenComparing(Comparator.naturalOrder()));
+
+        long[] loads = new long[total];
+        List<Set<String>> classes = new ArrayList<>(total);
+        for (int shard = 0; shard < total; shard++) {
+            classes.add(new HashSet<>());
+        }
+        Map<String, Integer> assignment = new HashMap<>();
+        for (String test : ordered) {
+            String testClass = classOf(test);
+            int best = 0;
+            long bestLoad = Long.MAX_VALUE;
+            for (int shard = 0; shard < total; shard++) {
+                long load = loads[shard] + history.estimate(test)
+                        + (classes.get(shard).contains(testClass) ? 0 : history.setup(testClass));
+                if (load < bestLoad) {
+                    best = shard;
+                    bestLoad = load;
+                }
+            }
+            loads[best] = bestLoad;
+            classes.get(best).add(testClass);
+            assignment.put(test, best);
+        }
+        return new ShardPlan(Map.copyOf(assignment), loads);
+    }
+
+    public static String classOf(String test) {
+        int separator = test.indexOf('#');
+        return separator < 0 ? test : test.substring(0, separator);
+    }
+
+    public boolean includes(String test, int shard) {
+        Integer assigned = assignment.get(test);
+        return assigned != null && assigned == shard;
+    }
+
+    public int total() {
+        return estimatedMillis.length;
+    }
+
+    public String summary() {
+        StringBuilder summary = new StringBuilder(String.format("%-8s %8s %12s%n", "Shard", "Pruebas", "Estimado"));
+        long slowest = 0;
+        long sum = 0;
+        for (int shard = 0; shard < total(); shard++) {
+            int index = shard;
+            long count = assignment.values().stream().filter(assigned -> assigned == index).count();
+            summary.append(String.format(Locale.ROOT, "%-8d %8d %10.1f s%n", shard, count, estimatedMillis[shard] / 1000.0));
+            slowest = Math.max(slowest, estimatedMillis[shard]);
+            sum += estimatedMillis[shard];
+        }
+        // 100 % significa que todos los shards terminan a la vez
+        summary.append(String.format(Locale.ROOT, "Equilibrio: %.0f %%%n",
+                slowest == 0 ? 100.0 : 100.0 * sum / total() / slowest));
+        return summary.toString();
+    }
+}
@@ -0,0 +1,248 @@
+package com.rickandmorty.api.stub;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.rickandmorty.api.config.ApiConfig;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.TreeSet;
+
+/**
+ * Catálogo de datos que sirve el servidor local.
+ *
+ * <p>Se carga desde {@code src/test/resources/fixtures}: cada archivo declara el total de registros
+ * de la API real ({@code count}) y los registros conocidos. Los IDs que faltan se completan con
+ * registros deterministas para que la paginación y los rangos de IDs coincidan con producción.
+ * Las relaciones inversas ({@code Episode.characters} y {@code Location.residents}) se derivan de
+ * los personajes, de modo que el catálogo siempre es simétrico.</p>
+ */
+public final class FixtureCatalog {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final String CANONICAL_BASE_URL = ApiConfig.DEFAULT_BASE_URL;
+
+    private static final String[] STATUSES = {"Alive", "Dead", "unknown"};
+    private static final String[] GENDERS = {"Female", "Male", "Genderless", "unknown"};
+    private static final String[] SPECIES = {"Human", "Alien", "Humanoid", "Robot", "Mythological Creature",
+            "Animal", "Cronenberg", "Poopybutthole", "unknown"};
+    private static final String[] LOCATION_TYPES = {"Planet", "Space station", "Dimension", "Microverse",
+            "Resort", "Fantasy town", "Dream", "Cluster"};
+    private static final int[] EPISODES_PER_SEASON = {11, 10, 10, 10, 10};
+
+    private static final DateTimeFormatter CREATED_FORMAT =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'").withZone(ZoneOffset.UTC);
+    private static final DateTimeFormatter AIR_DATE_FORMAT = DateTimeFormatter.ofPattern("MMMM d, yyyy", Locale.US);
+
+    private final List<ObjectNode> characters;
+    private final List<ObjectNode> locations;
+    private final List<ObjectNode> episodes;
+
+    private FixtureCatalog(List<ObjectNode> characters, List<ObjectNode> locations, List<ObjectNode> episodes) {
+        this.characters = Collections.unmodifiableList(characters);
+        this.locations = Collections.unmodifiableList(locations);
+        this.episodes = Collections.unmodifiableList(episodes);
+    }
+
+    public static FixtureCatalog load() {
+        JsonNode characterFixture = readFixture("character");
+        JsonNode locationFixture = readFixture("location");
+        JsonNode episodeFixture = readFixture("episode");
+
+        int characterCount = characterFixture.get("count").asInt();
+        int locationCount = locationFixture.get("count").asInt();
+        int episodeCount = episodeFixture.get("count").asInt();
+
+        // Las ubicaciones y episodios se completan primero porque los personajes los referencian
+        JsonNode[] knownLocations = indexById(locationFixture, locationCount);
+        JsonNode[] knownEpisodes = indexById(episodeFixture, episodeCount);
+        JsonNode[] knownCharacters = indexById(characterFixture, characterCount);
+
+        List<ObjectNode> characters = new ArrayList<>(characterCount);
+        for (int id = 1; id <= characterCount; id++) {
+            characters.add(knownCharacters[id] != null
+                    ? (ObjectNode) knownCharacters[id].deepCopy()
+                    : placeholderCharacter(id, knownLocations, locationCount, episodeCount));
+        }
+
+        List<TreeSet<Integer>> residents = relationships(locationCount);
+        List<TreeSet<Integer>> appearances = relationships(episodeCount);
+        for (ObjectNode character : characters) {
+            int characterId = character.get("id").asInt();
+            int locationId = idFromUrl(character.get("location").get("url").asText());
+            if (locationId > 0) {
+                residents.get(locationId).add(characterId);
+            }
+            for (JsonNode episodeUrl : character.get("episode")) {
+                appearances.get(idFromUrl(episodeUrl.asText())).add(characterId);
+            }
+        }
+
+        List<ObjectNode> locations = new ArrayList<>(locationCount);
+        for (int id = 1; id <= locationCount; id++) {
+            JsonNode known = knownLocations[id];
+            locations.add(location(id,
+                    known != null ? known.get("name").asText() : placeholderLocationName(id),
+                    known != null ? known.get("type").asText() : LOCATION_TYPES[id % LOCATION_TYPES.length],
+                    known != null ? known.get("dimension").asText() : (id % 4 == 0 ? "unknown" : "Dimension D-" + id),
+                    residents.get(id),
+                    known != null ? known.get("created").asText() : created("2017-11-10T12:42:04.162Z", id * 61L)));
+        }
+
+        List<ObjectNode> episodes = new ArrayList<>(episodeCount);
+        for (int id = 1; id <= episodeCount; id++) {
+            JsonNode known = knownEpisodes[id];
+            episodes.add(episode(id,
+                    known != null ? known.get("name").asText() : "Episode " + id,
+                    known != null ? known.get("air_date").asText()
+                            : LocalDate.of(2013, 12, 2).plusWeeks(id - 1L).format(AIR_DATE_FORMAT),
+                    known != null ? known.get("episode").asText() : episodeCode(id),
+                    appearances.get(id),
+                    known != null ? known.get("created").asText() : created("2017-11-10T12:56:33.798Z", id * 7L)));
+        }
+
+        return new FixtureCatalog(characters, locations, episodes);
+    }
+
+    public List<ObjectNode> getCharacters() {
+        return characters;
+    }
+
+    public List<ObjectNode> getLocations() {
+        return locations;
+    }
+
+    public List<ObjectNode> getEpisodes() {
+        return episodes;
+    }
+
+    // Extrae el ID numérico del final de una URL de recurso; 0 si la URL está vacía
+    static int idFromUrl(String url) {
+        if (url == null || url.isEmpty()) {
+            return 0;
+        }
+        return Integer.parseInt(url.substring(url.lastIndexOf('/') + 1));
+    }
+
+    private static JsonNode readFixture(String resource) {
+        String path = "fixtures/" + resource + ".json";
+        try (InputStream in = FixtureCatalog.class.getClassLoader().getResourceAsStream(path)) {
+            if (in == null) {
+                throw new IllegalStateException("No se encontró el fixture " + path);
+            }
+            return MAPPER.readTree(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo leer el fixture " + path, e);
+        }
+    }
+
+    private static JsonNode[] indexById(JsonNode fixture, int count) {
+        JsonNode[] byId = new JsonNode[count + 1];
+        for (JsonNode entity : fixture.get("results")) {
+            byId[entity.get("id").asInt()] = entity;
+        }
+        return byId;
+    }
+
+    private static List<TreeSet<Integer>> relationships(int count) {
+        List<TreeSet<Integer>> sets = new ArrayList<>(count + 1);
+        for (int i = 0; i <= count; i++) {
+            sets.add(new TreeSet<>());
+        }
+        return sets;
+    }
+
+    private static ObjectNode placeholderCharacter(int id, JsonNode[] knownLocations, int locationCount, int episodeCount) {
+        int locationId = (id * 7) % locationCount + 1;
+        int originId = id % 3 == 0 ? 0 : (id * 11) % locationCount + 1;
+
+        ObjectNode character = MAPPER.createObjectNode();
+        character.put("id", id);
+        character.put("name", "Character " + id);
+        character.put("status", STATUSES[id % STATUSES.length]);
+        character.put("species", SPECIES[id % SPECIES.length]);
+        character.put("type", id % 7 == 0 ? "Genetic experiment" : "");
+        character.put("gender", GENDERS[id % GENDERS.length]);
+        character.set("origin", place(originId, knownLocations));
+        character.set("location", place(locationId, knownLocations));
+        character.put("image", CANONICAL_BASE_URL + "/character/avatar/" + id + ".jpeg");
+        ArrayNode episode = character.putArray("episode");
+        for (int episodeId : new TreeSet<>(List.of(id % episodeCount + 1, (id * 5) % episodeCount + 1))) {
+            episode.add(CANONICAL_BASE_URL + "/episode/" + episodeId);
+        }
+        character.put("url", CANONICAL_BASE_URL + "/character/" + id);
+        character.put("created", created("2017-11-04T18:48:46.250Z", id * 97L));
+        return character;
+    }
+
+    private static ObjectNode place(int locationId, JsonNode[] knownLocations) {
+        ObjectNode place = MAPPER.createObjectNode();
+        if (locationId == 0) {
+            place.put("name", "unknown");
+            place.put("url", "");
+        } else {
+            JsonNode known = knownLocations[locationId];
+            place.put("name", known != null ? known.get("name").asText() : placeholderLocationName(locationId));
+            place.put("url", CANONICAL_BASE_URL + "/location/" + locationId);
+        }
+        return place;
+    }
+
+    private static String placeholderLocationName(int id) {
+        return "Location " + id;
+    }
+
+    private static ObjectNode location(int id, String name, String type, String dimension,
+                                       TreeSet<Integer> residents, String created) {
+        ObjectNode location = MAPPER.createObjectNode();
+        location.put("id", id);
+        location.put("name", name);
+        location.put("type", type);
+        location.put("dimension", dimension);
+        ArrayNode residentUrls = location.putArray("residents");
+        residents.forEach(characterId -> residentUrls.add(CANONICAL_BASE_URL + "/character/" + characterId));
+        location.put("url", CANONICAL_BASE_URL + "/location/" + id);
+        location.put("created", created);
+        return location;
+    }
+
+    private static ObjectNode episode(int id, String name, String airDate, String code,
+                                      TreeSet<Integer> characters, String created) {
+        ObjectNode episode = MAPPER.createObjectNode();
+        episode.put("id", id);
+        episode.put("name", name);
+        episode.put("air_date", airDate);
+        episode.put("episode", code);
+        ArrayNode characterUrls = episode.putArray("characters");
+        characters.forEach(characterId -> characterUrls.add(CANONICAL_BASE_URL + "/character/" + characterId));
+        episode.put("url", CANONICAL_BASE_URL + "/episode/" + id);
+        episode.put("created", created);
+        return episode;
+    }
+
+    // Código SxxEyy según el número de episodios de cada temporada
+    private static String episodeCode(int id) {
+        int remaining = id;
+        int season = 0;
+        while (season < EPISODES_PER_SEASON.length - 1 && remaining > EPISODES_PER_SEASON[season]) {
+            remaining -= EPISODES_PER_SEASON[season];
+            season++;
+        }
+        return String.format("S%02dE%02d", season + 1, remaining);
+    }
+
+    private static String created(String base, long offsetSeconds) {
+        return CREATED_FORMAT.format(Instant.parse(base).plus(Duration.ofSeconds(offsetSeconds)));
+    }
+}
@@ -0,0 +1,350 @@
+package com.rickandmorty.api.stub;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Servidor HTTP en proceso que imita la API de Rick and Morty.
+ *
+ * <p>Sirve {@code /character}, {@code /location} y {@code /episode} con la misma paginación, consulta
+ * de múltiples IDs, filtros y errores 404 que la API pública, a partir de un {@link FixtureCatalog}.
+ * Cada entidad se serializa una sola vez al arrancar, así que atender una petición solo copia bytes.</p>
+ *
+ * <p>Con una tasa máxima mayor que 0 imita el límite de peticiones de la API: por encima de esa tasa
+ * responde 429 con {@code Retry-After}.</p>
+ */
+public final class StubServer {
+    public static final String BASE_PATH = "/api";
+    static final int PAGE_SIZE = 20;
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final String CONTENT_TYPE = "application/json; charset=utf-8";
+    private static final String NOTHING_HERE = "There is nothing here";
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final Map<String, Resource> resources = new LinkedHashMap<>();
+    private final String baseUrl;
+    private final Throttle throttle;
+
+    private StubServer(HttpServer server, ExecutorService executor, FixtureCatalog catalog, double maxRate) {
+        this.server = server;
+        this.executor = executor;
+        this.throttle = maxRate > 0 ? new Throttle(maxRate) : null;
+        this.baseUrl = "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort() + BASE_PATH;
+        register(new Resource("character", "Character not found", catalog.getCharacters(),
+                List.of("name", "status", "species", "type", "gender"), List.of("status", "gender")));
+        register(new Resource("location", "Location not found", catalog.getLocations(),
+                List.of("name", "type", "dimension"), List.of()));
+        register(new Resource("episode", "Episode not found", catalog.getEpisodes(),
+                List.of("name", "episode"), List.of()));
+    }
+
+    // Arranca en un puerto libre de loopback
+    public static StubServer start(FixtureCatalog catalog) throws IOException {
+        return start(catalog, 0);
+    }
+
+    // maxRate: peticiones por segundo antes de responder 429; 0 desactiva el límite
+    public static StubServer start(FixtureCatalog catalog, double maxRate) throws IOException {
+        // Sin TCP_NODELAY, Nagle y el ACK retardado añaden ~40 ms a cada respuesta con cuerpo grande
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        StubServer stub = new StubServer(server, executor, catalog, maxRate);
+        server.createContext(BASE_PATH, stub::handle);
+        server.setExecutor(executor);
+        server.start();
+        return stub;
+    }
+
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    public void stop() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void register(Resource resource) {
+        resources.put(resource.name, resource);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (throttle != null) {
+                long waitMillis = throttle.tryAcquire();
+                if (waitMillis > 0) {
+                    // Retry-After solo admite segundos enteros: redondear unos milisegundos de déficit a un
+                    // segundo pausaría al cliente mucho más de lo necesario, así que solo se anuncia desde 1 s
+                    if (waitMillis >= 1000) {
+                        exchange.getResponseHeaders().set("Retry-After", String.valueOf(waitMillis / 1000));
+                    }
+                    sendError(exchange, 429, "Too many requests");
+                    return;
+                }
+            }
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                sendError(exchange, 405, "Method not allowed");
+                return;
+            }
+
+            // Ruta relativa a /api: "character", "character/" o "character/1,2,3"
+            String path = exchange.getRequestURI().getRawPath().substring(BASE_PATH.length());
+            String[] segments = path.replaceFirst("^/", "").split("/", 2);
+            Resource resource = resources.get(segments[0]);
+            if (resource == null) {
+                sendError(exchange, 404, NOTHING_HERE);
+                return;
+            }
+
+            String ids = segments.length > 1 ? URLDecoder.decode(segments[1], StandardCharsets.UTF_8) : "";
+            if (ids.isEmpty()) {
+                servePage(exchange, resource, parseQuery(exchange.getRequestURI().getRawQuery()));
+            } else {
+                serveIds(exchange, resource, ids);
+            }
+        }
+    }
+
+    private void servePage(HttpExchange exchange, Resource resource, Map<String, String> query) throws IOException {
+        Map<String, String> filters = new LinkedHashMap<>();
+        for (String field : resource.filterFields) {
+            String value = query.get(field);
+            if (value != null && !value.isEmpty()) {
+                filters.put(field, value);
+            }
+        }
+
+        List<Integer> matches = filters.isEmpty() ? null : resource.filter(filters);
+        int count = matches == null ? resource.size() : matches.size();
+        int pages = (count + PAGE_SIZE - 1) / PAGE_SIZE;
+        int page = parsePage(query.get("page"));
+        if (count == 0 || page < 1 || page > pages) {
+            sendError(exchange, 404, NOTHING_HERE);
+            return;
+        }
+
+        ObjectNode info = MAPPER.createObjectNode();
+        info.put("count", count);
+        info.put("pages", pages);
+        String filterQuery = toQuery(filters);
+        info.put("next", page < pages ? pageUrl(resource, page + 1, filterQuery) : null);
+        info.put("prev", page > 1 ? pageUrl(resource, page - 1, filterQuery) : null);
+
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        body.write("{\"info\":".getBytes(StandardCharsets.UTF_8));
+        body.write(MAPPER.writeValueAsBytes(info));
+        body.write(",\"results\":[".getBytes(StandardCharsets.UTF_8));
+        int from = (page - 1) * PAGE_SIZE;
+        int to = Math.min(from + PAGE_SIZE, count);
+        for (int i = from; i < to; i++) {
+            if (i > from) {
+                body.write(',');
+            }
+            int id = matches == null ? i + 1 : matches.get(i);
+            body.write(resource.rendered(id));
+        }
+        body.write("]}".getBytes(StandardCharsets.UTF_8));
+        send(exchange, 200, body.toByteArray());
+    }
+
+    private void serveIds(HttpExchange exchange, Resource resource, String ids) throws IOException {
+        boolean multiple = ids.contains(",") || ids.startsWith("[");
+        List<Integer> parsed = new ArrayList<>();
+        for (String token : ids.replace("[", "").replace("]", "").split(",")) {
+            String trimmed = token.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            try {
+                parsed.add(Integer.parseInt(trimmed));
+            } catch (NumberFormatException e) {
+                sendError(exchange, 400, "Hey! you must provide an id");
+                return;
+            }
+        }
+
+        if (!multiple) {
+            int id = parsed.isEmpty() ? 0 : parsed.get(0);
+            if (!resource.exists(id)) {
+                sendError(exchange, 404, resource.notFoundMessage);
+                return;
+            }
+            send(exchange, 200, resource.rendered(id));
+            return;
+        }
+
+        // Como la API real, los IDs inexistentes se omiten en las consultas múltiples
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        body.write('[');
+        boolean first = true;
+        for (int id : parsed) {
+            if (!resource.exists(id)) {
+                continue;
+            }
+            if (!first) {
+                body.write(',');
+            }
+            body.write(resource.rendered(id));
+            first = false;
+        }
+        body.write(']');
+        send(exchange, 200, body.toByteArray());
+    }
+
+    private String pageUrl(Resource resource, int page, String filterQuery) {
+        return baseUrl + "/" + resource.name + "?page=" + page + filterQuery;
+    }
+
+    private static String toQuery(Map<String, String> filters) {
+        StringBuilder query = new StringBuilder();
+        filters.forEach((field, value) -> query.append('&').append(field).append('=')
+                .append(URLEncoder.encode(value, StandardCharsets.UTF_8)));
+        return query.toString();
+    }
+
+    private static int parsePage(String page) {
+        if (page == null || page.isEmpty()) {
+            return 1;
+        }
+        try {
+            return Integer.parseInt(page);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> query = new LinkedHashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return query;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int equals = pair.indexOf('=');
+            String key = equals < 0 ? pair : pair.substring(0, equals);
+            String value = equals < 0 ? "" : pair.substring(equals + 1);
+            query.put(URLDecoder.decode(key, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return query;
+    }
+
+    private static void sendError(HttpExchange exchange, int status, String message) throws IOException {
+        send(exchange, status, MAPPER.writeValueAsBytes(Map.of("error", message)));
+    }
+
+    private static void send(HttpExchange exchange, int status, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    // Cubeta de fichas con capacidad de un segundo de tráfico
+    private static final class Throttle {
+        private final double rate;
+        private double tokens;
+        private long lastRefill = System.nanoTime();
+
+        private Throttle(double rate) {
+            this.rate = rate;
+            this.tokens = rate;
+        }
+
+        // 0 si la petición se admite; si no, los milisegundos hasta la próxima ficha
+        private synchronized long tryAcquire() {
+            long now = System.nanoTime();
+            tokens = Math.min(rate, tokens + (now - lastRefill) / 1e9 * rate);
+            lastRefill = now;
+            if (tokens >= 1) {
+                tokens--;
+                return 0;
+            }
+            return Math.max(1, (long) Math.ceil((1 - tokens) / rate * 1000));
+        }
+    }
+
+    // Recurso servido: entidades indexadas por ID y pre-serializadas
+    private static final class Resource {
+        private final String name;
+        private final String notFoundMessage;
+        private final List<ObjectNode> entities;
+        private final byte[][] rendered;
+        private final List<String> filterFields;
+        private final List<String> exactFields;
+
+        private Resource(String name, String notFoundMessage, List<ObjectNode> entities,
+                         List<String> filterFields, List<String> exactFields) {
+            this.name = name;
+            this.notFoundMessage = notFoundMessage;
+            this.entities = entities;
+            this.filterFields = filterFields;
+            this.exactFields = exactFields;
+            this.rendered = new byte[entities.size()][];
+            for (int i = 0; i < entities.size(); i++) {
+                try {
+                    rendered[i] = MAPPER.writeValueAsBytes(entities.get(i));
+                } catch (JsonProcessingException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        }
+
+        private int size() {
+            return entities.size();
+        }
+
+        private boolean exists(int id) {
+            return id >= 1 && id <= entities.size();
+        }
+
+        private byte[] rendered(int id) {
+            return rendered[id - 1];
+        }
+
+        // Nombre y textos libres: subcadena sin distinguir mayúsculas; status/gender: coincidencia exacta
+        private List<Integer> filter(Map<String, String> filters) {
+            List<Integer> matches = new ArrayList<>();
+            for (ObjectNode entity : entities) {
+                boolean matchesAll = true;
+                for (Map.Entry<String, String> filter : filters.entrySet()) {
+                    String actual = entity.get(filter.getKey()).asText().toLowerCase(Locale.ROOT);
+                    String expected = filter.getValue().toLowerCase(Locale.ROOT);
+                    boolean fieldMatches = exactFields.contains(filter.getKey())
+                            ? actual.equals(expected)
+                            : actual.contains(expected);
+                    if (!fieldMatches) {
+                        matchesAll = false;
+                        break;
+                    }
+                }
+                if (matchesAll) {
+                    matches.add(entity.get("id").asInt());
+                }
+            }
+            return matches;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.rickandmorty.api.tests;
+
+import com.rickandmorty.api.client.Cassette;
+import com.rickandmorty.api.client.ResponseSnapshot;
+import io.qameta.allure.*;
+import io.restassured.http.Header;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.Matchers.*;
+
+public class CassetteTests {
+
+    @Test
+    @Feature("Infraestructura")
+    @Story("Cassette")
+    @Description("Verifica que una cassette grabada devuelve cada interacción por su clave al reproducirla.")
+    public void testCassetteRoundTrip() throws IOException {
+        Path path = Files.createTempFile("rickandmorty", ".cassette");
+        Map<String, ResponseSnapshot> interactions = new LinkedHashMap<>();
+        for (int id = 1; id <= 500; id++) {
+            interactions.put("GET /character/" + id, snapshot(200, "{\"id\":" + id + "}"));
+        }
+        interactions.put("GET /character/9999", snapshot(404, "{\"error\":\"Character not found\"}"));
+        Cassette.write(path, interactions);
+
+        Cassette cassette = Cassette.open(path);
+        org.testng.Assert.assertEquals(cassette.size(), 501);
+
+        cassette.find("GET /character/321").orElseThrow().toResponse(0).then()
+                .assertThat()
+                .statusCode(200)
+                .header("Content-Type", "application/json; charset=utf-8")
+                .body("id", equalTo(321));
+        cassette.find("GET /character/9999").orElseThrow().toResponse(0).then()
+                .assertThat()
+                .statusCode(404)
+                .body("error", equalTo("Character not found"));
+        org.testng.Assert.assertTrue(cassette.find("GET /character/501").isEmpty(),
+                "Una clave no grabada no debe encontrarse");
+    }
+
+    private static ResponseSnapshot snapshot(int status, String body) {
+        return new ResponseSnapshot(status, "HTTP/1.1 " + status,
+                List.of(new Header("Content-Type", "application/json; charset=utf-8")),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,371 @@
+package com.rickandmorty.api.tests;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rickandmorty.api.catalog.Adjacency;
+import com.rickandmorty.api.catalog.Catalog;
+import com.rickandmorty.api.catalog.CatalogLoader;
+import com.rickandmorty.api.catalog.CatalogSnapshot;
+import com.rickandmorty.api.catalog.FilterEngine;
+import com.rickandmorty.api.catalog.IncrementalValidator;
+import com.rickandmorty.api.catalog.IntegrityReport;
+import com.rickandmorty.api.catalog.IntegrityVerifier;
+import com.rickandmorty.api.catalog.RelationshipIndex;
+import com.rickandmorty.api.catalog.ResourceUrls;
+import com.rickandmorty.api.catalog.ValidationDelta;
+import com.rickandmorty.api.config.ApiConfig;
+import com.rickandmorty.api.models.Character;
+import com.rickandmorty.api.models.Episode;
+import com.rickandmorty.api.models.Location;
+import com.rickandmorty.api.models.ModelMapper;
+import com.rickandmorty.api.models.compact.CompactCatalog;
+import com.rickandmorty.api.pages.CharacterPage;
+import com.rickandmorty.api.pages.EpisodePage;
+import com.rickandmorty.api.pages.LocationPage;
+import com.rickandmorty.api.pages.Page;
+import com.rickandmorty.api.performance.HeapFootprint;
+import io.qameta.allure.*;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+public class CatalogTests {
+    private Catalog catalog;
+
+    // El catálogo completo se obtiene una sola vez para todas las pruebas de la clase
+    @BeforeClass
+    public void loadCatalog() {
+        catalog = CatalogLoader.load();
+    }
+
+    @Test
+    @Feature("Pruebas de Integridad")
+    @Story("Relaciones")
+    @Description("Verifica que el índice de relaciones devuelve los mismos IDs que las URLs de los modelos y que ambos sentidos coinciden.")
+    public void testRelationshipIndex() {
+        RelationshipIndex index = RelationshipIndex.build(catalog);
+
+        Character rick = catalog.characters().get(0);
+        Assert.assertEquals(index.episodesOf(1), ResourceUrls.ids(rick.getEpisode()));
+        Assert.assertEquals(index.locationOf(1), ResourceUrls.id(rick.getLocation().getUrl()));
+
+        Location citadel = catalog.locations().get(2);
+        Assert.assertEquals(index.residentsOf(3), ResourceUrls.ids(citadel.getResidents()));
+
+        // Cada aparición declarada por un episodio debe figurar también en el personaje, y viceversa
+        Adjacency episodes = index.episodeCharacters();
+        Adjacency characters = index.characterEpisodes();
+        for (int episodeId = 1; episodeId < episodes.nodeCount(); episodeId++) {
+            int episode = episodeId;
+            episodes.forEach(episode, characterId -> Assert.assertTrue(characters.hasEdge(characterId, episode),
+                    "El episodio " + episode + " incluye al personaje " + characterId + " pero no al revés"));
+        }
+        Assert.assertEquals(episodes.edgeCount(), characters.edgeCount());
+        Assert.assertEquals(index.locationResidents().edgeCount(), index.locationCharacters().edgeCount());
+    }
+
+    @Test
+    @Feature("Pruebas de Integridad")
+    @Story("Relaciones")
+    @Description("Verifica que todas las URLs del catálogo apuntan a entidades existentes y que las relaciones son simétricas, resolviendo los IDs con consultas múltiples por lotes.")
+    public void testReferentialIntegrity() {
+        IntegrityReport report = new IntegrityVerifier().verify(catalog);
+        Allure.addAttachment("Integridad referencial", "text/plain", report.summary(), ".txt");
+
+        Assert.assertTrue(report.isValid(), report.summary());
+        Assert.assertTrue(report.referencedCharacters() > 0 && report.referencedEpisodes() > 0);
+        // Una petición por lote de IDs referenciados de cada recurso, ni una más
+        int batch = ApiConfig.getIntegrityBatchSize();
+        int expected = batches(report.referencedCharacters(), batch) + batches(report.referencedLocations(), batch)
+                + batches(report.referencedEpisodes(), batch);
+        Assert.assertEquals(report.requests(), expected, report.summary());
+    }
+
+    @Test
+    @Feature("Pruebas de Integridad")
+    @Story("Relaciones")
+    @Description("Verifica que el verificador de integridad detecta referencias inexistentes y relaciones asimétricas.")
+    public void testReferentialIntegrityDetectsViolations() {
+        String api = "https://rickandmortyapi.com/api";
+        Character character = new Character();
+        character.setId(1);
+        character.setEpisode(new String[]{api + "/episode/999"});
+        Character.Location place = new Character.Location();
+        place.setUrl(api + "/location/1");
+        character.setLocation(place);
+
+        Episode episode = new Episode();
+        episode.setId(1);
+        episode.setCharacters(new String[]{api + "/character/1"});
+
+        Location location = new Location();
+        location.setId(1);
+        location.setResidents(new String[0]);
+
+        IntegrityReport report = new IntegrityVerifier()
+                .verify(new Catalog(List.of(character), List.of(location), List.of(episode)));
+
+        // episode/999 no existe, el episodio 1 no figura en el personaje y la ubicación 1 no lo lista como residente
+        Assert.assertEquals(report.violationCount(), 3L, report.summary());
+    }
+
+    @Test
+    @Feature("Pruebas de Rendimiento")
+    @Story("Modelo compacto")
+    @Description("Verifica que el catálogo compacto se convierte de vuelta a los modelos sin pérdida y ocupa menos de la mitad del heap.")
+    public void testCompactCatalog() {
+        CompactCatalog compact = CompactCatalog.of(catalog);
+        Catalog restored = compact.toCatalog();
+
+        Assert.assertEquals(restored.characters(), catalog.characters());
+        Assert.assertEquals(restored.locations(), catalog.locations());
+        Assert.assertEquals(restored.episodes(), catalog.episodes());
+
+        long modelBytes = HeapFootprint.deepSize(catalog);
+        long compactBytes = HeapFootprint.deepSize(compact);
+        String comparison = String.format(Locale.ROOT, "Modelos: %,d bytes%nCompacto: %,d bytes (%.1f %%)%n",
+                modelBytes, compactBytes, 100.0 * compactBytes / modelBytes);
+        Allure.addAttachment("Huella en el heap del catálogo", "text/plain", comparison, ".txt");
+        Assert.assertTrue(compactBytes * 2 < modelBytes, comparison);
+    }
+
+    @Test
+    @Feature("Infraestructura")
+    @Story("Instantánea del catálogo")
+    @Description("Verifica que una instantánea escrita y vuelta a abrir devuelve el mismo catálogo, permite buscar entidades sin decodificar el resto y que una instantánea truncada se rechaza al abrirla.")
+    public void testCatalogSnapshotRoundTrip() throws IOException {
+        Path path = Files.createTempFile("catalog", ".snapshot");
+        Path truncated = Files.createTempFile("catalog-truncated", ".snapshot");
+        try {
+            CatalogSnapshot.write(path, "prueba", CompactCatalog.of(catalog));
+
+            CatalogSnapshot snapshot = CatalogSnapshot.open(path);
+            Assert.assertEquals(snapshot.getSource(), "prueba");
+            Assert.assertEquals(snapshot.characterCount(), catalog.characters().size());
+            Assert.assertEquals(snapshot.findCharacter(1).orElseThrow().name(), "Rick Sanchez");
+            Assert.assertEquals(snapshot.findLocation(3).orElseThrow().name(), catalog.locations().get(2).getName());
+            Assert.assertTrue(snapshot.findEpisode(catalog.episodes().size() + 1).isEmpty());
+
+            Catalog restored = snapshot.toCatalog();
+            Assert.assertEquals(restored.characters(), catalog.characters());
+            Assert.assertEquals(restored.locations(), catalog.locations());
+            Assert.assertEquals(restored.episodes(), catalog.episodes());
+
+            // Sin la mitad final las columnas no caben en el archivo: CatalogLoader espera IllegalStateException
+            byte[] bytes = Files.readAllBytes(path);
+            Files.write(truncated, Arrays.copyOf(bytes, bytes.length / 2));
+            Assert.assertThrows(IllegalStateException.class, () -> CatalogSnapshot.open(truncated));
+        } finally {
+            Files.deleteIfExists(path);
+            Files.deleteIfExists(truncated);
+        }
+    }
+
+    @Test
+    @Feature("Pruebas de Integridad")
+    @Story("Validación incremental")
+    @Description("Verifica que la validación del catálogo solo repite las entidades que cambiaron respecto a la ejecución anterior y las que dependen de ellas.")
+    public void testIncrementalValidation() throws IOException {
+        Path state = Files.createTempFile("catalog-state", ".json");
+        Files.delete(state);
+        try {
+            IncrementalValidator validator = new IncrementalValidator(state);
+
+            ValidationDelta first = validator.validate(catalog);
+            Assert.assertTrue(first.isValid(), first.summary());
+            Assert.assertEquals(first.revalidated(), first.total());
+
+            ValidationDelta unchanged = validator.validate(catalog);
+            Assert.assertEquals(unchanged.revalidated(), 0, unchanged.summary());
+
+            // Se cambia el nombre de un episodio: se revalidan él y los personajes que aparecen en él
+            Episode original = catalog.episodes().get(0);
+            Episode renamed = new Episode();
+            renamed.setId(original.getId());
+            renamed.setName(original.getName() + " (remasterizado)");
+            renamed.setAir_date(original.getAir_date());
+            renamed.setEpisode(original.getEpisode());
+            renamed.setCharacters(original.getCharacters());
+            renamed.setUrl(original.getUrl());
+            renamed.setCreated(original.getCreated());
+            List<Episode> episodes = new ArrayList<>(catalog.episodes());
+            episodes.set(0, renamed);
+
+            ValidationDelta delta = validator.validate(new Catalog(catalog.characters(), catalog.locations(), episodes));
+            Allure.addAttachment("Validación incremental", "text/plain", delta.summary(), ".txt");
+            Assert.assertEquals(delta.counts().get("episode").changed(), 1);
+            Assert.assertEquals(delta.revalidated(), 1 + original.getCharacters().length, delta.summary());
+        } finally {
+            Files.deleteIfExists(state);
+        }
+    }
+
+    @Test
+    @Feature("Infraestructura")
+    @Story("Códecs generados")
+    @Description("Verifica que los deserializadores generados por @JsonCodec producen los mismos modelos que la deserialización por reflexión de Jackson, incluidos nulos y campos desconocidos.")
+    public void testGeneratedCodecsMatchReflection() throws IOException {
+        ObjectMapper reflection = new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        ObjectMapper generated = ModelMapper.get();
+
+        byte[] characters = reflection.writeValueAsBytes(catalog.characters());
+        byte[] locations = reflection.writeValueAsBytes(catalog.locations());
+        byte[] episodes = reflection.writeValueAsBytes(catalog.episodes());
+        Assert.assertEquals(generated.readValue(characters, Character[].class), reflection.readValue(characters, Character[].class));
+        Assert.assertEquals(generated.readValue(locations, Location[].class), reflection.readValue(locations, Location[].class));
+        Assert.assertEquals(generated.readValue(episodes, Episode[].class), reflection.readValue(episodes, Episode[].class));
+
+        String unusual = "{\"id\": \"7\", \"name\": 42, \"origin\": null, \"extra\": {\"a\": [1, {\"b\": 2}]},"
+                + " \"location\": {\"name\": \"Earth\", \"x\": [true]}, \"episode\": [], \"type\": null}";
+        Assert.assertEquals(generated.readValue(unusual, Character.class), reflection.readValue(unusual, Character.class));
+    }
+
+    @Test
+    @Feature("Pruebas de Integridad")
+    @Story("Motor de filtros local")
+    @Description("Verifica que el motor de filtros en memoria responde igual que la API a combinaciones aleatorias de filtros (subcadenas, mayúsculas, valores exactos y valores sin coincidencias).")
+    public void testFilterEngineMatchesApi() {
+        FilterEngine engine = FilterEngine.build(catalog);
+        Random random = new Random(ApiConfig.getFilterSeed());
+        CharacterPage characters = new CharacterPage();
+        LocationPage locations = new LocationPage();
+        EpisodePage episodes = new EpisodePage();
+
+        int queries = ApiConfig.getFilterCrossCheck();
+        // Todas las consultas se lanzan antes de esperar ninguna; el pool fijo de AsyncRequests limita las que van en vuelo
+        List<FilterCheck> checks = new ArrayList<>(queries);
+        long localNanos = 0;
+        int nonEmpty = 0;
+        for (int i = 0; i < queries; i++) {
+            String description;
+            int[] expected;
+            long start;
+            CompletableFuture<? extends Page<?>> actual;
+            switch (i % 3) {
+                case 0 -> {
+                    String name = substringOf(random, catalog.characters(), Character::getName);
+                    String status = exactOf(random, catalog.characters(), Character::getStatus);
+                    String species = substringOf(random, catalog.characters(), Character::getSpecies);
+                    String type = substringOf(random, catalog.characters(), Character::getType);
+                    String gender = exactOf(random, catalog.characters(), Character::getGender);
+                    description = String.format("character name=%s status=%s species=%s type=%s gender=%s",
+                            name, status, species, type, gender);
+                    start = System.nanoTime();
+                    expected = engine.filterCharacters(name, status, species, type, gender);
+                    localNanos += System.nanoTime() - start;
+                    actual = characters.filterCharactersAsync(name, status, species, type, gender);
+                }
+                case 1 -> {
+                    String name = substringOf(random, catalog.locations(), Location::getName);
+                    String type = substringOf(random, catalog.locations(), Location::getType);
+                    String dimension = substringOf(random, catalog.locations(), Location::getDimension);
+                    description = String.format("location name=%s type=%s dimension=%s", name, type, dimension);
+                    start = System.nanoTime();
+                    expected = engine.filterLocations(name, type, dimension);
+                    localNanos += System.nanoTime() - start;
+                    actual = locations.filterLocationsAsync(name, type, dimension);
+                }
+                default -> {
+                    String name = substringOf(random, catalog.episodes(), Episode::getName);
+                    String code = substringOf(random, catalog.episodes(), Episode::getEpisode);
+                    description = String.format("episode name=%s episode=%s", name, code);
+                    start = System.nanoTime();
+                    expected = engine.filterEpisodes(name, code);
+                    localNanos += System.nanoTime() - start;
+                    actual = episodes.filterEpisodesAsync(name, code);
+                }
+            }
+            if (expected.length > 0) {
+                nonEmpty++;
+            }
+            checks.add(new FilterCheck(description, expected, actual));
+        }
+
+        List<String> mismatches = new ArrayList<>();
+        for (FilterCheck check : checks) {
+            // La API pagina de 20 en 20: se comparan el total y los IDs de la primera página
+            Page<?> page = check.actual().join();
+            int[] firstPage = page.results().stream().mapToInt(CatalogTests::idOf).toArray();
+            int[] expectedFirstPage = Arrays.copyOf(check.expected(), Math.min(check.expected().length, 20));
+            if (page.count() != check.expected().length || !Arrays.equals(firstPage, expectedFirstPage)) {
+                mismatches.add(String.format("%s -> API %d %s, local %d %s", check.description(), page.count(),
+                        Arrays.toString(firstPage), check.expected().length, Arrays.toString(expectedFirstPage)));
+            }
+        }
+
+        String summary = String.format(Locale.ROOT, "Consultas: %d (%d con resultados)%nDiscrepancias: %d%n"
+                        + "Tiempo medio local: %.1f µs%n",
+                queries, nonEmpty, mismatches.size(), localNanos / 1e3 / queries);
+        Allure.addAttachment("Motor de filtros local", "text/plain", summary + String.join("\n", mismatches), ".txt");
+        Assert.assertTrue(mismatches.isEmpty(), summary + String.join("\n", mismatches));
+        // Las combinaciones deben cubrir tanto filtros con resultados como sin ellos
+        Assert.assertTrue(nonEmpty > 0 && nonEmpty < queries, summary);
+    }
+
+    private record FilterCheck(String description, int[] expected, CompletableFuture<? extends Page<?>> actual) {
+    }
+
+    // Vacío, un fragmento del valor de una entidad al azar con mayúsculas cambiadas, o un texto sin coincidencias
+    private static <T> String substringOf(Random random, List<T> entities, Function<T, String> field) {
+        int choice = random.nextInt(10);
+        if (choice < 4) {
+            return "";
+        }
+        if (choice == 9) {
+            return "qzx" + random.nextInt(100);
+        }
+        String value = field.apply(entities.get(random.nextInt(entities.size())));
+        if (value == null || value.isEmpty()) {
+            return "";
+        }
+        int from = random.nextInt(value.length());
+        int to = from + 1 + random.nextInt(Math.min(8, value.length() - from));
+        return randomCase(random, value.substring(from, to));
+    }
+
+    // Vacío, el valor completo de una entidad al azar con mayúsculas cambiadas, o solo un prefijo (que no coincide)
+    private static <T> String exactOf(Random random, List<T> entities, Function<T, String> field) {
+        int choice = random.nextInt(10);
+        if (choice < 6) {
+            return "";
+        }
+        String value = field.apply(entities.get(random.nextInt(entities.size())));
+        if (choice == 9 && value.length() > 1) {
+            value = value.substring(0, value.length() - 1);
+        }
+        return randomCase(random, value);
+    }
+
+    private static String randomCase(Random random, String value) {
+        return switch (random.nextInt(3)) {
+            case 0 -> value.toLowerCase(Locale.ROOT);
+            case 1 -> value.toUpperCase(Locale.ROOT);
+            default -> value;
+        };
+    }
+
+    private static int idOf(Object entity) {
+        if (entity instanceof Character character) {
+            return character.getId();
+        }
+        if (entity instanceof Location location) {
+            return location.getId();
+        }
+        return ((Episode) entity).getId();
+    }
+
+    private static int batches(int ids, int batchSize) {
+        return (ids + batchSize - 1) / batchSize;
+    }
+}
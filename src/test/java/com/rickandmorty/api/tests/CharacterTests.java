@@ -1,19 +1,36 @@
 package com.rickandmorty.api.tests;
 
+import com.rickandmorty.api.catalog.CatalogCrawler;
+import com.rickandmorty.api.catalog.ResourceUrls;
+import com.rickandmorty.api.client.ResponseCache;
+import com.rickandmorty.api.models.Character;
+import com.rickandmorty.api.models.Episode;
 import com.rickandmorty.api.pages.CharacterPage;
+import com.rickandmorty.api.pages.EpisodePage;
+import com.rickandmorty.api.pages.Page;
+import com.rickandmorty.api.pages.PagedIterator;
+import com.rickandmorty.api.performance.LoadGenerator;
+import com.rickandmorty.api.performance.LoadProfile;
+import com.rickandmorty.api.performance.LoadResult;
+import com.rickandmorty.api.performance.RegressionGate;
 import io.qameta.allure.*;
 import io.restassured.response.Response;
 import org.testng.annotations.Test;
-import static io.restassured.module.jsv.JsonSchemaValidator.matchesJsonSchemaInClasspath;
+import static com.rickandmorty.api.schemas.SchemaRegistry.matchesSchema;
 import static org.hamcrest.Matchers.*;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 
 public class CharacterTests {
-    private CharacterPage characterPage = new CharacterPage();
+    private final CharacterPage characterPage = new CharacterPage();
 
     @Test
     @Feature("Pruebas Funcionales")
@@ -79,7 +96,7 @@ public class CharacterTests {
     @Story("Character")
     @Description("Verifica que los headers de la respuesta sean los esperados.")
     public void testCharacterResponseHeaders() {
-        Response response = characterPage.getCharacter(1);
+        Response response = ResponseCache.bypass(() -> characterPage.getCharacter(1));
 
         response.then()
                 .assertThat()
@@ -110,7 +127,7 @@ public class CharacterTests {
         response.then()
                 .assertThat()
                 .statusCode(200)
-                .body(matchesJsonSchemaInClasspath("character-schema.json"))
+                .body(matchesSchema("character-schema.json"))
                 .body("id", equalTo(1));
     }
 
@@ -165,13 +182,14 @@ public class CharacterTests {
     @Test
     @Feature("Pruebas de Rendimiento")
     @Story("Character")
-    @Description("Verifica que el tiempo de respuesta es menor a 2000 ms.")
+    @Description("Verifica bajo carga que el p99 del tiempo de respuesta es menor al umbral (2000 ms por defecto), que no hay errores y que la latencia no empeora respecto a la línea base guardada.")
     public void testResponseTime() {
-        Response response = characterPage.getCharacter(1);
+        LoadResult result = LoadGenerator.run("character.single", LoadProfile.fromConfig(),
+                () -> ResponseCache.bypass(() -> characterPage.getCharacter(1)));
 
-        response.then()
-                .assertThat()
-                .time(lessThan(2000L));
+        result.attachToAllure();
+        result.assertWithinThresholds();
+        RegressionGate.check(result).assertNoRegression();
     }
 
     @Test
@@ -211,7 +229,7 @@ public class CharacterTests {
                 .assertThat()
                 .statusCode(404)
                 .body("error", notNullValue())
-                .body(matchesJsonSchemaInClasspath("error-schema.json"));
+                .body(matchesSchema("error-schema.json"));
     }
 
     @Test
@@ -233,4 +251,84 @@ public class CharacterTests {
         // Compara la lista obtenida con la ordenada
         org.testng.Assert.assertEquals(ids, sortedIds, "Los IDs deben estar ordenados de forma ascendente");
     }
+
+    @Test
+    @Feature("Extras")
+    @Story("Character")
+    @Description("Verifica que el catálogo completo de personajes, recorriendo todas las páginas, está ordenado por ID ascendente y coincide con info.count.")
+    public void testFullCharactersCatalogOrder() {
+        int count = characterPage.getAllCharacters().jsonPath().getInt("info.count");
+        List<Integer> ids = new CatalogCrawler().crawlCharacters().stream()
+                .map(Character::getId)
+                .toList();
+        List<Integer> sortedIds = new ArrayList<>(ids);
+        Collections.sort(sortedIds);
+
+        org.testng.Assert.assertEquals(ids.size(), count, "El catálogo debe contener info.count elementos");
+        org.testng.Assert.assertEquals(ids, sortedIds, "Los IDs deben estar ordenados de forma ascendente");
+        org.testng.Assert.assertEquals(new HashSet<>(ids).size(), ids.size(), "Los IDs no deben repetirse");
+    }
+
+    @Test
+    @Feature("Pruebas Funcionales")
+    @Story("Character")
+    @Description("Verifica que el recorrido perezoso de un filtro devuelve todas las coincidencias de todas las páginas.")
+    public void testStreamFilteredCharacters() {
+        int count = characterPage.filterCharacters("", "Alive", "", "", "").jsonPath().getInt("info.count");
+
+        List<Character> alive;
+        try (Stream<Character> characters = characterPage.streamFilteredCharacters("", "Alive", "", "", "")) {
+            alive = characters.toList();
+        }
+
+        org.testng.Assert.assertEquals(alive.size(), count, "El recorrido debe incluir todas las páginas del filtro");
+        org.testng.Assert.assertTrue(alive.stream().allMatch(character -> "Alive".equals(character.getStatus())),
+                "Todos los personajes deben cumplir el filtro");
+    }
+
+    @Test
+    @Feature("Extras")
+    @Story("Character")
+    @Description("Verifica que una búsqueda con findFirst deja de pedir páginas en cuanto encuentra el elemento.")
+    public void testStreamFindFirstStopsPaging() {
+        AtomicInteger fetchedPages = new AtomicInteger();
+        Optional<Character> character;
+        try (Stream<Character> characters = PagedIterator.stream(page -> {
+            fetchedPages.incrementAndGet();
+            return characterPage.getCharactersPage(page);
+        }, Character.class)) {
+            character = characters.filter(c -> c.getId() == 25).findFirst();
+        }
+
+        org.testng.Assert.assertTrue(character.isPresent(), "El personaje 25 debe encontrarse en la segunda página");
+        // Página 1, página 2 (contiene el ID 25) y como mucho la página 3 adelantada
+        org.testng.Assert.assertTrue(fetchedPages.get() <= 3, "Se pidieron " + fetchedPages.get() + " páginas");
+    }
+
+    @Test
+    @Feature("Extras")
+    @Story("Character")
+    @Description("Verifica que las variantes asíncronas permiten lanzar muchas peticiones a la vez y componer sus resultados tipados.")
+    public void testAsyncFanOut() {
+        List<CompletableFuture<Character>> futures = new ArrayList<>();
+        for (int id = 1; id <= 100; id++) {
+            futures.add(characterPage.getCharacterAsync(id));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        for (int i = 0; i < futures.size(); i++) {
+            org.testng.Assert.assertEquals(futures.get(i).join().getId(), i + 1);
+        }
+
+        // Composición: los episodios de Rick a partir de sus URLs, en una segunda petición
+        EpisodePage episodePage = new EpisodePage();
+        List<Episode> episodes = characterPage.getCharacterAsync(1)
+                .thenCompose(rick -> episodePage.getMultipleEpisodesAsync(
+                        Arrays.stream(ResourceUrls.ids(rick.getEpisode())).boxed().toList()))
+                .join();
+        org.testng.Assert.assertEquals(episodes.size(), futures.get(0).join().getEpisode().length);
+        org.testng.Assert.assertEquals(episodes.get(0).getName(), "Pilot");
+
+        Page<Character> empty = characterPage.filterCharactersAsync("no-existe", "", "", "", "").join();
+        org.testng.Assert.assertTrue(empty.results().isEmpty(), "Un filtro sin resultados debe dar una página vacía");
+    }
 }
@@ -0,0 +1,376 @@
+package com.rickandmorty.api.tests;
+
+import com.rickandmorty.api.client.ApiClient;
+import com.rickandmorty.api.client.AttachmentFilter;
+import com.rickandmorty.api.client.CoalescingFilter;
+import com.rickandmorty.api.client.RateLimitFilter;
+import com.rickandmorty.api.client.RateLimiter;
+import com.rickandmorty.api.client.TimingBreakdown;
+import com.rickandmorty.api.client.TimingBreakdown.Phase;
+import com.rickandmorty.api.config.ApiConfig;
+import com.rickandmorty.api.jfr.HttpCallEvent;
+import com.rickandmorty.api.jfr.JfrEventFilter;
+import com.rickandmorty.api.performance.LatencyHistogram;
+import com.rickandmorty.api.reporting.AttachmentStore;
+import com.rickandmorty.api.stub.FixtureCatalog;
+import com.rickandmorty.api.stub.StubServer;
+import io.qameta.allure.*;
+import io.restassured.filter.Filter;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.InputStream;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import static io.restassured.RestAssured.given;
+
+public class ClientTests {
+
+    @Test
+    @Feature("Infraestructura")
+    @Story("Limitador de peticiones")
+    @Description("Verifica que el limitador reintenta los 429 de un servidor que limita la tasa a 5 req/s, que todas las peticiones acaban bien y que la tasa baja desde la inicial.")
+    public void testRateLimiterAdaptsToThrottling() throws Exception {
+        StubServer throttled = StubServer.start(FixtureCatalog.load(), 5);
+        RateLimiter limiter = new RateLimiter(60, 1, 100, 8);
+        RateLimitFilter filter = new RateLimitFilter(limiter, 10, 50, 5000);
+        String url = throttled.getBaseUrl() + "/character/1";
+
+        // Los clientes arrancan a la vez: la primera tanda supera las 5 fichas del servidor aunque la
+        // máquina vaya cargada, así que los 429 no dependen de la velocidad del cliente
+        int callers = 8;
+        int requests = 10;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<Integer>> statuses = new ArrayList<>();
+            for (int i = 0; i < requests; i++) {
+                statuses.add(executor.submit(() -> {
+                    start.await();
+                    return given().filter(filter).get(url).getStatusCode();
+                }));
+            }
+            start.countDown();
+            for (Future<Integer> status : statuses) {
+                Assert.assertEquals((int) status.get(), 200, "Todas las peticiones deben acabar en 200 tras reintentar");
+            }
+        } finally {
+            executor.shutdown();
+            throttled.stop();
+        }
+
+        Allure.addAttachment("Limitador de peticiones", filter.summary());
+        Assert.assertTrue(limiter.getThrottled() > 0, "El servidor debería haber respondido algún 429");
+        Assert.assertEquals(filter.getRetries(), limiter.getThrottled(), "Cada 429 debe reintentarse una vez");
+        Assert.assertEquals(filter.getExhausted(), 0L, "Ninguna petición debería agotar los reintentos");
+        Assert.assertEquals(limiter.getPermits(), requests + filter.getRetries(),
+                "Cada envío, original o reintento, debe pasar por el limitador");
+        Assert.assertTrue(limiter.getRate() < 60, "La tasa debería haber bajado desde la inicial: " + limiter.getRate());
+    }
+
+    @Test
+    @Feature("Infraestructura")
+    @Story("Limitador de peticiones")
+    @Description("Verifica las decisiones del limitador sin depender del reloj: un 429 reduce la tasa a la mitad una sola vez por ráfaga, cada respuesta aceptada la sube y un Retry-After pausa la cubeta.")
+    public void testRateLimiterDecisions() throws Exception {
+        RateLimiter limiter = new RateLimiter(40, 1, 100, 5);
+
+        long first = limiter.acquire();
+        long second = limiter.acquire();
+        limiter.onThrottle(first, 0);
+        Assert.assertEquals(limiter.getRate(), 20.0, "Un 429 debe reducir la tasa a la mitad");
+        // La segunda petición salió antes del recorte: pertenece a la misma ráfaga
+        limiter.onThrottle(second, 0);
+        Assert.assertEquals(limiter.getRate(), 20.0, "Solo debe contar un recorte por ráfaga");
+
+        limiter.onSuccess();
+        Assert.assertEquals(limiter.getRate(), 20.05, 1e-9, "Cada respuesta aceptada debe sumar 1/tasa");
+
+        long third = limiter.acquire();
+        limiter.onThrottle(third, TimeUnit.MILLISECONDS.toNanos(300));
+        Assert.assertEquals(limiter.getRate(), 10.025, 1e-9, "Un 429 posterior al recorte debe volver a reducir la tasa");
+        long waitedBefore = limiter.getWaitedMillis();
+        limiter.acquire();
+        // La espera se calcula a partir de la pausa, no se mide: no depende de la carga de la máquina
+        Assert.assertTrue(limiter.getWaitedMillis() - waitedBefore >= 250,
+                "La siguiente ficha debe esperar al Retry-After: " + (limiter.getWaitedMillis() - waitedBefore) + " ms");
+        Assert.assertEquals(limiter.getThrottled(), 3L);
+        Assert.assertEquals(limiter.getPermits(), 4L);
+    }
+
+    @Test
+    @Feature("Infraestructura")
+    @Story("Agrupación de peticiones")
+    @Description("Verifica que varias peticiones idénticas simultáneas comparten una sola llamada al servidor y todas reciben la respuesta.")
+    public void testConcurrentRequestsAreCoalesced() throws Exception {
+        CoalescingFilter coalescer = new CoalescingFilter();
+        AtomicInteger upstream = new AtomicInteger();
+        // Retrasa la llamada real para que todas las peticiones coincidan en vuelo
+        Filter slowServer = (requestSpec, responseSpec, ctx) -> {
+            upstream.incrementAndGet();
+            try {
+                TimeUnit.MILLISECONDS.sleep(300);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return ctx.next(requestSpec, responseSpec);
+        };
+        String url = ApiConfig.getBaseUrl() + "/character/1";
+
+        int callers = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<Response>> responses = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                responses.add(executor.submit(() -> {
+                    start.await();
+                    return given().filters(coalescer, slowServer).get(url);
+                }));
+            }
+            start.countDown();
+            for (Future<Response> response : responses) {
+                Assert.assertEquals(response.get().getStatusCode(), 200);
+                Assert.assertEquals(response.get().jsonPath().getString("name"), "Rick Sanchez");
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        Allure.addAttachment("Peticiones agrupadas", coalescer.summary());
+        Assert.assertEquals(coalescer.getUpstream(), upstream.get());
+        Assert.assertEquals(coalescer.getUpstream() + coalescer.getCoalesced(), callers);
+        Assert.assertTrue(coalescer.getCoalesced() > 0, "Alguna petición debería haberse agrupado");
+    }
+
+    @Test
+    @Feature("Infraestructura")
+    @Story("Agrupación de peticiones")
+    @Description("Verifica que si la petición líder falla con una excepción comprobada, las peticiones agrupadas no se quedan esperando y se envían por su cuenta.")
+    public void testCoalescedFollowersSurviveLeaderFailure() throws Exception {
+        CoalescingFilter coalescer = new CoalescingFilter();
+        AtomicInteger upstream = new AtomicInteger();
+        // La primera llamada real tarda y falla como un read timeout; las siguientes pasan
+        Filter failingServer = (requestSpec, responseSpec, ctx) -> {
+            if (upstream.incrementAndGet() == 1) {
+                try {
+                    TimeUnit.MILLISECONDS.sleep(300);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                throwUnchecked(new SocketTimeoutException("Read timed out"));
+            }
+            return ctx.next(requestSpec, responseSpec);
+        };
+        String url = ApiConfig.getBaseUrl() + "/character/2";
+
+        int callers = 4;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        int failed = 0;
+        try {
+            List<Future<Integer>> statuses = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                statuses.add(executor.submit(() -> {
+                    start.await();
+                    return given().filters(coalescer, failingServer).get(url).getStatusCode();
+                }));
+            }
+            start.countDown();
+            for (Future<Integer> status : statuses) {
+                try {
+                    Assert.assertEquals((int) status.get(10, TimeUnit.SECONDS), 200);
+                } catch (ExecutionException e) {
+                    Assert.assertTrue(e.getCause() instanceof SocketTimeoutException, "Error inesperado: " + e.getCause());
+                    failed++;
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Assert.assertEquals(failed, 1, "Solo la petición líder debe ver el error");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E extends Throwable> void throwUnchecked(Throwable e) throws E {
+        throw (E) e;
+    }
+
+    @Test
+    @Feature("Infraestructura")
+    @Story("Desglose de tiempos")
+    @Description("Verifica que el desglose separa la espera del primer byte y la descarga, y que las fases suman el total.")
+    public void testTimingBreakdown() {
+        // Sin la cadena compartida: en paralelo, la agrupación respondería algunas llamadas sin pasar por
+        // este desglose, y el desglose de la suite anidaría su traza con la de este
+        TimingBreakdown breakdown = new TimingBreakdown();
+        for (int id = 1; id <= 10; id++) {
+            ApiClient.unfilteredRequest().filter(breakdown).get(ApiConfig.getBaseUrl() + "/character/" + id);
+        }
+        ApiClient.unfilteredRequest().filter(breakdown).get(ApiConfig.getBaseUrl() + "/location/?type=Planet");
+
+        Allure.addAttachment("Desglose de tiempos", breakdown.summary());
+        Allure.addAttachment("Desglose de tiempos (tabla)", "text/csv", breakdown.csv(), ".csv");
+        Assert.assertEquals(breakdown.histogram("character.single", Phase.TOTAL).getCount(), 10);
+        Assert.assertEquals(breakdown.histogram("location.filter", Phase.FIRST_BYTE).getCount(), 1);
+
+        LatencyHistogram total = breakdown.histogram("character.single", Phase.TOTAL);
+        LatencyHistogram firstByte = breakdown.histogram("character.single", Phase.FIRST_BYTE);
+        LatencyHistogram download = breakdown.histogram("character.single", Phase.DOWNLOAD);
+        LatencyHistogram queue = breakdown.histogram("character.single", Phase.QUEUE);
+        Assert.assertTrue(firstByte.getMaxMicros() > 0, "El primer byte debe medirse");
+        // Las medias son exactas; el margen cubre el truncado a microsegundos de cada fase
+        double phases = queue.getMeanMicros() + firstByte.getMeanMicros() + download.getMeanMicros();
+        Assert.assertTrue(phases <= total.getMeanMicros() + 3,
+                "Las fases no pueden sumar más que el total: " + phases + " > " + total.getMeanMicros());
+    }
+
+    @Test
+    @Feature("Infraestructura")
+    @Story("Eventos de JFR")
+    @Description("Verifica que cada llamada emite un evento de JFR con el endpoint, el estado, los bytes y la prueba en curso.")
+    public void testJfrHttpEvents() throws Exception {
+        Path file = Files.createTempFile("rickandmorty", ".jfr");
+        List<RecordedEvent> events;
+        try {
+            try (Recording recording = new Recording()) {
+                recording.enable(HttpCallEvent.class);
+                recording.start();
+                for (String path : List.of("/character/1", "/character/999999")) {
+                    // Con jfr.events=true el cliente compartido ya emite los eventos; si no, el filtro va sin la
+                    // cadena compartida, que podría responder desde la llamada agrupada de otra prueba
+                    RequestSpecification request = ApiConfig.isJfrEnabled()
+                            ? ApiClient.request()
+                            : ApiClient.unfilteredRequest().filter(new JfrEventFilter());
+                    request.get(ApiConfig.getBaseUrl() + path);
+                }
+                recording.stop();
+                recording.dump(file);
+            }
+            // En paralelo, la grabación también recoge las llamadas de otras pruebas
+            events = RecordingFile.readAllEvents(file).stream()
+                    .filter(event -> event.getEventType().getName().equals("rickandmorty.HttpCall"))
+                    .filter(event -> "ClientTests.testJfrHttpEvents".equals(event.getString("test")))
+                    .toList();
+        } finally {
+            Files.deleteIfExists(file);
+        }
+        Assert.assertEquals(events.size(), 2);
+        RecordedEvent found = events.get(0);
+        Assert.assertEquals(found.getString("endpoint"), "character.single");
+        Assert.assertEquals(found.getInt("status"), 200);
+        Assert.assertTrue(found.getLong("bytes") > 0, "El evento debe incluir el tamaño del cuerpo");
+        Assert.assertEquals(found.getString("test"), "ClientTests.testJfrHttpEvents");
+        Assert.assertEquals(events.get(1).getInt("status"), 404);
+    }
+
+    @Test
+    @Feature("Infraestructura")
+    @Story("Adjuntos de Allure")
+    @Description("Verifica que el almacén escribe una sola vez los adjuntos repetidos, comprime los grandes y recorta los cuerpos largos.")
+    public void testAttachmentStoreDeduplicates() throws Exception {
+        Path results = ApiConfig.getAllureResultsPath();
+        try (AttachmentStore store = new AttachmentStore(results, 100, 1000)) {
+            // Contenido único por ejecución para que no coincida con adjuntos de ejecuciones anteriores
+            String nonce = UUID.randomUUID().toString();
+            byte[] small = ("pequeño " + nonce).getBytes(StandardCharsets.UTF_8);
+            byte[] large = (nonce + "x".repeat(5000)).getBytes(StandardCharsets.UTF_8);
+
+            store.add("Repetido", "text/plain", ".txt", small);
+            store.add("Repetido", "text/plain", ".txt", small);
+            store.add("Grande", "text/plain", ".txt", large);
+            store.flush();
+
+            Assert.assertEquals(store.getAttachments(), 3);
+            Assert.assertEquals(store.getDuplicates(), 1);
+            Assert.assertEquals(store.getCompressed(), 1);
+            // Los archivos se llaman como el SHA-256 de su contenido (el comprimido, el del original)
+            Assert.assertEquals(Files.readAllBytes(results.resolve(sha256(small) + "-attachment.txt")), small);
+            Path gzip = results.resolve(sha256(large) + "-attachment.txt.gz");
+            try (InputStream in = new GZIPInputStream(Files.newInputStream(gzip))) {
+                Assert.assertEquals(in.readAllBytes(), large);
+            }
+            Assert.assertTrue(Files.size(gzip) < large.length / 10, "El adjunto comprimido debe ocupar menos");
+
+            String body = store.truncate("y".repeat(150));
+            Assert.assertTrue(body.startsWith("y".repeat(100) + System.lineSeparator()), body);
+            Assert.assertTrue(body.contains("100 de 150"), body);
+            Assert.assertEquals(store.getTruncated(), 1);
+            Assert.assertSame(store.truncate("corto"), "corto");
+        }
+    }
+
+    @Test
+    @Feature("Infraestructura")
+    @Story("Adjuntos de Allure")
+    @Description("Verifica que dos respuestas con el mismo cuerpo en segundos distintos (cabecera Date diferente) guardan el cuerpo una sola vez.")
+    public void testAttachmentFilterStoresBodyOnce() throws Exception {
+        String url = ApiConfig.getBaseUrl() + "/character/1";
+        try (AttachmentStore store = new AttachmentStore(ApiConfig.getAllureResultsPath(), 1 << 20, 1 << 20)) {
+            AttachmentFilter filter = new AttachmentFilter(store);
+            Response first = given().filter(filter).get(url);
+            // La cabecera Date tiene resolución de segundos
+            TimeUnit.MILLISECONDS.sleep(1100);
+            Response second = given().filter(filter).get(url);
+            Assert.assertNotEquals(first.getHeader("Date"), second.getHeader("Date"));
+            store.flush();
+
+            // Petición, estado con cabeceras y cuerpo de cada llamada: solo cambian las cabeceras de la respuesta
+            Assert.assertEquals(store.getAttachments(), 6);
+            Assert.assertEquals(store.getDuplicates(), 2, store.summary());
+        }
+    }
+
+    @Test
+    @Feature("Infraestructura")
+    @Story("Adjuntos de Allure")
+    @Description("Verifica que un cuerpo JSON recortado se adjunta como texto, porque el JSON cortado ya no es válido para el visor de Allure.")
+    public void testTruncatedJsonBodyIsAttachedAsText() throws Exception {
+        Path directory = Files.createTempDirectory("attachments");
+        try (AttachmentStore store = new AttachmentStore(directory, 100, 0)) {
+            given().filter(new AttachmentFilter(store)).get(ApiConfig.getBaseUrl() + "/character/1");
+            store.flush();
+
+            Assert.assertEquals(store.getTruncated(), 1, store.summary());
+            try (Stream<Path> files = Files.list(directory)) {
+                List<String> names = files.map(file -> file.getFileName().toString()).toList();
+                Assert.assertTrue(names.stream().noneMatch(file -> file.endsWith(".json")), names.toString());
+                Assert.assertEquals(names.stream().filter(file -> file.endsWith(".txt")).count(), 1L, names.toString());
+            }
+        } finally {
+            try (Stream<Path> files = Files.list(directory)) {
+                for (Path file : files.toList()) {
+                    Files.delete(file);
+                }
+            }
+            Files.delete(directory);
+        }
+    }
+
+    private static String sha256(byte[] content) throws Exception {
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+    }
+}
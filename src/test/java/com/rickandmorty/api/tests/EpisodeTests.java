@@ -1,6 +1,13 @@
 package com.rickandmorty.api.tests;
 
+import com.rickandmorty.api.catalog.CatalogCrawler;
+import com.rickandmorty.api.client.ResponseCache;
+import com.rickandmorty.api.models.Episode;
 import com.rickandmorty.api.pages.EpisodePage;
+import com.rickandmorty.api.performance.LoadGenerator;
+import com.rickandmorty.api.performance.LoadProfile;
+import com.rickandmorty.api.performance.LoadResult;
+import com.rickandmorty.api.performance.RegressionGate;
 import io.qameta.allure.*;
 import io.restassured.response.Response;
 import org.testng.annotations.Test;
@@ -8,13 +15,14 @@ import org.testng.annotations.Test;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 
-import static io.restassured.module.jsv.JsonSchemaValidator.matchesJsonSchemaInClasspath;
+import static com.rickandmorty.api.schemas.SchemaRegistry.matchesSchema;
 import static org.hamcrest.Matchers.*;
 
 public class EpisodeTests {
-    private EpisodePage episodePage = new EpisodePage();
+    private final EpisodePage episodePage = new EpisodePage();
 
     @Test
     @Feature("Pruebas Funcionales")
@@ -79,7 +87,7 @@ public class EpisodeTests {
     @Story("Episode")
     @Description("Valida que los headers de la respuesta sean los esperados.")
     public void testEpisodeResponseHeaders() {
-        Response response = episodePage.getEpisode(28);
+        Response response = ResponseCache.bypass(() -> episodePage.getEpisode(28));
 
         response.then()
                 .assertThat()
@@ -110,7 +118,7 @@ public class EpisodeTests {
         response.then()
                 .assertThat()
                 .statusCode(200)
-                .body(matchesJsonSchemaInClasspath("episode-schema.json"));
+                .body(matchesSchema("episode-schema.json"));
     }
 
     @Test
@@ -178,14 +186,14 @@ public class EpisodeTests {
     @Test
     @Feature("Pruebas de Rendimiento")
     @Story("Episode")
-    @Description("Comprueba que el tiempo de respuesta sea menor a 2000 ms.")
+    @Description("Comprueba bajo carga que el p99 del tiempo de respuesta sea menor al umbral (2000 ms por defecto), que no haya errores y que la latencia no empeore respecto a la línea base guardada.")
     public void testResponseTime() {
-        Response response = episodePage.getEpisode(1);
+        LoadResult result = LoadGenerator.run("episode.single", LoadProfile.fromConfig(),
+                () -> ResponseCache.bypass(() -> episodePage.getEpisode(1)));
 
-        response.then()
-                .assertThat()
-                .statusCode(200)
-                .time(lessThan(2000L));
+        result.attachToAllure();
+        result.assertWithinThresholds();
+        RegressionGate.check(result).assertNoRegression();
     }
 
     @Test
@@ -212,7 +220,7 @@ public class EpisodeTests {
                 .assertThat()
                 .statusCode(404)
                 .body("error", notNullValue())
-                .body(matchesJsonSchemaInClasspath("error-schema.json"));
+                .body(matchesSchema("error-schema.json"));
     }
 
     @Test
@@ -235,4 +243,20 @@ public class EpisodeTests {
         org.testng.Assert.assertEquals(ids, sortedIds, "Los IDs deben estar ordenados de forma ascendente");
     }
 
+    @Test
+    @Feature("Extras")
+    @Story("Episode")
+    @Description("Verifica que el catálogo completo de episodios, recorriendo todas las páginas, está ordenado por ID ascendente y coincide con info.count.")
+    public void testFullEpisodesCatalogOrder() {
+        int count = episodePage.getAllEpisodes().jsonPath().getInt("info.count");
+        List<Integer> ids = new CatalogCrawler().crawlEpisodes().stream()
+                .map(Episode::getId)
+                .toList();
+        List<Integer> sortedIds = new ArrayList<>(ids);
+        Collections.sort(sortedIds);
+
+        org.testng.Assert.assertEquals(ids.size(), count, "El catálogo debe contener info.count elementos");
+        org.testng.Assert.assertEquals(ids, sortedIds, "Los IDs deben estar ordenados de forma ascendente");
+        org.testng.Assert.assertEquals(new HashSet<>(ids).size(), ids.size(), "Los IDs no deben repetirse");
+    }
 }
\ No newline at end of file
@@ -1,6 +1,13 @@
 package com.rickandmorty.api.tests;
 
+import com.rickandmorty.api.catalog.CatalogCrawler;
+import com.rickandmorty.api.client.ResponseCache;
+import com.rickandmorty.api.models.Location;
 import com.rickandmorty.api.pages.LocationPage;
+import com.rickandmorty.api.performance.LoadGenerator;
+import com.rickandmorty.api.performance.LoadProfile;
+import com.rickandmorty.api.performance.LoadResult;
+import com.rickandmorty.api.performance.RegressionGate;
 import io.qameta.allure.*;
 
 import io.restassured.response.Response;
@@ -9,13 +16,14 @@ import org.testng.annotations.Test;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 
-import static io.restassured.module.jsv.JsonSchemaValidator.matchesJsonSchemaInClasspath;
+import static com.rickandmorty.api.schemas.SchemaRegistry.matchesSchema;
 import static org.hamcrest.Matchers.*;
 
 public class LocationTests {
-    private LocationPage locationPage = new LocationPage();
+    private final LocationPage locationPage = new LocationPage();
 
     @Test
     @Feature("Pruebas Funcionales")
@@ -80,7 +88,7 @@ public class LocationTests {
     @Story("Location")
     @Description("Valida que los headers de la respuesta sean los esperados.")
     public void testLocationResponseHeaders() {
-        Response response = locationPage.getLocation(3);
+        Response response = ResponseCache.bypass(() -> locationPage.getLocation(3));
 
         response.then()
                 .assertThat()
@@ -110,7 +118,7 @@ public class LocationTests {
         response.then()
                 .assertThat()
                 .statusCode(200)
-                .body(matchesJsonSchemaInClasspath("location-schema.json"));
+                .body(matchesSchema("location-schema.json"));
     }
 
     @Test
@@ -178,14 +186,14 @@ public class LocationTests {
     @Test
     @Feature("Pruebas de Rendimiento")
     @Story("Location")
-    @Description("Comprueba que el tiempo de respuesta sea menor a 2000 ms.")
+    @Description("Comprueba bajo carga que el p99 del tiempo de respuesta sea menor al umbral (2000 ms por defecto), que no haya errores y que la latencia no empeore respecto a la línea base guardada.")
     public void testResponseTime() {
-        Response response = locationPage.getLocation(1);
+        LoadResult result = LoadGenerator.run("location.single", LoadProfile.fromConfig(),
+                () -> ResponseCache.bypass(() -> locationPage.getLocation(1)));
 
-        response.then()
-                .assertThat()
-                .statusCode(200)
-                .time(lessThan(2000L));
+        result.attachToAllure();
+        result.assertWithinThresholds();
+        RegressionGate.check(result).assertNoRegression();
     }
 
     @Test
@@ -212,7 +220,7 @@ public class LocationTests {
                 .assertThat()
                 .statusCode(404)
                 .body("error", notNullValue())
-                .body(matchesJsonSchemaInClasspath("error-schema.json"));
+                .body(matchesSchema("error-schema.json"));
     }
 
     @Test
@@ -235,4 +243,21 @@ public class LocationTests {
         // Compara la lista obtenida con la ordenada
         org.testng.Assert.assertEquals(ids, sortedIds, "Los IDs deben estar ordenados de forma ascendente");
     }
+
+    @Test
+    @Feature("Extras")
+    @Story("Location")
+    @Description("Verifica que el catálogo completo de ubicaciones, recorriendo todas las páginas, está ordenado por ID ascendente y coincide con info.count.")
+    public void testFullLocationsCatalogOrder() {
+        int count = locationPage.getAllLocations().jsonPath().getInt("info.count");
+        List<Integer> ids = new CatalogCrawler().crawlLocations().stream()
+                .map(Location::getId)
+                .toList();
+        List<Integer> sortedIds = new ArrayList<>(ids);
+        Collections.sort(sortedIds);
+
+        org.testng.Assert.assertEquals(ids.size(), count, "El catálogo debe contener info.count elementos");
+        org.testng.Assert.assertEquals(ids, sortedIds, "Los IDs deben estar ordenados de forma ascendente");
+        org.testng.Assert.assertEquals(new HashSet<>(ids).size(), ids.size(), "Los IDs no deben repetirse");
+    }
 }
\ No newline at end of file
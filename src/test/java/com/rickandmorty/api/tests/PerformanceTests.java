@@ -0,0 +1,107 @@
+package com.rickandmorty.api.tests;
+
+import com.rickandmorty.api.performance.BaselineStore;
+import com.rickandmorty.api.performance.MannWhitney;
+import com.rickandmorty.api.performance.RegressionGate;
+import com.rickandmorty.api.performance.RegressionVerdict;
+import com.rickandmorty.api.sharding.DurationHistory;
+import com.rickandmorty.api.sharding.ShardPlan;
+import io.qameta.allure.*;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+public class PerformanceTests {
+
+    @Test
+    @Feature("Pruebas de Rendimiento")
+    @Story("Regresión de latencia")
+    @Description("Verifica que la comparación con la línea base detecta una latencia 3 veces mayor y no marca como regresión una ejecución equivalente.")
+    public void testLatencyRegressionGate() throws IOException {
+        Path file = Files.createTempDirectory("baselines").resolve("latency.json");
+        RegressionGate gate = new RegressionGate(new BaselineStore(file), "sintetico", 0.01, 1.5, false);
+        Random random = new Random(42);
+
+        RegressionVerdict first = gate.evaluate("character.single", latencies(random, 100, 1.0));
+        Assert.assertEquals(first.status(), RegressionVerdict.Status.NEW);
+        Assert.assertTrue(Files.isRegularFile(file), "La primera ejecución debe guardarse como línea base");
+
+        RegressionVerdict same = gate.evaluate("character.single", latencies(random, 100, 1.0));
+        RegressionVerdict slower = gate.evaluate("character.single", latencies(random, 100, 3.0));
+        // Significativa, pero por debajo del factor mínimo de la mediana
+        RegressionVerdict slightlySlower = gate.evaluate("character.single", latencies(random, 100, 1.2));
+        Allure.addAttachment("Regresión de latencia", RegressionVerdict.header() + same.row() + slower.row()
+                + slightlySlower.row());
+
+        Assert.assertEquals(same.status(), RegressionVerdict.Status.PASSED, same.summary());
+        Assert.assertEquals(slower.status(), RegressionVerdict.Status.REGRESSED, slower.summary());
+        Assert.assertTrue(slower.test().superiority() > 0.9, slower.summary());
+        Assert.assertEquals(slightlySlower.status(), RegressionVerdict.Status.PASSED, slightlySlower.summary());
+        Assert.assertThrows(AssertionError.class, slower::assertNoRegression);
+
+        // Un archivo dañado no se descarta en silencio: reescribirlo borraría las demás líneas base
+        Files.writeString(file, "{\"version\":1,\"sintetico\":{");
+        Assert.assertThrows(UncheckedIOException.class, () -> gate.evaluate("character.single", latencies(random, 100, 1.0)));
+
+        // Muestras idénticas: sin diferencia (U en la media, p-valor cercano a 0,5)
+        long[] constant = {5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5};
+        Assert.assertEquals(MannWhitney.test(constant, constant).superiority(), 0.5, 1e-9);
+    }
+
+    @Test
+    @Feature("Infraestructura")
+    @Story("Reparto en shards")
+    @Description("Verifica que el reparto por duración histórica asigna cada prueba a un único shard, equilibra la duración estimada, agrupa las clases con configuración costosa y es el mismo en todos los shards.")
+    public void testShardPlanBalancesDurations() throws IOException {
+        DurationHistory history = new DurationHistory();
+        Random random = new Random(42);
+        List<String> tests = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            String test = "pruebas.Clase" + (i % 6) + "#prueba" + i;
+            tests.add(test);
+            // Unas pocas pruebas lentas y muchas rápidas, como en la suite real
+            history.recordTest(test, i % 10 == 0 ? 3000 + random.nextInt(3000) : 50 + random.nextInt(500));
+        }
+        history.recordSetup("pruebas.Clase0", 2000);
+        tests.add("pruebas.Nueva#sinHistorial");
+
+        Path file = Files.createTempDirectory("shard-history").resolve(DurationHistory.HISTORY_FILE);
+        history.write(file);
+        ShardPlan plan = ShardPlan.of(tests, DurationHistory.read(file), 3);
+        Allure.addAttachment("Reparto en shards", plan.summary());
+
+        for (String test : tests) {
+            long shards = IntStream.range(0, 3).filter(shard -> plan.includes(test, shard)).count();
+            Assert.assertEquals(shards, 1L, test + " debe ejecutarse en un único shard");
+        }
+        long slowest = Arrays.stream(plan.estimatedMillis()).max().orElseThrow();
+        long fastest = Arrays.stream(plan.estimatedMillis()).min().orElseThrow();
+        Assert.assertTrue(slowest - fastest <= 6000, plan.summary());
+        // Repartir Clase0 costaría 2 s de configuración por shard: sus pruebas quedan juntas
+        Assert.assertEquals(tests.stream().filter(test -> test.startsWith("pruebas.Clase0#"))
+                .map(plan.assignment()::get).distinct().count(), 1L, plan.summary());
+        // Otro shard parte del mismo historial con la lista en otro orden y llega al mismo reparto
+        List<String> shuffled = new ArrayList<>(tests);
+        Collections.shuffle(shuffled, random);
+        Assert.assertEquals(ShardPlan.of(shuffled, DurationHistory.read(file), 3).assignment(), plan.assignment());
+    }
+
+    // Latencias log-normales con mediana de 100 ms multiplicada por el factor, en microsegundos
+    private static long[] latencies(Random random, int count, double factor) {
+        long[] samples = new long[count];
+        for (int i = 0; i < count; i++) {
+            samples[i] = (long) (100_000 * factor * Math.exp(0.3 * random.nextGaussian()));
+        }
+        return samples;
+    }
+}